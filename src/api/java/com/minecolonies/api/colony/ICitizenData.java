@@ -49,6 +49,20 @@ public interface ICitizenData extends ICitizen, INBTSerializable<NBTTagCompound>
      */
     void markDirty();
 
+    /**
+     * Marks the instance dirty, only the given view field groups have to be resent.
+     *
+     * @param viewGroups the changed field groups, see CitizenConstants VIEW_GROUP_*.
+     */
+    void markDirty(int viewGroups);
+
+    /**
+     * Get the view field groups changed since the last view update.
+     *
+     * @return the bit mask of the changed groups.
+     */
+    int getDirtyViewGroups();
+
     /**
      * Returns the colony of the citizen.
      *
@@ -162,6 +176,14 @@ public interface ICitizenData extends ICitizen, INBTSerializable<NBTTagCompound>
      */
     void serializeViewNetworkData(@NotNull ByteBuf buf);
 
+    /**
+     * Writes only the given field groups of the citizen data to a byte buf for transition.
+     *
+     * @param buf        Buffer to write to.
+     * @param viewGroups the field groups to write, see CitizenConstants VIEW_GROUP_*.
+     */
+    void serializeViewNetworkData(@NotNull ByteBuf buf, int viewGroups);
+
     /**
      * Sets the levels of the citizen.
      *
@@ -5,9 +5,11 @@ import com.minecolonies.api.colony.buildings.IBuildingContainer;
 import com.minecolonies.api.colony.buildings.ICitizenAssignable;
 import com.minecolonies.api.colony.buildings.ISchematicProvider;
 import com.minecolonies.api.tileentities.AbstractTileEntityColonyBuilding;
+import com.minecolonies.api.tileentities.AbstractTileEntityRack;
 import com.minecolonies.api.tileentities.AbstractTileEntityWareHouse;
 import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
 
 import java.util.List;
 import java.util.Set;
@@ -44,6 +46,14 @@ public interface IWareHouse extends ISchematicProvider, ICitizenAssignable, IBui
      */
     void upgradeContainers(World world);
 
+    /**
+     * Called by a rack of a warehouse when its content changed or it got removed.
+     * Racks which don't belong to this warehouse are ignored.
+     *
+     * @param rack the rack.
+     */
+    void onRackContentChanged(@NotNull AbstractTileEntityRack rack);
+
     /**
      * Returns the tile entity that belongs to the colony building.
      *
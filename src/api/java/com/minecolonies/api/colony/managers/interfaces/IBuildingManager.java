@@ -18,6 +18,7 @@ import org.jetbrains.annotations.Nullable;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Predicate;
 
 /**
  * Interface for building managers.
@@ -173,6 +174,42 @@ public interface IBuildingManager
      */
     BlockPos getBestRestaurant(final AbstractEntityCitizen citizen);
 
+    /**
+     * Find the building of a certain type whose hut is closest to a position.
+     * @param pos the position.
+     * @param type the type of the building.
+     * @param filter additional condition the building has to fulfill.
+     * @param <B> the type of the building.
+     * @return the building or null if there is none.
+     */
+    @Nullable
+    <B extends IBuilding> B getClosestBuilding(@NotNull final BlockPos pos, @NotNull final Class<B> type, @NotNull final Predicate<B> filter);
+
+    /**
+     * Find the buildings of a certain type whose hut is within a radius of a position.
+     * @param pos the position.
+     * @param radius the radius in blocks.
+     * @param type the type of the buildings.
+     * @param <B> the type of the buildings.
+     * @return the buildings.
+     */
+    @NotNull
+    <B extends IBuilding> List<B> getBuildingsInRadius(@NotNull final BlockPos pos, final int radius, @NotNull final Class<B> type);
+
+    /**
+     * Find the building whose structure contains a position.
+     * @param pos the position.
+     * @return the building or null if none.
+     */
+    @Nullable
+    IBuilding getBuildingContaining(@NotNull final BlockPos pos);
+
+    /**
+     * Called when the corners of a building changed, to keep the position lookups up to date.
+     * @param building the building.
+     */
+    void onBuildingCornersChanged(@NotNull final IBuilding building);
+
     /**
      * Set the townhall building.
      * @param building the building to set.
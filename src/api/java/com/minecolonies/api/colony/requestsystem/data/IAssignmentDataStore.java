@@ -4,6 +4,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Map;
 
 /**
@@ -31,4 +32,35 @@ public interface IAssignmentDataStore<K,V> extends IDataStore
     {
         return getAssignments().keySet().stream().filter(k -> getAssignments().get(k).contains(value)).findFirst().orElse(null);
     }
+
+    /**
+     * Assigns a value to a key.
+     * Implementations may keep additional indexes, so assignments should be changed through this method and {@link #unassign(Object, Object)}.
+     * @param key The key.
+     * @param value The value to assign.
+     */
+    default void assign(final K key, final V value)
+    {
+        getAssignments().computeIfAbsent(key, k -> new HashSet<>()).add(value);
+    }
+
+    /**
+     * Removes the assignment of a value to a key, removes the key when it has no values left.
+     * @param key The key.
+     * @param value The value to unassign.
+     */
+    default void unassign(final K key, final V value)
+    {
+        final Collection<V> values = getAssignments().get(key);
+        if (values == null)
+        {
+            return;
+        }
+
+        values.remove(value);
+        if (values.isEmpty())
+        {
+            getAssignments().remove(key);
+        }
+    }
 }
@@ -14,4 +14,12 @@ public interface IDataStoreManager
     void remove(IToken<?> id);
 
     void removeAll();
+
+    /**
+     * Creates a shallow copy of this manager, without the store with the given id.
+     *
+     * @param id The id of the store to exclude.
+     * @return The copy sharing all other stores with this manager.
+     */
+    IDataStoreManager copyWithout(IToken<?> id);
 }
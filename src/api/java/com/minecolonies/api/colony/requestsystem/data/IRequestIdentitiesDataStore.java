@@ -3,10 +3,41 @@ package com.minecolonies.api.colony.requestsystem.data;
 import com.minecolonies.api.colony.requestsystem.request.IRequest;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
 
+import java.util.Collection;
+import java.util.stream.Collectors;
+
 /**
  * The KV-Store for the requests and their identities.
  * Extends the {@link IIdentitiesDataStore} with {@link IToken} as key type and {@link IRequest} as value type.
  */
 public interface IRequestIdentitiesDataStore extends IIdentitiesDataStore<IToken<?>, IRequest<?>>
 {
+    /**
+     * Adds a request, replacing the request with the same token.
+     * Implementations may keep additional indexes, so requests should be added and removed through this method and {@link #removeRequest(IToken)}.
+     * @param request The request to add.
+     */
+    default void addRequest(final IRequest<?> request)
+    {
+        getIdentities().forcePut(request.getId(), request);
+    }
+
+    /**
+     * Removes a request.
+     * @param token The token of the request to remove.
+     */
+    default void removeRequest(final IToken<?> token)
+    {
+        getIdentities().remove(token);
+    }
+
+    /**
+     * Returns the requests made by a requester.
+     * @param requesterId The id of the requester.
+     * @return The requests.
+     */
+    default Collection<IRequest<?>> getRequestsOfRequester(final IToken<?> requesterId)
+    {
+        return getIdentities().values().stream().filter(request -> request.getRequester().getId().equals(requesterId)).collect(Collectors.toList());
+    }
 }
@@ -239,6 +239,19 @@ public interface IRequest<R extends IRequestable>
      */
     void addDelivery(@NotNull final ItemStack stack);
 
+    /**
+     * Returns a counter which is increased on every change of this request.
+     * Used to determine which requests need to be synced to the client.
+     *
+     * Implementations which don't count their changes are synced every time.
+     *
+     * @return The amount of changes made to this request.
+     */
+    default int getChangeCount()
+    {
+        return -1;
+    }
+
     /**
      * Method used to get a {@link ITextComponent} that can be displayed to the Player and describes the request in short.
      * Should represent the request, in case the player needs to fulfill it, or information about this request is required.
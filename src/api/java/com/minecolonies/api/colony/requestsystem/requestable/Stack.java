@@ -211,6 +211,16 @@ public class Stack implements IDeliverable
         return this;
     }
 
+    /**
+     * Check if the oredict has to be matched.
+     *
+     * @return true if so.
+     */
+    public boolean matchesOreDic()
+    {
+        return matchOreDic;
+    }
+
     @NotNull
     @Override
     public ItemStack getResult()
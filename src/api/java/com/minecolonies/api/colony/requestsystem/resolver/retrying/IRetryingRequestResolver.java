@@ -54,4 +54,9 @@ public interface IRetryingRequestResolver extends IQueuedRequestResolver<IRetrya
      */
     @Nullable
     IToken<?> getCurrentlyBeingReassignedRequest();
+
+    /**
+     * Method to retry all assigned requests in the next update, used when something changed that might let them succeed.
+     */
+    void wakeUpAll();
 }
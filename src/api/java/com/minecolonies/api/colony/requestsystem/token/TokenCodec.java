@@ -0,0 +1,228 @@
+package com.minecolonies.api.colony.requestsystem.token;
+
+import com.minecolonies.api.colony.requestsystem.factory.IFactoryController;
+import com.minecolonies.api.util.NBTUtils;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraftforge.common.util.Constants;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Compact tokens and a binary codec for lists of tokens.
+ * <p>
+ * Compact tokens are {@link StandardToken}s whose UUID holds a marker and the colony id in the most significant bits and a counter of the colony
+ * in the least significant bits, so they stay equal to and interchangeable with the random tokens of existing saves. A list of tokens is written
+ * as one byte array, with the colony id and counter of compact tokens as varints and other tokens as their full UUID, instead of one compound
+ * with the class name per token.
+ */
+public final class TokenCodec
+{
+    /**
+     * The marker in the upper half of the most significant bits of compact tokens.
+     */
+    private static final long COMPACT_MARKER = 0x4D43_5254_0000_0000L;
+    private static final long MARKER_MASK    = 0xFFFF_FFFF_0000_0000L;
+    private static final long COLONY_MASK    = 0x0000_0000_FFFF_FFFFL;
+
+    /**
+     * The kinds of encoded tokens.
+     */
+    private static final byte KIND_COMPACT = 0;
+    private static final byte KIND_UUID    = 1;
+
+    /**
+     * Bits per varint byte.
+     */
+    private static final int  VARINT_BITS = 7;
+    private static final int  VARINT_MASK = 0x7F;
+    private static final int  VARINT_MORE = 0x80;
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private TokenCodec()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Create a compact token.
+     *
+     * @param colonyId the id of the colony.
+     * @param counter  the counter of the colony, not negative.
+     * @return the token.
+     */
+    @NotNull
+    public static StandardToken createCompactToken(final int colonyId, final long counter)
+    {
+        return new StandardToken(new UUID(COMPACT_MARKER | (colonyId & COLONY_MASK), counter));
+    }
+
+    /**
+     * Check if a token is a compact token.
+     *
+     * @param token the token.
+     * @return true if so.
+     */
+    public static boolean isCompact(@NotNull final IToken<?> token)
+    {
+        return token.getIdentifier() instanceof UUID && (((UUID) token.getIdentifier()).getMostSignificantBits() & MARKER_MASK) == COMPACT_MARKER;
+    }
+
+    /**
+     * Check if all tokens can be encoded, which requires UUID identifiers.
+     *
+     * @param tokens the tokens.
+     * @return true if so.
+     */
+    public static boolean canEncode(@NotNull final Collection<? extends IToken<?>> tokens)
+    {
+        return tokens.stream().allMatch(token -> token.getIdentifier() instanceof UUID);
+    }
+
+    /**
+     * Encode tokens.
+     *
+     * @param tokens the tokens, see {@link #canEncode(Collection)}.
+     * @return the bytes.
+     */
+    @NotNull
+    public static byte[] encode(@NotNull final Collection<? extends IToken<?>> tokens)
+    {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeVarLong(out, tokens.size());
+        for (final IToken<?> token : tokens)
+        {
+            final UUID id = (UUID) token.getIdentifier();
+            if (isCompact(token))
+            {
+                out.write(KIND_COMPACT);
+                writeVarLong(out, id.getMostSignificantBits() & COLONY_MASK);
+                writeVarLong(out, id.getLeastSignificantBits());
+            }
+            else
+            {
+                out.write(KIND_UUID);
+                writeLong(out, id.getMostSignificantBits());
+                writeLong(out, id.getLeastSignificantBits());
+            }
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Decode tokens.
+     *
+     * @param data the bytes written by {@link #encode(Collection)}.
+     * @return the tokens in the order they were written.
+     */
+    @NotNull
+    public static List<IToken<?>> decode(@NotNull final byte[] data)
+    {
+        final ByteBuffer buffer = ByteBuffer.wrap(data);
+        final int size = (int) readVarLong(buffer);
+        final List<IToken<?>> tokens = new ArrayList<>(size);
+        for (int i = 0; i < size; i++)
+        {
+            if (buffer.get() == KIND_COMPACT)
+            {
+                final long colony = readVarLong(buffer);
+                tokens.add(new StandardToken(new UUID(COMPACT_MARKER | colony, readVarLong(buffer))));
+            }
+            else
+            {
+                final long msb = buffer.getLong();
+                tokens.add(new StandardToken(new UUID(msb, buffer.getLong())));
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Write tokens to a compound, encoded if possible and as a list of serialized tokens otherwise.
+     *
+     * @param controller the controller to serialize tokens which can't be encoded.
+     * @param compound   the compound.
+     * @param key        the key.
+     * @param tokens     the tokens.
+     */
+    public static void writeTokens(
+      @NotNull final IFactoryController controller,
+      @NotNull final NBTTagCompound compound,
+      @NotNull final String key,
+      @NotNull final Collection<? extends IToken<?>> tokens)
+    {
+        if (canEncode(tokens))
+        {
+            compound.setByteArray(key, encode(tokens));
+        }
+        else
+        {
+            compound.setTag(key, tokens.stream().map(controller::serialize).collect(NBTUtils.toNBTTagList()));
+        }
+    }
+
+    /**
+     * Read tokens written by {@link #writeTokens(IFactoryController, NBTTagCompound, String, Collection)}, or by the list format of older saves.
+     *
+     * @param controller the controller to deserialize tokens which weren't encoded.
+     * @param compound   the compound.
+     * @param key        the key.
+     * @return the tokens.
+     */
+    @NotNull
+    public static List<IToken<?>> readTokens(@NotNull final IFactoryController controller, @NotNull final NBTTagCompound compound, @NotNull final String key)
+    {
+        if (compound.hasKey(key, Constants.NBT.TAG_BYTE_ARRAY))
+        {
+            return decode(compound.getByteArray(key));
+        }
+
+        return NBTUtils.streamCompound(compound.getTagList(key, Constants.NBT.TAG_COMPOUND))
+                 .map(tokenCompound -> (IToken<?>) controller.deserialize(tokenCompound))
+                 .collect(Collectors.toList());
+    }
+
+    private static void writeVarLong(@NotNull final ByteArrayOutputStream out, final long value)
+    {
+        long remaining = value;
+        while ((remaining & ~VARINT_MASK) != 0)
+        {
+            out.write((int) (remaining & VARINT_MASK) | VARINT_MORE);
+            remaining >>>= VARINT_BITS;
+        }
+        out.write((int) remaining);
+    }
+
+    private static long readVarLong(@NotNull final ByteBuffer buffer)
+    {
+        long value = 0;
+        int shift = 0;
+        byte current;
+        do
+        {
+            current = buffer.get();
+            value |= (long) (current & VARINT_MASK) << shift;
+            shift += VARINT_BITS;
+        }
+        while ((current & VARINT_MORE) != 0);
+        return value;
+    }
+
+    private static void writeLong(@NotNull final ByteArrayOutputStream out, final long value)
+    {
+        for (int shift = Long.SIZE - Byte.SIZE; shift >= 0; shift -= Byte.SIZE)
+        {
+            out.write((int) (value >>> shift));
+        }
+    }
+}
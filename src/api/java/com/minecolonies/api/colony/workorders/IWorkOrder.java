@@ -40,6 +40,13 @@ public interface IWorkOrder
      */
     boolean hasChanged();
 
+    /**
+     * Checks if the saved state of the workOrder changed without the views having to be updated, and resets it.
+     *
+     * @return true if so.
+     */
+    boolean pollUnsavedChange();
+
     /**
      * Resets the changed variable.
      */
@@ -91,6 +91,21 @@ public class CompatibilityManager implements ICompatibilityManager
      */
     private final Set<ItemStorage> plantables = new HashSet<>();
 
+    /**
+     * The configured compostable items.
+     */
+    private final ConfiguredItemSet compostConfig = new ConfiguredItemSet(() -> Configurations.gameplay.listOfCompostableItems);
+
+    /**
+     * The configured plantable items.
+     */
+    private final ConfiguredItemSet plantableConfig = new ConfiguredItemSet(() -> Configurations.gameplay.listOfPlantables);
+
+    /**
+     * The configured lucky blocks.
+     */
+    private final ConfiguredItemSet luckyBlockConfig = new ConfiguredItemSet(() -> Configurations.gameplay.luckyBlocks);
+
     /**
      * List of all the items that can be used as fuel
      */
@@ -184,6 +199,9 @@ public class CompatibilityManager implements ICompatibilityManager
     public void discover()
     {
         discoverBlockList();
+        compostConfig.compile();
+        plantableConfig.compile();
+        luckyBlockConfig.compile();
 
         discoverSaplings();
         discoverOres();
@@ -234,76 +252,19 @@ public class CompatibilityManager implements ICompatibilityManager
     @Override
     public boolean isCompost(final ItemStack itemStack)
     {
-        if (itemStack.isEmpty())
-        {
-            return false;
-        }
-
-        for (final String string : Configurations.gameplay.listOfCompostableItems)
-        {
-            if (itemStack.getItem().getRegistryName().toString().equals(string))
-            {
-                return true;
-            }
-            for (final int id : OreDictionary.getOreIDs(itemStack))
-            {
-                if (OreDictionary.getOreName(id).equals(string))
-                {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return compostConfig.contains(itemStack);
     }
 
     @Override
     public boolean isPlantable(final ItemStack itemStack)
     {
-        if (itemStack.isEmpty())
-        {
-            return false;
-        }
-
-        for (final String string : Configurations.gameplay.listOfPlantables)
-        {
-            if (itemStack.getItem().getRegistryName().toString().equals(string))
-            {
-                return true;
-            }
-            for (final int id : OreDictionary.getOreIDs(itemStack))
-            {
-                if (OreDictionary.getOreName(id).equals(string))
-                {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return plantableConfig.contains(itemStack);
     }
 
     @Override
     public boolean isLuckyBlock(final ItemStack itemStack)
     {
-        if (itemStack.isEmpty())
-        {
-            return false;
-        }
-
-        for (final String string : Configurations.gameplay.luckyBlocks)
-        {
-            if (itemStack.getItem().getRegistryName().toString().equals(string))
-            {
-                return true;
-            }
-            for (final int id : OreDictionary.getOreIDs(itemStack))
-            {
-                if (OreDictionary.getOreName(id).equals(string))
-                {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return luckyBlockConfig.contains(itemStack);
     }
 
     @Override
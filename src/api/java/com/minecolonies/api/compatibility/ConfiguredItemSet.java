@@ -0,0 +1,126 @@
+package com.minecolonies.api.compatibility;
+
+import com.minecolonies.api.util.ItemStackUtils;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.ResourceLocation;
+import net.minecraftforge.oredict.OreDictionary;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * The items matching a configured list of registry and ore dictionary names.
+ * <p>
+ * The names are resolved to items once, and again when the config replaced the list, so matching a stack is a hash lookup instead of
+ * comparing every name against the registry name and ore names of the stack.
+ */
+public class ConfiguredItemSet
+{
+    /**
+     * The configured names.
+     */
+    private final Supplier<String[]> names;
+
+    /**
+     * The items resolved from the current names.
+     */
+    private volatile Compiled compiled;
+
+    /**
+     * Create a new set.
+     *
+     * @param names the configured names, read again on every lookup to notice a reload of the config.
+     */
+    public ConfiguredItemSet(@NotNull final Supplier<String[]> names)
+    {
+        this.names = names;
+    }
+
+    /**
+     * Resolve the configured names to items.
+     */
+    public void compile()
+    {
+        final String[] source = names.get();
+        final Set<Item> items = new HashSet<>();
+        final Map<Item, Set<Integer>> damages = new HashMap<>();
+
+        for (final String name : source)
+        {
+            final Item item = name.indexOf(':') < 0 ? null : Item.REGISTRY.getObject(new ResourceLocation(name));
+            if (item != null && name.equals(item.getRegistryName().toString()))
+            {
+                items.add(item);
+            }
+
+            if (OreDictionary.doesOreNameExist(name))
+            {
+                for (final ItemStack ore : OreDictionary.getOres(name, false))
+                {
+                    if (ItemStackUtils.isEmpty(ore))
+                    {
+                        continue;
+                    }
+
+                    if (ore.getItemDamage() == OreDictionary.WILDCARD_VALUE)
+                    {
+                        items.add(ore.getItem());
+                    }
+                    else
+                    {
+                        damages.computeIfAbsent(ore.getItem(), key -> new HashSet<>()).add(ore.getItemDamage());
+                    }
+                }
+            }
+        }
+
+        compiled = new Compiled(source, items, damages);
+    }
+
+    /**
+     * Check if a stack matches one of the configured names.
+     *
+     * @param stack the stack.
+     * @return true if so.
+     */
+    public boolean contains(@NotNull final ItemStack stack)
+    {
+        if (ItemStackUtils.isEmpty(stack))
+        {
+            return false;
+        }
+
+        if (compiled == null || compiled.source != names.get())
+        {
+            compile();
+        }
+
+        final Compiled current = compiled;
+        if (current.items.contains(stack.getItem()))
+        {
+            return true;
+        }
+
+        final Set<Integer> itemDamages = current.damages.get(stack.getItem());
+        return itemDamages != null && itemDamages.contains(stack.getItemDamage());
+    }
+
+    /**
+     * The items of one version of the names.
+     */
+    private static final class Compiled
+    {
+        private final String[]                source;
+        private final Set<Item>               items;
+        private final Map<Item, Set<Integer>> damages;
+
+        private Compiled(final String[] source, final Set<Item> items, final Map<Item, Set<Integer>> damages)
+        {
+            this.source = source;
+            this.items = items;
+            this.damages = damages;
+        }
+    }
+}
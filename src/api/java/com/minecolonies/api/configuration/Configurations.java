@@ -232,6 +232,9 @@ public class Configurations
         @Config.Comment("Amount of blocks the builder checks (to decrease lag by builder). [Default: 1000]")
         public int maxBlocksCheckedByBuilder = 1000;
 
+        @Config.Comment("Time in microseconds all builders and miners together may spend scanning their structures per tick, 0 to only limit by maxBlocksCheckedByBuilder. [Default: 2000]")
+        public int structureScanBudgetMicros = 2000;
+
         @Config.Comment("Chat frequency of worker requests. [Default: 30]")
         public int chatFrequency = 30;
 
@@ -641,6 +644,15 @@ public class Configurations
 
         @Config.Comment("Max amount of Nodes(positions) to map during pathfinding. Lowering increases performance, but might lead to pathing glitches. [Default: 5000]")
         public int pathfindingMaxNodes = 5000;
+
+        @Config.Comment("Max amount of queued pathfinding requests, further non-combat requests are retried later on. [Default: 500]")
+        public int pathfindingMaxQueuedJobs = 500;
+
+        @Config.Comment("Use the primitive keyed node map and indexed heap for pathfinding instead of the java collections. [Default: true]")
+        public boolean pathfindingPrimitiveSearch = true;
+
+        @Config.Comment("Amount of paths between colony blocks to keep for reuse by other citizens, 0 to disable. [Default: 1000]")
+        public int pathCacheSize = 1000;
     }
 
     public static class RequestSystem
@@ -665,5 +677,8 @@ public class Configurations
 
         @Config.Comment("Should the player be allowed to use the '/mc colony rs reset' command? [Default: false]")
         public boolean canPlayerUseResetCommand = false;
+
+        @Config.Comment("Should new requests get short numbered tokens instead of random ones? They make the saved request system smaller. [Default: true]")
+        public boolean compactRequestTokens = true;
     }
 }
@@ -7,6 +7,7 @@ import com.minecolonies.api.entity.ai.statemachine.transitions.IStateMachineOneT
 import com.minecolonies.api.entity.ai.statemachine.transitions.IStateMachineTransition;
 import com.minecolonies.api.util.Log;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -45,6 +46,12 @@ public class BasicStateMachine<T extends IStateMachineTransition<S>, S extends I
     @NotNull
     private final Consumer<RuntimeException> exceptionHandler;
 
+    /**
+     * The profiler receiving the timings of the transition checks, null if not profiled.
+     */
+    @Nullable
+    private IStateMachineProfiler<T, S> profiler;
+
     /**
      * Construct a new StateMachine
      */
@@ -114,13 +121,49 @@ public class BasicStateMachine<T extends IStateMachineTransition<S>, S extends I
      * @return true if this target worked and we should stop executing this tick
      */
     public boolean checkTransition(@NotNull final T transition)
+    {
+        if (profiler != null && profiler.shouldProfile())
+        {
+            return checkTransitionProfiled(transition, profiler);
+        }
+
+        return checkCondition(transition) && transitionToNext(transition);
+    }
+
+    /**
+     * Check the condition for a transition and report the time the condition and the action took.
+     *
+     * @param transition the target to check
+     * @param profiler   the profiler to report to
+     * @return true if this target worked and we should stop executing this tick
+     */
+    private boolean checkTransitionProfiled(@NotNull final T transition, @NotNull final IStateMachineProfiler<T, S> profiler)
+    {
+        final S stateBefore = state;
+        final long start = System.nanoTime();
+        if (!checkCondition(transition))
+        {
+            profiler.onTransitionChecked(stateBefore, transition, System.nanoTime() - start, 0);
+            return false;
+        }
+
+        final long conditionEnd = System.nanoTime();
+        final boolean result = transitionToNext(transition);
+        profiler.onTransitionChecked(stateBefore, transition, conditionEnd - start, System.nanoTime() - conditionEnd);
+        return result;
+    }
+
+    /**
+     * Check only the condition of a transition, handling exceptions.
+     *
+     * @param transition the target to check
+     * @return true if the condition is met
+     */
+    private boolean checkCondition(@NotNull final T transition)
     {
         try
         {
-            if (!transition.checkCondition())
-            {
-                return false;
-            }
+            return transition.checkCondition();
         }
         catch (final RuntimeException e)
         {
@@ -128,7 +171,6 @@ public class BasicStateMachine<T extends IStateMachineTransition<S>, S extends I
             this.onException(e);
             return false;
         }
-        return transitionToNext(transition);
     }
 
     /**
@@ -193,4 +235,10 @@ public class BasicStateMachine<T extends IStateMachineTransition<S>, S extends I
     {
         state = initState;
     }
+
+    @Override
+    public void setProfiler(@Nullable final IStateMachineProfiler<T, S> profiler)
+    {
+        this.profiler = profiler;
+    }
 }
@@ -4,6 +4,7 @@ import com.minecolonies.api.entity.ai.statemachine.states.IAIState;
 import com.minecolonies.api.entity.ai.statemachine.states.IState;
 import com.minecolonies.api.entity.ai.statemachine.transitions.IStateMachineTransition;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Statemachine interface, implement to add more statemachine types.
@@ -46,4 +47,11 @@ public interface IStateMachine<T extends IStateMachineTransition, S extends ISta
      * Reset the statemachine to the start
      */
     void reset();
+
+    /**
+     * Set the profiler which receives the timings of the transition checks.
+     *
+     * @param profiler the profiler, or null to disable profiling.
+     */
+    void setProfiler(@Nullable final IStateMachineProfiler<T, S> profiler);
 }
@@ -0,0 +1,32 @@
+package com.minecolonies.api.entity.ai.statemachine.basestatemachine;
+
+import com.minecolonies.api.entity.ai.statemachine.states.IState;
+import com.minecolonies.api.entity.ai.statemachine.transitions.IStateMachineTransition;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Receives the timings of the transitions a statemachine checks.
+ *
+ * @param <T> the type of the transitions.
+ * @param <S> the type of the states.
+ */
+public interface IStateMachineProfiler<T extends IStateMachineTransition, S extends IState>
+{
+    /**
+     * Check if the next transition check should be timed.
+     * Called before every transition check, so it has to be cheap.
+     *
+     * @return true if so.
+     */
+    boolean shouldProfile();
+
+    /**
+     * Record the timing of a transition check.
+     *
+     * @param state          the state the statemachine was in.
+     * @param transition     the checked transition.
+     * @param conditionNanos the time the condition took.
+     * @param actionNanos    the time the action took, 0 if the condition was not met.
+     */
+    void onTransitionChecked(@NotNull S state, @NotNull T transition, long conditionNanos, long actionNanos);
+}
@@ -7,6 +7,7 @@ import com.minecolonies.api.colony.IColonyManager;
 import com.minecolonies.api.configuration.Configurations;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.BlockUtils;
+import com.minecolonies.api.util.BlueprintCache;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockDoor;
 import net.minecraft.block.BlockStairs;
@@ -33,6 +34,11 @@ import java.util.function.Supplier;
  */
 public class StructureIterator
 {
+    /**
+     * The time is checked every this many blocks + 1 while scanning.
+     */
+    private static final int TIME_CHECK_MASK = 15;
+
     /**
      * The internal structure loaded.
      */
@@ -43,6 +49,19 @@ public class StructureIterator
      * the targetWorld to build the structure in.
      */
     private final World            targetWorld;
+
+    /**
+     * Counters of the scans, for the statistics.
+     */
+    private long scans        = 0;
+    private long scannedBlocks = 0;
+    private long scanNanos    = 0;
+
+    /**
+     * The positions known to match the world already, null if not tracked.
+     */
+    @Nullable
+    private VerifiedBlocks verifiedBlocks;
     private       Stage            stage;
 
     /**
@@ -119,7 +138,7 @@ public class StructureIterator
         //failsafe for faulty structure files
         try
         {
-            tempSchematic = new Structure(targetWorld, schematicFileName, new PlacementSettings());
+            tempSchematic = BlueprintCache.getStructure(targetWorld, schematicFileName, new PlacementSettings());
         }
         catch (final IllegalStateException e)
         {
@@ -187,6 +206,21 @@ public class StructureIterator
         this.stage = stage;
     }
 
+    /**
+     * Track the positions which already match the world in the given set, and skip them while building and decorating.
+     *
+     * @param verifiedBlocks the set, usually persisted with the work order.
+     */
+    public void setVerifiedBlocks(@Nullable final VerifiedBlocks verifiedBlocks)
+    {
+        this.verifiedBlocks = verifiedBlocks;
+        if (verifiedBlocks != null)
+        {
+            final BlockPos local = getLocalBlockPosition();
+            verifiedBlocks.bind(getCurrentBlockPosition().subtract(local), getWidth(), getHeight(), getLength());
+        }
+    }
+
     /**
      * Calculates the position of the block we are working on.
      *
@@ -220,22 +254,22 @@ public class StructureIterator
         switch (this.stage)
         {
             case CLEAR:
-                return advanceBlocks(this.theStructure::decrementBlock,
-                  structureBlock -> structureBlock.doesStructureBlockEqualWorldBlock()
+                return advanceBlocks(this.theStructure::decrementBlock, true,
+                  structureBlock -> isVerifiedEqual(structureBlock)
                                       || structureBlock.worldBlock == Blocks.AIR);
             case BUILD:
-                return advanceBlocks(this.theStructure::incrementBlock, structureBlock -> structureBlock.doesStructureBlockEqualWorldBlock()
+                return advanceBlocks(this.theStructure::incrementBlock, true, structureBlock -> isVerifiedEqual(structureBlock)
                                                                                          || structureBlock.block == Blocks.AIR
                                                                                          || !structureBlock.metadata.getMaterial().isSolid());
             case SPAWN:
-                return advanceBlocks(this.theStructure::decrementBlock, structureBlock ->
+                return advanceBlocks(this.theStructure::decrementBlock, false, structureBlock ->
                                                                           structureBlock.entity == null || structureBlock.entity.length <= 0);
             case DECORATE:
-                return advanceBlocks(this.theStructure::incrementBlock, structureBlock ->
-                                                                       structureBlock.doesStructureBlockEqualWorldBlock()
+                return advanceBlocks(this.theStructure::incrementBlock, true, structureBlock ->
+                                                                       isVerifiedEqual(structureBlock)
                                                                          || structureBlock.metadata.getMaterial().isSolid());
             case REMOVE:
-                return advanceBlocks(this.theStructure::decrementBlock,
+                return advanceBlocks(this.theStructure::decrementBlock, false,
                         structureBlock -> structureBlock.worldBlock == Blocks.AIR);
             default:
                 return Result.NEW_BLOCK;
@@ -243,28 +277,102 @@ public class StructureIterator
     }
 
     /**
-     * Advance many blocks until either moveOneBlock or checkIfApplies return false
-     * or if we reached the maximum of iterations in maxBlocksCheckedByBuilder.
+     * Advance many blocks until either moveOneBlock or checkIfApplies return false,
+     * or if we reached the maximum of iterations in maxBlocksCheckedByBuilder or used up our share of the {@link StructureScanBudget}.
+     * An unfinished scan continues from the current block the next time.
      *
      * @param moveOneBlock   this will be called to advance the structure one block.
+     * @param skipVerified   if verified blocks can be skipped without checking them.
      * @param checkIfApplies this will be evaluated to check if we should skip a block.
      * @return a Result enum specifying the result
      */
     @NotNull
-    private Result advanceBlocks(@NotNull final Supplier<Boolean> moveOneBlock, @NotNull final Function<StructureBlock, Boolean> checkIfApplies)
+    private Result advanceBlocks(
+      @NotNull final Supplier<Boolean> moveOneBlock,
+      final boolean skipVerified,
+      @NotNull final Function<StructureBlock, Boolean> checkIfApplies)
     {
-        for (int i = 0; i < Configurations.gameplay.maxBlocksCheckedByBuilder; i++)
+        final long budget = StructureScanBudget.startScan(targetWorld.getTotalWorldTime());
+        final long start = System.nanoTime();
+        int checked = 0;
+        try
         {
-            if (!moveOneBlock.get())
+            while (checked < Configurations.gameplay.maxBlocksCheckedByBuilder)
             {
-                return Result.AT_END;
+                checked++;
+                if (!moveOneBlock.get())
+                {
+                    return Result.AT_END;
+                }
+                if (!(skipVerified && verifiedBlocks != null && verifiedBlocks.isVerified(getLocalBlockPosition()))
+                      && !checkIfApplies.apply(getCurrentBlock()))
+                {
+                    return Result.NEW_BLOCK;
+                }
+                if ((checked & TIME_CHECK_MASK) == 0 && System.nanoTime() - start > budget)
+                {
+                    break;
+                }
             }
-            if (!checkIfApplies.apply(getCurrentBlock()))
+            return Result.CONFIG_LIMIT;
+        }
+        finally
+        {
+            final long nanos = System.nanoTime() - start;
+            StructureScanBudget.endScan(nanos);
+            scans++;
+            scannedBlocks += checked;
+            scanNanos += nanos;
+        }
+    }
+
+    /**
+     * Check if the structure block equals the world block, and remember the position if it does.
+     *
+     * @param structureBlock the block to check.
+     * @return true if they are equal.
+     */
+    private boolean isVerifiedEqual(@NotNull final StructureBlock structureBlock)
+    {
+        if (structureBlock.doesStructureBlockEqualWorldBlock())
+        {
+            if (verifiedBlocks != null)
             {
-                return Result.NEW_BLOCK;
+                verifiedBlocks.setVerified(getLocalBlockPosition());
             }
+            return true;
         }
-        return Result.CONFIG_LIMIT;
+        return false;
+    }
+
+    /**
+     * Get the amount of scans of this iterator.
+     *
+     * @return the amount.
+     */
+    public long getScans()
+    {
+        return scans;
+    }
+
+    /**
+     * Get the amount of blocks checked by the scans of this iterator.
+     *
+     * @return the amount.
+     */
+    public long getScannedBlocks()
+    {
+        return scannedBlocks;
+    }
+
+    /**
+     * Get the time the scans of this iterator took.
+     *
+     * @return the time in nanoseconds.
+     */
+    public long getScanNanos()
+    {
+        return scanNanos;
     }
 
     /**
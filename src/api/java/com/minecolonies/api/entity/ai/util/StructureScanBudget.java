@@ -0,0 +1,75 @@
+package com.minecolonies.api.entity.ai.util;
+
+import com.minecolonies.api.configuration.Configurations;
+
+/**
+ * The time all structure iterators together may spend scanning their structure per tick, see {@link Configurations.Gameplay#structureScanBudgetMicros}.
+ * <p>
+ * The budget is shared fairly: each scan gets the budget divided by the amount of scans of the previous tick, capped by what is left.
+ * Only accessed from the server thread.
+ */
+public final class StructureScanBudget
+{
+    /**
+     * The tick the counters belong to.
+     */
+    private static long currentTick = Long.MIN_VALUE;
+
+    /**
+     * The amount of scans in the current and in the previous tick.
+     */
+    private static int scansThisTick = 0;
+    private static int scansLastTick = 0;
+
+    /**
+     * The time used by the scans of the current tick.
+     */
+    private static long usedNanos = 0;
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private StructureScanBudget()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Start a scan.
+     *
+     * @param tick the current world time.
+     * @return the time the scan may take in nanoseconds, or Long.MAX_VALUE if the budget is disabled.
+     */
+    public static long startScan(final long tick)
+    {
+        if (tick != currentTick)
+        {
+            scansLastTick = scansThisTick;
+            scansThisTick = 0;
+            usedNanos = 0;
+            currentTick = tick;
+        }
+        scansThisTick++;
+
+        final long totalNanos = Configurations.gameplay.structureScanBudgetMicros * 1000L;
+        if (totalNanos <= 0)
+        {
+            return Long.MAX_VALUE;
+        }
+
+        final long fairShare = totalNanos / Math.max(1, Math.max(scansLastTick, scansThisTick));
+        return Math.max(0, Math.min(fairShare, totalNanos - usedNanos));
+    }
+
+    /**
+     * Finish a scan.
+     *
+     * @param nanos the time the scan took.
+     */
+    public static void endScan(final long nanos)
+    {
+        usedNanos += nanos;
+    }
+}
@@ -0,0 +1,206 @@
+package com.minecolonies.api.entity.ai.util;
+
+import com.minecolonies.api.util.BlockPosUtil;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.BitSet;
+
+/**
+ * The positions of a structure which are known to already match the world, one bit per block of the structure.
+ * <p>
+ * The {@link StructureIterator} sets a bit whenever it finds a block equal to the structure and skips the set positions
+ * in the stages which only look for different blocks. Block changes in the world clear the bit of their position again.
+ */
+public class VerifiedBlocks
+{
+    /**
+     * NBT Tags for storage.
+     */
+    private static final String TAG_ORIGIN = "origin";
+    private static final String TAG_WIDTH  = "width";
+    private static final String TAG_HEIGHT = "height";
+    private static final String TAG_LENGTH = "length";
+    private static final String TAG_BITS   = "bits";
+
+    /**
+     * The world position of the local position 0,0,0 of the structure, null while unbound.
+     */
+    @Nullable
+    private BlockPos origin;
+
+    /**
+     * The size of the structure.
+     */
+    private int width;
+    private int height;
+    private int length;
+
+    /**
+     * The verified positions, indexed by {@link #getIndex(int, int, int)}.
+     */
+    private BitSet bits = new BitSet();
+
+    /**
+     * If the verified positions changed since the last {@link #pollChanged()}.
+     */
+    private boolean changed = false;
+
+    /**
+     * Bind to a placed structure, forgetting all verified positions if it is not the one they belong to.
+     *
+     * @param origin the world position of the local position 0,0,0.
+     * @param width  the width of the structure.
+     * @param height the height of the structure.
+     * @param length the length of the structure.
+     */
+    public void bind(@NotNull final BlockPos origin, final int width, final int height, final int length)
+    {
+        if (!origin.equals(this.origin) || width != this.width || height != this.height || length != this.length)
+        {
+            changed |= !bits.isEmpty();
+            bits.clear();
+            this.origin = origin.toImmutable();
+            this.width = width;
+            this.height = height;
+            this.length = length;
+        }
+    }
+
+    /**
+     * Check if a position of the structure has been verified.
+     *
+     * @param local the local position.
+     * @return true if it matched the world and did not change since.
+     */
+    public boolean isVerified(@NotNull final BlockPos local)
+    {
+        final int index = getIndex(local.getX(), local.getY(), local.getZ());
+        return index >= 0 && bits.get(index);
+    }
+
+    /**
+     * Mark a position of the structure as matching the world.
+     *
+     * @param local the local position.
+     */
+    public void setVerified(@NotNull final BlockPos local)
+    {
+        final int index = getIndex(local.getX(), local.getY(), local.getZ());
+        if (index >= 0 && !bits.get(index))
+        {
+            bits.set(index);
+            changed = true;
+        }
+    }
+
+    /**
+     * Called when a block in the world changed, clears the bit of its position if it is inside of the structure.
+     *
+     * @param worldPos the world position.
+     */
+    public void invalidate(@NotNull final BlockPos worldPos)
+    {
+        if (origin == null)
+        {
+            return;
+        }
+
+        final int index = getIndex(worldPos.getX() - origin.getX(), worldPos.getY() - origin.getY(), worldPos.getZ() - origin.getZ());
+        if (index >= 0 && bits.get(index))
+        {
+            bits.clear(index);
+            changed = true;
+        }
+    }
+
+    /**
+     * Forget all verified positions.
+     */
+    public void clear()
+    {
+        changed |= !bits.isEmpty();
+        bits.clear();
+    }
+
+    /**
+     * Check if the verified positions changed since the last call, for saving.
+     *
+     * @return true if so.
+     */
+    public boolean pollChanged()
+    {
+        final boolean wasChanged = changed;
+        changed = false;
+        return wasChanged;
+    }
+
+    /**
+     * Get the amount of verified positions.
+     *
+     * @return the amount.
+     */
+    public int size()
+    {
+        return bits.cardinality();
+    }
+
+    /**
+     * Write the verified positions to NBT.
+     *
+     * @param compound the compound to write to.
+     */
+    public void writeToNBT(@NotNull final NBTTagCompound compound)
+    {
+        if (origin == null || bits.isEmpty())
+        {
+            return;
+        }
+
+        BlockPosUtil.writeToNBT(compound, TAG_ORIGIN, origin);
+        compound.setInteger(TAG_WIDTH, width);
+        compound.setInteger(TAG_HEIGHT, height);
+        compound.setInteger(TAG_LENGTH, length);
+        compound.setByteArray(TAG_BITS, bits.toByteArray());
+    }
+
+    /**
+     * Read the verified positions from NBT.
+     *
+     * @param compound the compound to read from.
+     */
+    public void readFromNBT(@NotNull final NBTTagCompound compound)
+    {
+        bits.clear();
+        if (!compound.hasKey(TAG_ORIGIN))
+        {
+            origin = null;
+            return;
+        }
+
+        origin = BlockPosUtil.readFromNBT(compound, TAG_ORIGIN);
+        width = compound.getInteger(TAG_WIDTH);
+        height = compound.getInteger(TAG_HEIGHT);
+        length = compound.getInteger(TAG_LENGTH);
+        bits = BitSet.valueOf(compound.getByteArray(TAG_BITS));
+    }
+
+    /**
+     * Calculate the bit index of a local position.
+     *
+     * @param x the local x.
+     * @param y the local y.
+     * @param z the local z.
+     * @return the index or -1 if the position is outside of the structure.
+     */
+    private int getIndex(final int x, final int y, final int z)
+    {
+        if (x < 0 || y < 0 || z < 0 || x >= width || y >= height || z >= length)
+        {
+            return -1;
+        }
+        return (y * length + z) * width + x;
+    }
+}
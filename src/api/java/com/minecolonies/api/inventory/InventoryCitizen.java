@@ -27,6 +27,7 @@ import org.jetbrains.annotations.NotNull;
 import java.util.ArrayList;
 import java.util.List;
 
+import static com.minecolonies.api.util.constant.CitizenConstants.VIEW_GROUP_INVENTORY;
 import static com.minecolonies.api.util.constant.Constants.STACKSIZE;
 
 /**
@@ -397,7 +398,7 @@ public class InventoryCitizen implements IInventory
         this.inventoryChanged = true;
         if (this.citizen != null)
         {
-            this.citizen.markDirty();
+            this.citizen.markDirty(VIEW_GROUP_INVENTORY);
         }
     }
 
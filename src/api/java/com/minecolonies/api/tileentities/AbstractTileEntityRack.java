@@ -4,6 +4,7 @@ import com.minecolonies.api.blocks.ModBlocks;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.IColonyManager;
 import com.minecolonies.api.colony.requestsystem.requestable.IDeliverable;
+import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.util.ItemStackUtils;
 import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.TileEntity;
@@ -13,6 +14,7 @@ import net.minecraftforge.items.ItemStackHandler;
 import org.jetbrains.annotations.NotNull;
 
 import javax.annotation.Nonnull;
+import java.util.Map;
 import java.util.function.Predicate;
 
 import static com.minecolonies.api.util.constant.Constants.DEFAULT_SIZE;
@@ -99,6 +101,14 @@ public abstract class AbstractTileEntityRack extends TileEntity
 
     public abstract void updateItemStorage();
 
+    /**
+     * Get the content of the rack.
+     *
+     * @return the amounts by storage.
+     */
+    @NotNull
+    public abstract Map<ItemStorage, Integer> getAllContent();
+
     protected abstract void updateBlockState();
 
     public abstract AbstractTileEntityRack getOtherChest();
@@ -1,5 +1,6 @@
 package com.minecolonies.api.tileentities;
 
+import com.minecolonies.api.colony.requestsystem.requestable.IDeliverable;
 import com.minecolonies.api.inventory.InventoryCitizen;
 import net.minecraft.item.ItemStack;
 import net.minecraft.util.ResourceLocation;
@@ -30,6 +31,23 @@ public abstract class AbstractTileEntityWareHouse extends TileEntityColonyBuildi
     @NotNull
     public abstract List<ItemStack> getMatchingItemStacksInWarehouse(@NotNull Predicate<ItemStack> itemStackSelectionPredicate);
 
+    /**
+     * Count the items matching a deliverable in the warehouse.
+     *
+     * @param deliverable the deliverable.
+     * @return the total count.
+     */
+    public abstract int getCountInWarehouse(@NotNull IDeliverable deliverable);
+
+    /**
+     * Get the stacks matching a deliverable in the warehouse.
+     *
+     * @param deliverable the deliverable.
+     * @return the matching stacks.
+     */
+    @NotNull
+    public abstract List<ItemStack> getMatchingItemStacksInWarehouse(@NotNull IDeliverable deliverable);
+
     /**
      * Dump the inventory of a citizen into the warehouse.
      * Go through all items and search the right chest to dump it in.
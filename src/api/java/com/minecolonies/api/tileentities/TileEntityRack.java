@@ -2,6 +2,9 @@ package com.minecolonies.api.tileentities;
 
 import com.minecolonies.api.blocks.AbstractBlockMinecoloniesRack;
 import com.minecolonies.api.blocks.types.RackType;
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.api.colony.buildings.workerbuildings.IWareHouse;
 import com.minecolonies.api.crafting.ItemStorage;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.ItemStackUtils;
@@ -24,6 +27,7 @@ import net.minecraftforge.items.ItemStackHandler;
 import net.minecraftforge.items.wrapper.CombinedInvWrapper;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.function.Predicate;
@@ -225,6 +229,48 @@ public class TileEntityRack extends AbstractTileEntityRack
 
         updateBlockState();
         markDirty();
+        notifyWareHouse();
+    }
+
+    @Override
+    public void invalidate()
+    {
+        super.invalidate();
+        notifyWareHouse();
+    }
+
+    /**
+     * Tell the warehouse this rack belongs to that its content changed, so it can update its index.
+     */
+    protected void notifyWareHouse()
+    {
+        if (!inWarehouse || world == null || world.isRemote)
+        {
+            return;
+        }
+
+        final IColony colony = IColonyManager.getInstance().getColonyByPosFromWorld(world, pos);
+        if (colony == null)
+        {
+            return;
+        }
+
+        for (final IWareHouse wareHouse : colony.getBuildingManager().getWareHouses())
+        {
+            wareHouse.onRackContentChanged(this);
+        }
+    }
+
+    /**
+     * Get the content of the rack.
+     *
+     * @return an unmodifiable view of the amounts by storage.
+     */
+    @NotNull
+    @Override
+    public Map<ItemStorage, Integer> getAllContent()
+    {
+        return Collections.unmodifiableMap(content);
     }
 
     /**
@@ -0,0 +1,183 @@
+package com.minecolonies.api.util;
+
+import com.ldtteam.structures.blueprints.v1.Blueprint;
+import com.ldtteam.structures.blueprints.v1.BlueprintUtil;
+import com.ldtteam.structures.helpers.Structure;
+import com.ldtteam.structurize.management.Structures;
+import com.ldtteam.structurize.util.PlacementSettings;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Caches parsed blueprints, so that a schematic is only read from disk or from the jar once.
+ * <p>
+ * The entries are keyed by the MD5 of the schematic and evicted least recently used, bounded by their count and by an estimate of their memory.
+ * A replaced schematic gets a new MD5 and with it a new entry, schematics without a MD5 are not cached as their content can't be told apart.
+ * Every call hands out a new {@link Structure} with its own copy of the blueprint, so it can be rotated and mirrored freely.
+ */
+public final class BlueprintCache
+{
+    /**
+     * The max amount of cached blueprints.
+     */
+    private static final int MAX_ENTRIES = 64;
+
+    /**
+     * The max estimated memory of all cached blueprints.
+     */
+    private static final long MAX_ESTIMATED_BYTES = 64L * 1024 * 1024;
+
+    /**
+     * The estimated memory of one block of a blueprint, including its share of the palette and tile entities.
+     */
+    private static final int ESTIMATED_BYTES_PER_BLOCK = 24;
+
+    /**
+     * The cached blueprints, in access order.
+     */
+    private static final Map<String, CachedBlueprint> CACHE = new LinkedHashMap<>(16, 0.75F, true);
+
+    /**
+     * Counters for the statistics.
+     */
+    private static long hits           = 0;
+    private static long misses         = 0;
+    private static long evictions      = 0;
+    private static long estimatedBytes = 0;
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private BlueprintCache()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Get a structure for a schematic, reading the schematic only if it isn't cached yet.
+     * Replaces {@code new Structure(world, structureName, settings)}.
+     *
+     * @param world         the world.
+     * @param structureName the name of the schematic.
+     * @param settings      the placement settings.
+     * @return a new structure with its own blueprint.
+     */
+    @NotNull
+    public static Structure getStructure(@Nullable final World world, @NotNull final String structureName, @NotNull final PlacementSettings settings)
+    {
+        final String key = Structures.getMD5(structureName);
+        if (key == null)
+        {
+            synchronized (CACHE)
+            {
+                misses++;
+            }
+            return new Structure(world, structureName, settings);
+        }
+
+        synchronized (CACHE)
+        {
+            final CachedBlueprint cached = CACHE.get(key);
+            if (cached != null)
+            {
+                hits++;
+                return new Structure(world, BlueprintUtil.readBlueprintFromNBT(cached.data), settings);
+            }
+            misses++;
+        }
+
+        final Structure structure = new Structure(world, structureName, settings);
+        final Blueprint blueprint = structure.getBluePrint();
+        if (blueprint != null)
+        {
+            // Stored before anybody can rotate the blueprint of the returned structure.
+            final long size = (long) blueprint.getBlockInfoAsList().size() * ESTIMATED_BYTES_PER_BLOCK;
+            put(key, new CachedBlueprint(BlueprintUtil.writeBlueprintToNBT(blueprint), size));
+        }
+        return structure;
+    }
+
+    /**
+     * Remove all schematics from the cache and reset the counters.
+     */
+    public static void clear()
+    {
+        synchronized (CACHE)
+        {
+            CACHE.clear();
+            hits = 0;
+            misses = 0;
+            evictions = 0;
+            estimatedBytes = 0;
+        }
+    }
+
+    /**
+     * Get a human readable summary of the statistics.
+     *
+     * @return the lines of the summary.
+     */
+    public static List<String> getStatistics()
+    {
+        synchronized (CACHE)
+        {
+            final long lookups = hits + misses;
+            final List<String> lines = new ArrayList<>();
+            lines.add("Cached blueprints: " + CACHE.size() + "/" + MAX_ENTRIES + ", about " + estimatedBytes / 1024 + "/" + MAX_ESTIMATED_BYTES / 1024 + " KB");
+            lines.add("Lookups: " + lookups + ", hits: " + hits + " (" + (lookups == 0 ? 0 : hits * 100 / lookups) + "%), evictions: " + evictions);
+            return lines;
+        }
+    }
+
+    /**
+     * Add an entry and evict the least recently used ones if the cache is too big.
+     *
+     * @param key    the key.
+     * @param cached the entry.
+     */
+    private static void put(@NotNull final String key, @NotNull final CachedBlueprint cached)
+    {
+        synchronized (CACHE)
+        {
+            final CachedBlueprint previous = CACHE.put(key, cached);
+            if (previous != null)
+            {
+                estimatedBytes -= previous.estimatedBytes;
+            }
+            estimatedBytes += cached.estimatedBytes;
+
+            final Iterator<CachedBlueprint> iterator = CACHE.values().iterator();
+            while (iterator.hasNext() && CACHE.size() > 1 && (CACHE.size() > MAX_ENTRIES || estimatedBytes > MAX_ESTIMATED_BYTES))
+            {
+                estimatedBytes -= iterator.next().estimatedBytes;
+                iterator.remove();
+                evictions++;
+            }
+        }
+    }
+
+    /**
+     * A cached blueprint, stored as its tag which is never modified.
+     */
+    private static final class CachedBlueprint
+    {
+        private final NBTTagCompound data;
+        private final long           estimatedBytes;
+
+        private CachedBlueprint(@NotNull final NBTTagCompound data, final long estimatedBytes)
+        {
+            this.data = data;
+            this.estimatedBytes = estimatedBytes;
+        }
+    }
+}
@@ -36,7 +36,7 @@ public final class InstantStructurePlacer extends com.ldtteam.structurize.util.I
      */
     public InstantStructurePlacer(final World worldObj, final String name)
     {
-        super(new Structure(worldObj, name, new PlacementSettings()));
+        super(BlueprintCache.getStructure(worldObj, name, new PlacementSettings()));
     }
 
     /**
@@ -247,4 +247,44 @@ public final class CitizenConstants
      * Chance to dump, if < this then dump else not.
      */
     public static final int CHANCE_TO_DUMP = 8;
+
+    /**
+     * View field group: name, gender, entity id, paused, child and colony.
+     */
+    public static final int VIEW_GROUP_IDENTITY = 1;
+
+    /**
+     * View field group: home building, work building and job.
+     */
+    public static final int VIEW_GROUP_ASSIGNMENTS = 1 << 1;
+
+    /**
+     * View field group: level, experience and skills.
+     */
+    public static final int VIEW_GROUP_SKILLS = 1 << 2;
+
+    /**
+     * View field group: health, saturation and happiness.
+     */
+    public static final int VIEW_GROUP_VITALS = 1 << 3;
+
+    /**
+     * View field group: the inventory.
+     */
+    public static final int VIEW_GROUP_INVENTORY = 1 << 4;
+
+    /**
+     * View field group: the last position, it is sent with every update.
+     */
+    public static final int VIEW_GROUP_POSITION = 1 << 5;
+
+    /**
+     * View field group: the visible interactions.
+     */
+    public static final int VIEW_GROUP_INTERACTIONS = 1 << 6;
+
+    /**
+     * All view field groups, used for the full citizen view.
+     */
+    public static final int VIEW_GROUP_ALL = (1 << 7) - 1;
 }
@@ -135,6 +135,11 @@ public final class ColonyConstants
     public static final int CITIZEN_LIMIT_FOR_HELP  = 20;
     public static final int BUILDING_LIMIT_FOR_HELP = 10;
 
+    /**
+     * Amount of colony serializations after which all sections are serialized again, even if they are not marked as changed.
+     */
+    public static final int FULL_SERIALIZE_INTERVAL = 10;
+
     /**
      * Private constructor to hide the implicit one.
      */
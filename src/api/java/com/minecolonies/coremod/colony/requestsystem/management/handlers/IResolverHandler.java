@@ -1,5 +1,6 @@
 package com.minecolonies.coremod.colony.requestsystem.management.handlers;
 
+import com.google.common.reflect.TypeToken;
 import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
 import com.minecolonies.api.colony.requestsystem.request.IRequest;
 import com.minecolonies.api.colony.requestsystem.requestable.IRequestable;
@@ -7,6 +8,7 @@ import com.minecolonies.api.colony.requestsystem.resolver.IRequestResolver;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.function.Predicate;
 
 public interface IResolverHandler
@@ -99,6 +101,23 @@ public interface IResolverHandler
 
     void removeResolverInternal(IRequestResolver<?> resolver);
 
+    /**
+     * Method used to get the resolvers that can be asked to resolve a request of a given type.
+     * <p>
+     * <p>
+     * Is only used internally. The list is calculated once per type and cached until the registered resolvers change.
+     * </p>
+     *
+     * @param requestType The type of the request.
+     * @return The resolvers for the type and its super types, sorted by descending priority and then by the distance of their request type.
+     */
+    List<IRequestResolver<?>> getResolverCandidates(TypeToken<?> requestType);
+
+    /**
+     * Method used to forget the cached resolver candidates, for example when the data stores got replaced.
+     */
+    void clearResolverCandidates();
+
     /**
      * Method used to remove a multiple registered resolvers.
      * <p>
@@ -13,4 +13,18 @@ public interface ITokenHandler
      * @return The new token.
      */
     IToken generateNewToken();
+
+    /**
+     * Get the counter of the next compact token.
+     *
+     * @return the counter.
+     */
+    long getNextTokenId();
+
+    /**
+     * Set the counter of the next compact token, used when the request system is loaded.
+     *
+     * @param nextTokenId the counter.
+     */
+    void setNextTokenId(long nextTokenId);
 }
@@ -18,6 +18,7 @@ import com.minecolonies.coremod.event.EventHandler;
 import com.minecolonies.coremod.event.FMLEventHandler;
 import com.minecolonies.coremod.fixers.TileEntityIdFixer;
 import com.minecolonies.coremod.network.messages.*;
+import com.minecolonies.coremod.permissions.ColonyPermissionEventDispatcher;
 import com.minecolonies.coremod.placementhandlers.MinecoloniesPlacementHandlers;
 import com.minecolonies.coremod.proxy.IProxy;
 import com.minecolonies.coremod.util.RecipeHandler;
@@ -78,6 +79,7 @@ public class MineColonies
         MinecraftForge.EVENT_BUS.register(new BarbarianSpawnEventHandler());
         MinecraftForge.EVENT_BUS.register(new EventHandler());
         MinecraftForge.EVENT_BUS.register(new FMLEventHandler());
+        MinecraftForge.EVENT_BUS.register(new ColonyPermissionEventDispatcher());
     }
 
     /**
@@ -224,6 +226,7 @@ public class MineColonies
         getNetwork().registerMessage(UpdateChunkCapabilityMessage.class, UpdateChunkCapabilityMessage.class, ++id, Side.CLIENT);
         getNetwork().registerMessage(GuardMobAttackListMessage.class, GuardMobAttackListMessage.class, ++id, Side.CLIENT);
         getNetwork().registerMessage(HappinessDataMessage.class,HappinessDataMessage.class,++id,Side.CLIENT);
+        getNetwork().registerMessage(ColonyUpdateBundleMessage.class, ColonyUpdateBundleMessage.class, ++id, Side.CLIENT);
 
         //  Permission Request messages
         getNetwork().registerMessage(PermissionsMessage.Permission.class, PermissionsMessage.Permission.class, ++id, Side.SERVER);
@@ -312,6 +315,9 @@ public class MineColonies
         //Advancement Messages
         getNetwork().registerMessage(OpenGuiWindowTriggerMessage.class, OpenGuiWindowTriggerMessage.class, ++id, Side.SERVER);
         getNetwork().registerMessage(ClickGuiButtonTriggerMessage.class, ClickGuiButtonTriggerMessage.class, ++id, Side.SERVER);
+
+        //Request system
+        getNetwork().registerMessage(RequestSystemResyncMessage.class, RequestSystemResyncMessage.class, ++id, Side.SERVER);
     }
 
     public static SimpleNetworkWrapper getNetwork()
@@ -46,8 +46,7 @@ import java.lang.ref.WeakReference;
 import java.util.*;
 import java.util.stream.Collectors;
 
-import static com.minecolonies.api.util.constant.CitizenConstants.BASE_MAX_HEALTH;
-import static com.minecolonies.api.util.constant.CitizenConstants.MAX_CITIZEN_LEVEL;
+import static com.minecolonies.api.util.constant.CitizenConstants.*;
 import static com.minecolonies.api.util.constant.NbtTagConstants.*;
 
 /**
@@ -164,6 +163,11 @@ public class CitizenData implements ICitizenData
      */
     private boolean dirty;
 
+    /**
+     * The view field groups which changed since the last view update.
+     */
+    private int dirtyViewGroups = VIEW_GROUP_ALL;
+
     /**
      * Minimum for citizen stats
      */
@@ -220,6 +224,11 @@ public class CitizenData implements ICitizenData
      */
     private final Map<ITextComponent, IInteractionResponseHandler> citizenChatOptions = new HashMap<>();
 
+    /**
+     * The amount of chat options which were visible at the last tick, to notice delayed options showing up.
+     */
+    private int visibleChatOptions = 0;
+
     /**
      * Create a CitizenData given an ID.
      * Used as a super-constructor or during loading.
@@ -241,7 +250,7 @@ public class CitizenData implements ICitizenData
         if (citizenChatOptions.containsKey(key))
         {
             citizenChatOptions.get(key).onServerResponseTriggered(response, world, this);
-            markDirty();
+            markDirty(VIEW_GROUP_INTERACTIONS);
         }
     }
 
@@ -280,6 +289,8 @@ public class CitizenData implements ICitizenData
         if (citizen != null)
         {
             entity = new WeakReference<>(citizen);
+            // The view has to learn about the new entity.
+            markDirty(VIEW_GROUP_IDENTITY);
         }
     }
 
@@ -288,11 +299,24 @@ public class CitizenData implements ICitizenData
      */
     @Override
     public void markDirty()
+    {
+        markDirty(VIEW_GROUP_ALL);
+    }
+
+    @Override
+    public void markDirty(final int viewGroups)
     {
         dirty = true;
+        dirtyViewGroups |= viewGroups;
         colony.getCitizenManager().markCitizensDirty();
     }
 
+    @Override
+    public int getDirtyViewGroups()
+    {
+        return dirtyViewGroups;
+    }
+
     /**
      * Returns a random element in a list.
      *
@@ -521,7 +545,7 @@ public class CitizenData implements ICitizenData
     {
         this.female = isFemale;
         this.name = generateName(new Random());
-        markDirty();
+        markDirty(VIEW_GROUP_IDENTITY);
     }
 
     /**
@@ -531,7 +555,7 @@ public class CitizenData implements ICitizenData
     public void setPaused(final boolean p)
     {
         this.paused = p;
-        markDirty();
+        markDirty(VIEW_GROUP_IDENTITY);
     }
 
     /**
@@ -574,6 +598,7 @@ public class CitizenData implements ICitizenData
     public void clearDirty()
     {
         dirty = false;
+        dirtyViewGroups = 0;
     }
 
     /**
@@ -620,11 +645,11 @@ public class CitizenData implements ICitizenData
         if (homeBuilding != null && building != null && !homeBuilding.equals(building))
         {
             homeBuilding.removeCitizen(this);
-            markDirty();
+            markDirty(VIEW_GROUP_ASSIGNMENTS);
         }
 
         homeBuilding = building;
-        markDirty();
+        markDirty(VIEW_GROUP_ASSIGNMENTS);
 
         if (getCitizenEntity().isPresent() && getCitizenEntity().get().getCitizenJobHandler().getColonyJob() == null)
         {
@@ -684,7 +709,7 @@ public class CitizenData implements ICitizenData
                 colony.getWorkManager().clearWorkForCitizen(this);
             }
 
-            markDirty();
+            markDirty(VIEW_GROUP_ASSIGNMENTS | VIEW_GROUP_SKILLS);
         }
     }
 
@@ -763,7 +788,7 @@ public class CitizenData implements ICitizenData
 
         getCitizenEntity().ifPresent(entityCitizen -> entityCitizen.getCitizenJobHandler().onJobChanged(job));
 
-        markDirty();
+        markDirty(VIEW_GROUP_ASSIGNMENTS | VIEW_GROUP_SKILLS);
     }
 
     /**
@@ -793,68 +818,103 @@ public class CitizenData implements ICitizenData
     @Override
     public void serializeViewNetworkData(@NotNull final ByteBuf buf)
     {
-        ByteBufUtils.writeUTF8String(buf, name);
-        buf.writeBoolean(female);
+        serializeViewNetworkData(buf, VIEW_GROUP_ALL);
+    }
 
-        buf.writeInt(getCitizenEntity().map(AbstractEntityCitizen::getEntityId).orElse(-1));
+    /**
+     * Writes the given field groups of the citizen data to a byte buf for transition.
+     * The position is always written, it changes too often to be tracked.
+     *
+     * @param buf        Buffer to write to.
+     * @param viewGroups the field groups to write.
+     */
+    @Override
+    public void serializeViewNetworkData(@NotNull final ByteBuf buf, final int viewGroups)
+    {
+        final int groups = viewGroups | VIEW_GROUP_POSITION;
+        buf.writeInt(groups);
+
+        if ((groups & VIEW_GROUP_IDENTITY) != 0)
+        {
+            ByteBufUtils.writeUTF8String(buf, name);
+            buf.writeBoolean(female);
 
-        buf.writeBoolean(paused);
+            buf.writeInt(getCitizenEntity().map(AbstractEntityCitizen::getEntityId).orElse(-1));
 
-        buf.writeBoolean(isChild);
+            buf.writeBoolean(paused);
 
-        buf.writeBoolean(homeBuilding != null);
-        if (homeBuilding != null)
-        {
-            BlockPosUtil.writeToByteBuf(buf, homeBuilding.getID());
+            buf.writeBoolean(isChild);
+
+            buf.writeInt(colony.getID());
         }
 
-        buf.writeBoolean(workBuilding != null);
-        if (workBuilding != null)
+        if ((groups & VIEW_GROUP_ASSIGNMENTS) != 0)
         {
-            BlockPosUtil.writeToByteBuf(buf, workBuilding.getID());
+            buf.writeBoolean(homeBuilding != null);
+            if (homeBuilding != null)
+            {
+                BlockPosUtil.writeToByteBuf(buf, homeBuilding.getID());
+            }
+
+            buf.writeBoolean(workBuilding != null);
+            if (workBuilding != null)
+            {
+                BlockPosUtil.writeToByteBuf(buf, workBuilding.getID());
+            }
+
+            ByteBufUtils.writeUTF8String(buf, (job != null) ? job.getName() : "");
         }
 
-        //  Attributes
-        buf.writeInt(getLevel());
-        buf.writeDouble(getExperience());
+        if ((groups & VIEW_GROUP_SKILLS) != 0)
+        {
+            buf.writeInt(getLevel());
+            buf.writeDouble(getExperience());
 
-        // If the entity is not present we assumes standard values.
-        buf.writeFloat(getCitizenEntity().map(AbstractEntityCitizen::getHealth).orElse(MAX_HEALTH));
-        buf.writeFloat(getCitizenEntity().map(AbstractEntityCitizen::getMaxHealth).orElse(MAX_HEALTH));
+            buf.writeInt(getStrength());
+            buf.writeInt(getEndurance());
+            buf.writeInt(getCharisma());
+            buf.writeInt(getIntelligence());
+            buf.writeInt(getDexterity());
+        }
 
-        buf.writeInt(getStrength());
-        buf.writeInt(getEndurance());
-        buf.writeInt(getCharisma());
-        buf.writeInt(getIntelligence());
-        buf.writeInt(getDexterity());
-        buf.writeDouble(getSaturation());
-        buf.writeDouble(citizenHappinessHandler.getHappiness());
+        if ((groups & VIEW_GROUP_VITALS) != 0)
+        {
+            // If the entity is not present we assumes standard values.
+            buf.writeFloat(getCitizenEntity().map(AbstractEntityCitizen::getHealth).orElse(MAX_HEALTH));
+            buf.writeFloat(getCitizenEntity().map(AbstractEntityCitizen::getMaxHealth).orElse(MAX_HEALTH));
 
-        citizenHappinessHandler.serializeViewNetworkData(buf);
+            buf.writeDouble(getSaturation());
+            buf.writeDouble(citizenHappinessHandler.getHappiness());
 
-        ByteBufUtils.writeUTF8String(buf, (job != null) ? job.getName() : "");
+            citizenHappinessHandler.serializeViewNetworkData(buf);
+        }
 
-        buf.writeInt(colony.getID());
+        if ((groups & VIEW_GROUP_INVENTORY) != 0)
+        {
+            final NBTTagCompound compound = new NBTTagCompound();
+            compound.setTag("inventory", inventory.writeToNBT(new NBTTagList()));
+            ByteBufUtils.writeTag(buf, compound);
+        }
 
-        final NBTTagCompound compound = new NBTTagCompound();
-        compound.setTag("inventory", inventory.writeToNBT(new NBTTagList()));
-        ByteBufUtils.writeTag(buf, compound);
         BlockPosUtil.writeToByteBuf(buf, lastPosition == null ? BlockPos.ORIGIN : lastPosition);
 
-        if (colony.getWorld() != null)
+        if ((groups & VIEW_GROUP_INTERACTIONS) != 0)
         {
-            final List<IInteractionResponseHandler> subInteractions = citizenChatOptions.values().stream().filter(e -> e.isVisible(colony.getWorld())).collect(Collectors.toList());
+            if (colony.getWorld() != null)
+            {
+                final List<IInteractionResponseHandler> subInteractions = citizenChatOptions.values().stream().filter(e -> e.isVisible(colony.getWorld())).collect(Collectors.toList());
 
-            buf.writeInt(subInteractions.size());
-            for (final IInteractionResponseHandler interactionHandler : subInteractions)
+                buf.writeInt(subInteractions.size());
+                for (final IInteractionResponseHandler interactionHandler : subInteractions)
+                {
+                    ByteBufUtils.writeTag(buf, interactionHandler.serializeNBT());
+                }
+            }
+            else
             {
-                ByteBufUtils.writeTag(buf, interactionHandler.serializeNBT());
+                buf.writeInt(0);
             }
         }
-        else
-        {
-            buf.writeInt(0);
-        }
     }
 
     /**
@@ -1258,7 +1318,7 @@ public class CitizenData implements ICitizenData
                 dexterity = Math.min(dexterity + 1, levelCap);
                 break;
         }
-        markDirty();
+        markDirty(VIEW_GROUP_SKILLS);
     }
 
     /**
@@ -1299,7 +1359,7 @@ public class CitizenData implements ICitizenData
     public void setIsChild(final boolean isChild)
     {
         this.isChild = isChild;
-        markDirty();
+        markDirty(VIEW_GROUP_IDENTITY);
 
         if (colony != null)
         {
@@ -1334,7 +1394,7 @@ public class CitizenData implements ICitizenData
         {
             this.strength = strength > colony.getOverallHappiness() ? (int) colony.getOverallHappiness() : strength;
         }
-        markDirty();
+        markDirty(VIEW_GROUP_SKILLS);
     }
 
     /**
@@ -1353,7 +1413,7 @@ public class CitizenData implements ICitizenData
         {
             this.endurance = endurance > colony.getOverallHappiness() ? (int) colony.getOverallHappiness() : endurance;
         }
-        markDirty();
+        markDirty(VIEW_GROUP_SKILLS);
     }
 
     /**
@@ -1372,7 +1432,7 @@ public class CitizenData implements ICitizenData
         {
             this.charisma = charisma > colony.getOverallHappiness() ? (int) colony.getOverallHappiness() : charisma;
         }
-        markDirty();
+        markDirty(VIEW_GROUP_SKILLS);
     }
 
     /**
@@ -1391,7 +1451,7 @@ public class CitizenData implements ICitizenData
         {
             this.intelligence = intelligence > colony.getOverallHappiness() ? (int) colony.getOverallHappiness() : intelligence;
         }
-        markDirty();
+        markDirty(VIEW_GROUP_SKILLS);
     }
 
     /**
@@ -1410,7 +1470,7 @@ public class CitizenData implements ICitizenData
         {
             this.dexterity = dexterity > colony.getOverallHappiness() ? (int) colony.getOverallHappiness() : dexterity;
         }
-        markDirty();
+        markDirty(VIEW_GROUP_SKILLS);
     }
 
     /**
@@ -1466,7 +1526,7 @@ public class CitizenData implements ICitizenData
             final int newLevel = ExperienceUtils.calculateLevel(newXp);
 
             this.levelExperienceMap.put(job.getExperienceTag(), new Tuple<>(newLevel, newXp));
-            this.markDirty();
+            this.markDirty(VIEW_GROUP_SKILLS);
             return xpDrain;
         }
         return 0;
@@ -1485,7 +1545,7 @@ public class CitizenData implements ICitizenData
             final int newLevel = ExperienceUtils.calculateLevel(newXp);
 
             this.levelExperienceMap.put(job.getExperienceTag(), new Tuple<>(newLevel, newXp));
-            this.markDirty();
+            this.markDirty(VIEW_GROUP_SKILLS);
         }
     }
 
@@ -1642,6 +1702,7 @@ public class CitizenData implements ICitizenData
         }
 
         final List<IInteractionResponseHandler> toRemove = new ArrayList<>();
+        int visible = 0;
         for (final IInteractionResponseHandler handler : citizenChatOptions.values())
         {
             try
@@ -1650,6 +1711,10 @@ public class CitizenData implements ICitizenData
                 {
                     toRemove.add(handler);
                 }
+                else if (colony.getWorld() != null && handler.isVisible(colony.getWorld()))
+                {
+                    visible++;
+                }
             }
             catch (final Exception e)
             {
@@ -1659,10 +1724,12 @@ public class CitizenData implements ICitizenData
             }
         }
 
-        if (!toRemove.isEmpty())
+        // Delayed options become visible without any change to them, so they have to be sent when they show up.
+        if (!toRemove.isEmpty() || visible != visibleChatOptions)
         {
-            markDirty();
+            markDirty(VIEW_GROUP_INTERACTIONS);
         }
+        visibleChatOptions = visible;
 
         for (final IInteractionResponseHandler handler : toRemove)
         {
@@ -1687,7 +1754,7 @@ public class CitizenData implements ICitizenData
             {
                 this.citizenChatOptions.put(childHandler.getInquiry(), (ServerCitizenInteractionResponseHandler) childHandler);
             }
-            markDirty();
+            markDirty(VIEW_GROUP_INTERACTIONS);
         }
     }
 }
@@ -6,6 +6,7 @@ import io.netty.buffer.ByteBuf;
 import net.minecraft.nbt.NBTTagCompound;
 import org.jetbrains.annotations.NotNull;
 
+import static com.minecolonies.api.util.constant.CitizenConstants.VIEW_GROUP_ALL;
 import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_ID;
 
 public class CitizenDataManager implements ICitizenDataManager
@@ -22,6 +23,13 @@ public class CitizenDataManager implements ICitizenDataManager
     @Override
     public ICitizenDataView createFromNetworkData(final int id, @NotNull final ByteBuf networkBuffer, final IColonyView colonyView)
     {
+        if (colonyView.getCitizen(id) == null && (networkBuffer.getInt(networkBuffer.readerIndex()) & VIEW_GROUP_ALL) != VIEW_GROUP_ALL)
+        {
+            // A partial update can't create a citizen, the full one follows.
+            Log.getLogger().debug(String.format("Ignoring a partial view update for the unknown citizen #%d", id));
+            return null;
+        }
+
         ICitizenDataView citizenDataView = colonyView.getCitizen(id) == null ? new CitizenDataView(id) : colonyView.getCitizen(id);
 
         try
@@ -20,6 +20,7 @@ import org.jetbrains.annotations.Nullable;
 import java.util.*;
 import java.util.stream.Collectors;
 
+import static com.minecolonies.api.util.constant.CitizenConstants.*;
 import static com.minecolonies.api.util.constant.NbtTagConstants.TAG_OFFHAND_HELD_ITEM_SLOT;
 
 /**
@@ -393,6 +394,7 @@ public class CitizenDataView implements ICitizenDataView
 
     /**
      * Deserialize the attributes and variables from transition.
+     * Only the field groups contained in the message are updated, the others keep their values.
      *
      * @param buf
      *            Byte buffer to deserialize.
@@ -400,49 +402,80 @@ public class CitizenDataView implements ICitizenDataView
     @Override
     public void deserialize(@NotNull final ByteBuf buf)
     {
-        name = ByteBufUtils.readUTF8String(buf);
-        female = buf.readBoolean();
-        entityId = buf.readInt();
-        paused = buf.readBoolean();
-        isChild = buf.readBoolean();
-
-        homeBuilding = buf.readBoolean() ? BlockPosUtil.readFromByteBuf(buf) : null;
-        workBuilding = buf.readBoolean() ? BlockPosUtil.readFromByteBuf(buf) : null;
-
-        // Attributes
-        level = buf.readInt();
-        experience = buf.readDouble();
-        health = buf.readFloat();
-        maxHealth = buf.readFloat();
-
-        strength = buf.readInt();
-        endurance = buf.readInt();
-        charisma = buf.readInt();
-        intelligence = buf.readInt();
-        dexterity = buf.readInt();
-        saturation = buf.readDouble();
-        happiness = buf.readDouble();
-
-        foodModifier = buf.readDouble();
-        damageModifier = buf.readDouble();
-        houseModifier = buf.readDouble();
-        jobModifier = buf.readDouble();
-        fieldsModifier = buf.readDouble();
-        toolsModifiers = buf.readDouble();
-
-        job = ByteBufUtils.readUTF8String(buf);
-
-        colonyId = buf.readInt();
-
-        final NBTTagCompound compound = ByteBufUtils.readTag(buf);
-        inventory = new InventoryCitizen(this.name, true);
-        final NBTTagList nbttaglist = compound.getTagList("inventory", 10);
-        this.inventory.readFromNBT(nbttaglist);
-        this.inventory.setHeldItem(EnumHand.MAIN_HAND, compound.getInteger(TAG_HELD_ITEM_SLOT));
-        this.inventory.setHeldItem(EnumHand.OFF_HAND, compound.getInteger(TAG_OFFHAND_HELD_ITEM_SLOT));
-
-        position = BlockPosUtil.readFromByteBuf(buf);
+        final int groups = buf.readInt();
 
+        if ((groups & VIEW_GROUP_IDENTITY) != 0)
+        {
+            name = ByteBufUtils.readUTF8String(buf);
+            female = buf.readBoolean();
+            entityId = buf.readInt();
+            paused = buf.readBoolean();
+            isChild = buf.readBoolean();
+            colonyId = buf.readInt();
+        }
+
+        if ((groups & VIEW_GROUP_ASSIGNMENTS) != 0)
+        {
+            homeBuilding = buf.readBoolean() ? BlockPosUtil.readFromByteBuf(buf) : null;
+            workBuilding = buf.readBoolean() ? BlockPosUtil.readFromByteBuf(buf) : null;
+            job = ByteBufUtils.readUTF8String(buf);
+        }
+
+        if ((groups & VIEW_GROUP_SKILLS) != 0)
+        {
+            level = buf.readInt();
+            experience = buf.readDouble();
+
+            strength = buf.readInt();
+            endurance = buf.readInt();
+            charisma = buf.readInt();
+            intelligence = buf.readInt();
+            dexterity = buf.readInt();
+        }
+
+        if ((groups & VIEW_GROUP_VITALS) != 0)
+        {
+            health = buf.readFloat();
+            maxHealth = buf.readFloat();
+            saturation = buf.readDouble();
+            happiness = buf.readDouble();
+
+            foodModifier = buf.readDouble();
+            damageModifier = buf.readDouble();
+            houseModifier = buf.readDouble();
+            jobModifier = buf.readDouble();
+            fieldsModifier = buf.readDouble();
+            toolsModifiers = buf.readDouble();
+        }
+
+        if ((groups & VIEW_GROUP_INVENTORY) != 0)
+        {
+            final NBTTagCompound compound = ByteBufUtils.readTag(buf);
+            inventory = new InventoryCitizen(this.name, true);
+            final NBTTagList nbttaglist = compound.getTagList("inventory", 10);
+            this.inventory.readFromNBT(nbttaglist);
+            this.inventory.setHeldItem(EnumHand.MAIN_HAND, compound.getInteger(TAG_HELD_ITEM_SLOT));
+            this.inventory.setHeldItem(EnumHand.OFF_HAND, compound.getInteger(TAG_OFFHAND_HELD_ITEM_SLOT));
+        }
+
+        if ((groups & VIEW_GROUP_POSITION) != 0)
+        {
+            position = BlockPosUtil.readFromByteBuf(buf);
+        }
+
+        if ((groups & VIEW_GROUP_INTERACTIONS) != 0)
+        {
+            deserializeInteractions(buf);
+        }
+    }
+
+    /**
+     * Read the visible interactions and update the primary interaction flags.
+     *
+     * @param buf the buffer to read from.
+     */
+    private void deserializeInteractions(@NotNull final ByteBuf buf)
+    {
         citizenChatOptions.clear();
         final int size = buf.readInt();
         for (int i = 0; i < size; i++)
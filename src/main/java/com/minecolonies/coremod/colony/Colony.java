@@ -16,6 +16,7 @@ import com.minecolonies.api.colony.workorders.IWorkManager;
 import com.minecolonies.api.configuration.Configurations;
 import com.minecolonies.api.entity.ai.statemachine.states.IState;
 import com.minecolonies.api.entity.ai.statemachine.tickratestatemachine.ITickRateStateMachine;
+import com.minecolonies.api.entity.ai.statemachine.tickratestatemachine.ITickingTransition;
 import com.minecolonies.api.entity.ai.statemachine.tickratestatemachine.TickRateStateMachine;
 import com.minecolonies.api.entity.ai.statemachine.tickratestatemachine.TickingTransition;
 import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
@@ -25,6 +26,7 @@ import com.minecolonies.api.util.LanguageHandler;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.api.util.constant.Suppression;
 import com.minecolonies.coremod.MineColonies;
+import com.minecolonies.coremod.colony.buildings.utils.WarehouseStockSnapshot;
 import com.minecolonies.coremod.colony.managers.*;
 import com.minecolonies.coremod.colony.permissions.Permissions;
 import com.minecolonies.coremod.colony.pvp.AttackingPlayer;
@@ -44,7 +46,6 @@ import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.text.TextFormatting;
 import net.minecraft.world.World;
 import net.minecraft.world.chunk.Chunk;
-import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.common.util.Constants.NBT;
 import net.minecraftforge.fml.common.gameevent.TickEvent;
 import org.jetbrains.annotations.NotNull;
@@ -204,11 +205,37 @@ public class Colony implements IColony
      */
     private IRequestManager requestManager;
 
+    /**
+     * The warehouse stock of the current tick, null until the warehouse resolvers use it.
+     */
+    @Nullable
+    private WarehouseStockSnapshot warehouseStockSnapshot;
+
     /**
      * The NBTTag compound of the colony itself.
      */
     private NBTTagCompound colonyTag;
 
+    /**
+     * The sections which changed since they got serialized last.
+     */
+    private final Set<ColonySaveSection> unsavedSections = EnumSet.allOf(ColonySaveSection.class);
+
+    /**
+     * The last serialized tag of each section.
+     */
+    private final Map<ColonySaveSection, NBTTagCompound> sectionTags = new EnumMap<>(ColonySaveSection.class);
+
+    /**
+     * Amount of serializations since all sections were serialized.
+     */
+    private int serializationsSinceFull = 0;
+
+    /**
+     * The time the last serialization of the colony took, in nanoseconds.
+     */
+    private long lastSerializeNanos = 0;
+
     /**
      * List of players visiting the colony.
      */
@@ -229,6 +256,11 @@ public class Colony implements IColony
      */
     private final ITickRateStateMachine<IState> colonyStateMachine;
 
+    /**
+     * The profiler of the colony state machine.
+     */
+    private final ColonyTickProfiler tickProfiler = new ColonyTickProfiler();
+
     /**
      * Mournign parameters.
      */
@@ -318,17 +350,42 @@ public class Colony implements IColony
 
         colonyStateMachine = new TickRateStateMachine<>(INACTIVE, e -> {});
 
-        colonyStateMachine.addTransition(new TickingTransition<>(INACTIVE, () -> true, this::updateState, UPDATE_STATE_INTERVAL));
-        colonyStateMachine.addTransition(new TickingTransition<>(UNLOADED, () -> true, this::updateState, UPDATE_STATE_INTERVAL));
-        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, () -> true, this::updateState, UPDATE_STATE_INTERVAL));
-        colonyStateMachine.addTransition(new TickingTransition(ACTIVE, () -> true, () -> { this.getCitizenManager().tickCitizenData(); return null; }, TICKS_SECOND));
+        colonyStateMachine.setProfiler(tickProfiler);
+
+        addTransition("updateState", new TickingTransition<>(INACTIVE, () -> true, this::updateState, UPDATE_STATE_INTERVAL));
+        addTransition("updateState", new TickingTransition<>(UNLOADED, () -> true, this::updateState, UPDATE_STATE_INTERVAL));
+        addTransition("updateState", new TickingTransition<>(ACTIVE, () -> true, this::updateState, UPDATE_STATE_INTERVAL));
+        addTransition("tickCitizenData", new TickingTransition<>(ACTIVE, () -> true, () -> { this.getCitizenManager().tickCitizenData(); return null; }, TICKS_SECOND));
 
-        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, this::updateSubscribers, () -> ACTIVE, UPDATE_SUBSCRIBERS_INTERVAL));
-        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, this::tickRequests, () -> ACTIVE, UPDATE_RS_INTERVAL));
-        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, this::checkDayTime, () -> ACTIVE, UPDATE_DAYTIME_INTERVAL));
-        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, this::updateWayPoints, () -> ACTIVE, CHECK_WAYPOINT_EVERY));
-        colonyStateMachine.addTransition(new TickingTransition<>(ACTIVE, this::worldTickSlow, () -> ACTIVE, MAX_TICKRATE));
-        colonyStateMachine.addTransition(new TickingTransition<>(UNLOADED, this::worldTickUnloaded, () -> UNLOADED, MAX_TICKRATE));
+        addTransition("updateSubscribers", new TickingTransition<>(ACTIVE, this::updateSubscribers, () -> ACTIVE, UPDATE_SUBSCRIBERS_INTERVAL));
+        addTransition("tickRequests", new TickingTransition<>(ACTIVE, this::tickRequests, () -> ACTIVE, UPDATE_RS_INTERVAL));
+        addTransition("checkDayTime", new TickingTransition<>(ACTIVE, this::checkDayTime, () -> ACTIVE, UPDATE_DAYTIME_INTERVAL));
+        addTransition("updateWayPoints", new TickingTransition<>(ACTIVE, this::updateWayPoints, () -> ACTIVE, CHECK_WAYPOINT_EVERY));
+        addTransition("worldTickSlow", new TickingTransition<>(ACTIVE, this::worldTickSlow, () -> ACTIVE, MAX_TICKRATE));
+        addTransition("worldTickUnloaded", new TickingTransition<>(UNLOADED, this::worldTickUnloaded, () -> UNLOADED, MAX_TICKRATE));
+    }
+
+    /**
+     * Add a transition to the colony state machine.
+     *
+     * @param name       the name the transition shows up with in the tick profiler.
+     * @param transition the transition.
+     */
+    private void addTransition(@NotNull final String name, @NotNull final ITickingTransition<IState> transition)
+    {
+        tickProfiler.setName(transition, name);
+        colonyStateMachine.addTransition(transition);
+    }
+
+    /**
+     * Get the profiler of the colony state machine.
+     *
+     * @return the profiler.
+     */
+    @NotNull
+    public ColonyTickProfiler getTickProfiler()
+    {
+        return tickProfiler;
     }
 
 
@@ -707,6 +764,8 @@ public class Colony implements IColony
         }
 
         this.colonyTag = compound;
+        this.sectionTags.clear();
+        this.unsavedSections.addAll(EnumSet.allOf(ColonySaveSection.class));
     }
 
     /**
@@ -748,13 +807,15 @@ public class Colony implements IColony
         // Permissions
         permissions.savePermissions(compound);
 
-        final NBTTagCompound buildingCompound = new NBTTagCompound();
-        buildingManager.writeToNBT(buildingCompound);
-        compound.setTag(TAG_BUILDING_MANAGER, buildingCompound);
+        if (++serializationsSinceFull >= FULL_SERIALIZE_INTERVAL)
+        {
+            // Catch changes which were not reported through markSectionDirty.
+            serializationsSinceFull = 0;
+            unsavedSections.addAll(EnumSet.allOf(ColonySaveSection.class));
+        }
 
-        final NBTTagCompound citizenCompound = new NBTTagCompound();
-        citizenManager.writeToNBT(citizenCompound);
-        compound.setTag(TAG_CITIZEN_MANAGER, citizenCompound);
+        compound.setTag(TAG_BUILDING_MANAGER, getSectionTag(ColonySaveSection.BUILDINGS));
+        compound.setTag(TAG_CITIZEN_MANAGER, getSectionTag(ColonySaveSection.CITIZENS));
 
         colonyHappinessManager.getLockedHappinessModifier().ifPresent(d -> compound.setDouble(TAG_HAPPINESS_MODIFIER, d));
 
@@ -763,9 +824,7 @@ public class Colony implements IColony
         compound.setTag(TAG_STATS_MANAGER, statsCompound);
 
         //  Workload
-        @NotNull final NBTTagCompound workManagerCompound = new NBTTagCompound();
-        workManager.writeToNBT(workManagerCompound);
-        compound.setTag(TAG_WORK, workManagerCompound);
+        compound.setTag(TAG_WORK, getSectionTag(ColonySaveSection.WORK_ORDERS));
 
         progressManager.writeToNBT(compound);
         raidManager.writeToNBT(compound);
@@ -804,7 +863,7 @@ public class Colony implements IColony
         compound.setInteger(TAG_ABANDONED, packageManager.getLastContactInHours());
         compound.setBoolean(TAG_MANUAL_HOUSING, manualHousing);
         compound.setBoolean(TAG_MOVE_IN, moveIn);
-        compound.setTag(TAG_REQUESTMANAGER, getRequestManager().serializeNBT());
+        compound.setTag(TAG_REQUESTMANAGER, getSectionTag(ColonySaveSection.REQUESTS));
         compound.setString(TAG_STYLE, style);
         compound.setBoolean(TAG_RAIDABLE, raidManager.canHaveRaiderEvents());
         compound.setBoolean(TAG_AUTO_DELETE, canColonyBeAutoDeleted);
@@ -815,6 +874,67 @@ public class Colony implements IColony
         return compound;
     }
 
+    /**
+     * Get the tag of a section, serializing it only if it changed since the last time.
+     * The returned tag is shared between the colony tags and must not be modified.
+     *
+     * @param section the section.
+     * @return the tag of the section.
+     */
+    @NotNull
+    private NBTTagCompound getSectionTag(@NotNull final ColonySaveSection section)
+    {
+        final NBTTagCompound cachedTag = sectionTags.get(section);
+        if (cachedTag != null && !unsavedSections.contains(section))
+        {
+            return cachedTag;
+        }
+
+        final NBTTagCompound sectionTag;
+        switch (section)
+        {
+            case BUILDINGS:
+                sectionTag = new NBTTagCompound();
+                buildingManager.writeToNBT(sectionTag);
+                break;
+            case CITIZENS:
+                sectionTag = new NBTTagCompound();
+                citizenManager.writeToNBT(sectionTag);
+                break;
+            case WORK_ORDERS:
+                sectionTag = new NBTTagCompound();
+                workManager.writeToNBT(sectionTag);
+                break;
+            default:
+                sectionTag = getRequestManager().serializeNBT();
+                break;
+        }
+
+        sectionTags.put(section, sectionTag);
+        unsavedSections.remove(section);
+        return sectionTag;
+    }
+
+    /**
+     * Mark a section of the colony as changed, to have it serialized again on the next save.
+     *
+     * @param section the section which changed.
+     */
+    public void markSectionDirty(@NotNull final ColonySaveSection section)
+    {
+        unsavedSections.add(section);
+    }
+
+    /**
+     * Get the time the last serialization of the colony took.
+     *
+     * @return the time in nanoseconds.
+     */
+    public long getLastSerializeNanos()
+    {
+        return lastSerializeNanos;
+    }
+
     /**
      * Returns the dimension ID.
      *
@@ -840,9 +960,8 @@ public class Colony implements IColony
     public void onWorldLoad(@NotNull final World w)
     {
         this.world = w;
-        // Register a new event handler
+        // Events are forwarded to this handler by the ColonyPermissionEventDispatcher
         eventHandler = new ColonyPermissionEventHandler(this);
-        MinecraftForge.EVENT_BUS.register(eventHandler);
     }
 
     /**
@@ -1136,6 +1255,22 @@ public class Colony implements IColony
         return requestManager;
     }
 
+    /**
+     * Get the warehouse reservations for the current tick, shared by all warehouse resolvers of this colony.
+     *
+     * @return the snapshot, a new one in every tick.
+     */
+    @NotNull
+    public WarehouseStockSnapshot getWarehouseStockSnapshot()
+    {
+        final long tick = world == null ? 0 : world.getTotalWorldTime();
+        if (warehouseStockSnapshot == null || warehouseStockSnapshot.getTick() != tick)
+        {
+            warehouseStockSnapshot = new WarehouseStockSnapshot(this, tick);
+        }
+        return warehouseStockSnapshot;
+    }
+
     @Override
     public boolean hasWillRaidTonight()
     {
@@ -1501,9 +1636,11 @@ public class Colony implements IColony
     {
         try
         {
-            if (this.colonyTag == null || this.isActive)
+            if (this.colonyTag == null || this.isActive || !this.unsavedSections.isEmpty())
             {
+                final long start = System.nanoTime();
                 this.writeToNBT(new NBTTagCompound());
+                this.lastSerializeNanos = System.nanoTime() - start;
             }
         }
         catch (final Exception e)
@@ -15,8 +15,11 @@ import com.minecolonies.api.util.LanguageHandler;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.coremod.achievements.ModAchievements;
 import com.minecolonies.coremod.colony.requestsystem.management.manager.StandardRecipeManager;
+import com.minecolonies.coremod.colony.workorders.VerifiedBlocksIndex;
+import com.minecolonies.coremod.entity.ai.basic.AIStateProfiler;
 import com.minecolonies.coremod.util.BackUpHelper;
 import com.minecolonies.coremod.util.ChunkDataHelper;
+import com.minecolonies.coremod.util.ColonySaveWriter;
 import io.netty.buffer.ByteBuf;
 import net.minecraft.client.Minecraft;
 import net.minecraft.entity.player.EntityPlayer;
@@ -28,7 +31,6 @@ import net.minecraft.world.World;
 import net.minecraft.world.WorldServerMulti;
 import net.minecraft.world.chunk.Chunk;
 import net.minecraftforge.common.DimensionManager;
-import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.common.util.Constants.NBT;
 import net.minecraftforge.fml.common.FMLCommonHandler;
 import net.minecraftforge.fml.common.gameevent.TickEvent;
@@ -56,6 +58,11 @@ public final class ColonyManager implements IColonyManager
     @NotNull
     private final Map<Integer, ColonyList<IColonyView>> colonyViews = new HashMap<>();
 
+    /**
+     * Index of the colony views by their center, by dimension.
+     */
+    private final Map<Integer, ColonySpatialIndex<IColonyView>> colonyViewIndex = new HashMap<>();
+
     /**
      * Recipemanager of this server.
      */
@@ -209,15 +216,6 @@ public final class ColonyManager implements IColonyManager
                 }
             }
 
-            try
-            {
-                MinecraftForge.EVENT_BUS.unregister(colony.getEventHandler());
-            }
-            catch (final NullPointerException e)
-            {
-                Log.getLogger().warn("Can't unregister the event handler twice");
-            }
-
             Log.getLogger().info("Deleting colony: " + colony.getID());
 
             final IColonyManagerCapability cap = world.getCapability(COLONY_MANAGER_CAP, null);
@@ -229,6 +227,7 @@ public final class ColonyManager implements IColonyManager
 
             BackUpHelper.markColonyDeleted(colony.getID(),colony.getDimension());
             cap.deleteColony(id);
+            AIStateProfiler.removeColony(id);
             Log.getLogger().info("Done with " + id);
         }
         catch (final RuntimeException e)
@@ -557,26 +556,8 @@ public final class ColonyManager implements IColonyManager
             return closestColony;
         }
 
-        @Nullable IColonyView closestColony = null;
-        long closestDist = Long.MAX_VALUE;
-
-        if (colonyViews.containsKey(w.provider.getDimension()))
-        {
-            for (@NotNull final IColonyView c : colonyViews.get(w.provider.getDimension()))
-            {
-                if (c.getDimension() == w.provider.getDimension() && c.getCenter() != null)
-                {
-                    final long dist = c.getDistanceSquared(pos);
-                    if (dist < closestDist)
-                    {
-                        closestColony = c;
-                        closestDist = dist;
-                    }
-                }
-            }
-        }
-
-        return closestColony;
+        final ColonySpatialIndex<IColonyView> index = colonyViewIndex.get(w.provider.getDimension());
+        return index == null ? null : index.getClosest(pos);
     }
 
     /**
@@ -616,23 +597,13 @@ public final class ColonyManager implements IColonyManager
             return closestColony;
         }
 
-        @Nullable IColony closestColony = null;
-        long closestDist = Long.MAX_VALUE;
-
-        for (@NotNull final IColony c : getColonies(w))
+        final IColonyManagerCapability managerCap = w.getCapability(COLONY_MANAGER_CAP, null);
+        if (managerCap == null)
         {
-            if (c.getDimension() == w.provider.getDimension())
-            {
-                final long dist = c.getDistanceSquared(pos);
-                if (dist < closestDist)
-                {
-                    closestColony = c;
-                    closestDist = dist;
-                }
-            }
+            Log.getLogger().warn(MISSING_WORLD_CAP_MESSAGE);
+            return null;
         }
-
-        return closestColony;
+        return managerCap.getClosestColony(pos);
     }
 
     /**
@@ -855,6 +826,7 @@ public final class ColonyManager implements IColonyManager
         {
             //  Player has left the game, clear the Colony View cache
             colonyViews.clear();
+            colonyViewIndex.clear();
         }
 
         if (!compatibilityManager.isDiscoveredAlready())
@@ -965,6 +937,9 @@ public final class ColonyManager implements IColonyManager
             if (loaded)
             {
                 BackUpHelper.backupColonyData();
+                // The server is stopping, the writer thread won't keep the JVM alive.
+                ColonySaveWriter.getInstance().flush();
+                VerifiedBlocksIndex.clear();
                 loaded = false;
             }
         }
@@ -997,6 +972,7 @@ public final class ColonyManager implements IColonyManager
             }
         }
         view.handleColonyViewMessage(colonyData, world, isNewSubscription);
+        colonyViewIndex.computeIfAbsent(dim, d -> new ColonySpatialIndex<>()).add(view);
     }
 
     /**
@@ -2,7 +2,9 @@ package com.minecolonies.coremod.colony;
 
 import com.minecolonies.api.colony.ICitizenData;
 import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
+import com.minecolonies.coremod.colony.workorders.VerifiedBlocksIndex;
 import com.minecolonies.coremod.entity.citizen.EntityCitizen;
+import com.minecolonies.coremod.entity.pathfinding.PathCache;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.player.EntityPlayer;
@@ -14,7 +16,7 @@ import net.minecraft.world.World;
 import org.jetbrains.annotations.NotNull;
 
 /**
- * Allows us to respond to entity addition and removal events.
+ * Allows us to respond to entity addition and removal events and to block changes.
  */
 public class ColonyManagerWorldAccess implements IWorldEventListener
 {
@@ -22,8 +24,14 @@ public class ColonyManagerWorldAccess implements IWorldEventListener
     @Override
     public void notifyBlockUpdate(@NotNull final World worldIn, @NotNull final BlockPos pos, @NotNull final IBlockState oldState, @NotNull final IBlockState newState, final int flags)
     {
-        //Not needed
+        if (worldIn.isRemote || oldState == newState)
+        {
+            return;
+        }
 
+        // Any change of the world, by players, citizens, fluids, pistons or other mods, may undo a block a builder already verified or block a cached path.
+        VerifiedBlocksIndex.invalidate(worldIn.provider.getDimension(), pos);
+        PathCache.getInstance().invalidate(worldIn.provider.getDimension(), pos);
     }
 
     @Override
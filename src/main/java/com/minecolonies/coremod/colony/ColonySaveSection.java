@@ -0,0 +1,27 @@
+package com.minecolonies.coremod.colony;
+
+/**
+ * The sections of a colony which are serialized separately and only when they changed.
+ */
+public enum ColonySaveSection
+{
+    /**
+     * The buildings and fields of the colony.
+     */
+    BUILDINGS,
+
+    /**
+     * The citizens of the colony.
+     */
+    CITIZENS,
+
+    /**
+     * The work orders of the colony.
+     */
+    WORK_ORDERS,
+
+    /**
+     * The request system of the colony.
+     */
+    REQUESTS
+}
@@ -0,0 +1,177 @@
+package com.minecolonies.coremod.colony;
+
+import com.minecolonies.api.colony.IColony;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Grid index of the colonies of one dimension by their center, for closest colony lookups.
+ *
+ * @param <T> the type of the colonies, colonies or colony views.
+ */
+public class ColonySpatialIndex<T extends IColony>
+{
+    /**
+     * Shift to get from a block coordinate to a cell coordinate, cells are 16 chunks wide.
+     */
+    private static final int CELL_SHIFT = 8;
+
+    /**
+     * Size of a cell in blocks.
+     */
+    private static final int CELL_SIZE = 1 << CELL_SHIFT;
+
+    /**
+     * The colonies by the cell of their center.
+     */
+    private final Map<Long, List<T>> coloniesByCell = new HashMap<>();
+
+    /**
+     * The center each colony got indexed with, to remove it again later on.
+     */
+    private final Map<T, BlockPos> indexedCenters = new HashMap<>();
+
+    /**
+     * Range of the cells containing colonies, to bound the closest search.
+     */
+    private int minCellX = Integer.MAX_VALUE;
+    private int maxCellX = Integer.MIN_VALUE;
+    private int minCellZ = Integer.MAX_VALUE;
+    private int maxCellZ = Integer.MIN_VALUE;
+
+    /**
+     * Add a colony to the index, or move it if its center changed.
+     *
+     * @param colony the colony.
+     */
+    public void add(@NotNull final T colony)
+    {
+        final BlockPos center = colony.getCenter();
+        if (center != null && center.equals(indexedCenters.get(colony)))
+        {
+            return;
+        }
+
+        remove(colony);
+        if (center == null)
+        {
+            return;
+        }
+
+        final int cellX = center.getX() >> CELL_SHIFT;
+        final int cellZ = center.getZ() >> CELL_SHIFT;
+        coloniesByCell.computeIfAbsent(ChunkPos.asLong(cellX, cellZ), cell -> new ArrayList<>()).add(colony);
+        indexedCenters.put(colony, center);
+        minCellX = Math.min(minCellX, cellX);
+        maxCellX = Math.max(maxCellX, cellX);
+        minCellZ = Math.min(minCellZ, cellZ);
+        maxCellZ = Math.max(maxCellZ, cellZ);
+    }
+
+    /**
+     * Remove a colony from the index.
+     *
+     * @param colony the colony.
+     */
+    public void remove(@NotNull final T colony)
+    {
+        final BlockPos center = indexedCenters.remove(colony);
+        if (center == null)
+        {
+            return;
+        }
+
+        final long cellKey = ChunkPos.asLong(center.getX() >> CELL_SHIFT, center.getZ() >> CELL_SHIFT);
+        final List<T> cell = coloniesByCell.get(cellKey);
+        if (cell != null && cell.remove(colony) && cell.isEmpty())
+        {
+            coloniesByCell.remove(cellKey);
+        }
+    }
+
+    /**
+     * Remove all colonies from the index.
+     */
+    public void clear()
+    {
+        coloniesByCell.clear();
+        indexedCenters.clear();
+        minCellX = Integer.MAX_VALUE;
+        maxCellX = Integer.MIN_VALUE;
+        minCellZ = Integer.MAX_VALUE;
+        maxCellZ = Integer.MIN_VALUE;
+    }
+
+    /**
+     * Find the colony whose center is closest to a position.
+     *
+     * @param pos the position.
+     * @return the colony or null if there is none.
+     */
+    @Nullable
+    public T getClosest(@NotNull final BlockPos pos)
+    {
+        if (indexedCenters.isEmpty())
+        {
+            return null;
+        }
+
+        final int cellX = pos.getX() >> CELL_SHIFT;
+        final int cellZ = pos.getZ() >> CELL_SHIFT;
+        final int maxRing = Math.max(Math.max(Math.abs(cellX - minCellX), Math.abs(cellX - maxCellX)), Math.max(Math.abs(cellZ - minCellZ), Math.abs(cellZ - maxCellZ)));
+
+        T closest = null;
+        long closestDistance = Long.MAX_VALUE;
+        for (int ring = 0; ring <= maxRing; ring++)
+        {
+            for (int x = cellX - ring; x <= cellX + ring; x++)
+            {
+                // Only the border of the ring, the inside has been searched already.
+                final int step = (x == cellX - ring || x == cellX + ring) ? 1 : Math.max(1, ring * 2);
+                for (int z = cellZ - ring; z <= cellZ + ring; z += step)
+                {
+                    final List<T> cell = coloniesByCell.get(ChunkPos.asLong(x, z));
+                    if (cell == null)
+                    {
+                        continue;
+                    }
+
+                    for (final T colony : cell)
+                    {
+                        final long distance = colony.getDistanceSquared(pos);
+                        if (distance < closestDistance)
+                        {
+                            closestDistance = distance;
+                            closest = colony;
+                        }
+                    }
+                }
+            }
+
+            // Everything outside of this ring is at least this far away horizontally.
+            final long ringDistance = (long) ring * CELL_SIZE;
+            if (closest != null && closestDistance <= ringDistance * ringDistance)
+            {
+                break;
+            }
+        }
+        return closest;
+    }
+
+    /**
+     * Get the amount of indexed colonies.
+     *
+     * @return the amount.
+     */
+    public int size()
+    {
+        return indexedCenters.size();
+    }
+}
@@ -0,0 +1,113 @@
+package com.minecolonies.coremod.colony;
+
+import com.minecolonies.api.entity.ai.statemachine.basestatemachine.IStateMachineProfiler;
+import com.minecolonies.api.entity.ai.statemachine.states.IState;
+import com.minecolonies.api.entity.ai.statemachine.tickratestatemachine.ITickingTransition;
+import com.minecolonies.coremod.util.TimingStatistic;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Records the time the transitions of the state machine of one colony take, by state and transition.
+ * Profiling is switched on and off for all colonies at once, when off the state machine only checks {@link #shouldProfile()}.
+ */
+public class ColonyTickProfiler implements IStateMachineProfiler<ITickingTransition<IState>, IState>
+{
+    /**
+     * Name used for transitions without a name.
+     */
+    private static final String UNNAMED = "unnamed";
+
+    /**
+     * If the colonies are being profiled.
+     */
+    private static volatile boolean enabled = false;
+
+    /**
+     * The names of the transitions.
+     */
+    private final Map<ITickingTransition<IState>, String> names = new HashMap<>();
+
+    /**
+     * The timings by state and transition name.
+     */
+    private final Map<String, TimingStatistic> timings = new LinkedHashMap<>();
+
+    /**
+     * Check if the colonies are being profiled.
+     *
+     * @return true if so.
+     */
+    public static boolean isEnabled()
+    {
+        return enabled;
+    }
+
+    /**
+     * Switch the profiling of all colonies on or off.
+     *
+     * @param enabled true to switch it on.
+     */
+    public static void setEnabled(final boolean enabled)
+    {
+        ColonyTickProfiler.enabled = enabled;
+    }
+
+    /**
+     * Set the name the timings of a transition are reported under.
+     *
+     * @param transition the transition.
+     * @param name       the name.
+     */
+    public void setName(@NotNull final ITickingTransition<IState> transition, @NotNull final String name)
+    {
+        names.put(transition, name);
+    }
+
+    @Override
+    public boolean shouldProfile()
+    {
+        return enabled;
+    }
+
+    @Override
+    public void onTransitionChecked(@NotNull final IState state, @NotNull final ITickingTransition<IState> transition, final long conditionNanos, final long actionNanos)
+    {
+        timings.computeIfAbsent(state + "/" + names.getOrDefault(transition, UNNAMED), key -> new TimingStatistic()).add(conditionNanos + actionNanos);
+    }
+
+    /**
+     * Get the recorded timings.
+     *
+     * @return the timings by state and transition name, separated by a slash.
+     */
+    @NotNull
+    public Map<String, TimingStatistic> getTimings()
+    {
+        return timings;
+    }
+
+    /**
+     * Get the sum of all recorded timings.
+     *
+     * @return the summed up statistic.
+     */
+    @NotNull
+    public TimingStatistic getTotal()
+    {
+        final TimingStatistic total = new TimingStatistic();
+        timings.values().forEach(total::add);
+        return total;
+    }
+
+    /**
+     * Drop all recorded timings.
+     */
+    public void reset()
+    {
+        timings.clear();
+    }
+}
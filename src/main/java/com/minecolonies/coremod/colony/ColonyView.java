@@ -20,9 +20,11 @@ import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.colony.buildings.views.AbstractBuildingView;
 import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingTownHall;
 import com.minecolonies.coremod.colony.permissions.PermissionsView;
+import com.minecolonies.coremod.colony.requestsystem.management.IStandardRequestManager;
 import com.minecolonies.coremod.colony.requestsystem.management.manager.StandardRequestManager;
 import com.minecolonies.coremod.colony.workorders.AbstractWorkOrder;
 import com.minecolonies.coremod.network.messages.PermissionsMessage;
+import com.minecolonies.coremod.network.messages.RequestSystemResyncMessage;
 import com.minecolonies.coremod.network.messages.TownHallRenameMessage;
 import io.netty.buffer.ByteBuf;
 import net.minecraft.block.Block;
@@ -250,17 +252,19 @@ public final class ColonyView implements IColonyView
 
         if (colony.getRequestManager() != null && (colony.getRequestManager().isDirty() || hasNewSubscribers))
         {
+            // New subscribers get a full snapshot, existing subscribers only the requests changed since the last sync.
+            final IStandardRequestManager requestManager = (IStandardRequestManager) colony.getRequestManager();
             final int preSize = buf.writerIndex();
             final int preState = buf.readerIndex();
             buf.writeBoolean(true);
-            ByteBufUtils.writeTag(buf, colony.getRequestManager().serializeNBT());
+            ByteBufUtils.writeTag(buf, hasNewSubscribers ? requestManager.serializeNBT() : requestManager.serializeSyncNBT());
             final int postSize = buf.writerIndex();
             if ((postSize - preSize) >= ColonyView.MAX_BYTES_NBTCOMPOUND)
             {
-                colony.getRequestManager().reset();
+                // Too large for a packet, the clients get an empty request system instead and the server keeps its requests.
                 buf.setIndex(preState, preSize);
                 buf.writeBoolean(true);
-                ByteBufUtils.writeTag(buf, colony.getRequestManager().serializeNBT());
+                ByteBufUtils.writeTag(buf, requestManager.serializeEmptySyncNBT());
             }
         }
         else
@@ -700,8 +704,15 @@ public final class ColonyView implements IColonyView
         if (buf.readBoolean())
         {
             final NBTTagCompound compound = ByteBufUtils.readTag(buf);
-            this.requestManager = new StandardRequestManager(this);
-            this.requestManager.deserializeNBT(compound);
+            if (!(this.requestManager instanceof IStandardRequestManager) || !((IStandardRequestManager) this.requestManager).deserializeSyncNBT(compound))
+            {
+                this.requestManager = new StandardRequestManager(this);
+                this.requestManager.deserializeNBT(compound);
+            }
+            else if (((IStandardRequestManager) this.requestManager).isOutOfSync())
+            {
+                MineColonies.getNetwork().sendToServer(new RequestSystemResyncMessage(this));
+            }
         }
 
         final int barbSpawnListSize = buf.readInt();
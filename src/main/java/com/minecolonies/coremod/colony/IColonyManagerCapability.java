@@ -71,6 +71,15 @@ public interface IColonyManagerCapability
      */
     int getTopID();
 
+    /**
+     * Get the colony whose center is closest to a position.
+     *
+     * @param pos the position.
+     * @return the colony or null if there are no colonies.
+     */
+    @Nullable
+    IColony getClosestColony(@NotNull final BlockPos pos);
+
     /**
      * The implementation of the colonyTagCapability.
      */
@@ -82,15 +91,28 @@ public interface IColonyManagerCapability
         @NotNull
         private final ColonyList<IColony> colonies = new ColonyList<>();
 
+        /**
+         * Index of the colonies by their center.
+         */
+        @NotNull
+        private final ColonySpatialIndex<IColony> colonyIndex = new ColonySpatialIndex<>();
+
         @Override
         public IColony createColony(@NotNull final World w, @NotNull final BlockPos pos)
         {
-            return colonies.create(w, pos);
+            final IColony colony = colonies.create(w, pos);
+            colonyIndex.add(colony);
+            return colony;
         }
 
         @Override
         public void deleteColony(final int id)
         {
+            final IColony colony = colonies.get(id);
+            if (colony != null)
+            {
+                colonyIndex.remove(colony);
+            }
             colonies.remove(id);
         }
 
@@ -110,6 +132,11 @@ public interface IColonyManagerCapability
         public void addColony(final IColony colony)
         {
             colonies.add(colony);
+            // The list rejects duplicate ids, only index the colony it actually holds.
+            if (colonies.get(colony.getID()) == colony)
+            {
+                colonyIndex.add(colony);
+            }
         }
 
         @Override
@@ -117,6 +144,12 @@ public interface IColonyManagerCapability
         {
             return colonies.getTopID();
         }
+
+        @Override
+        public IColony getClosestColony(@NotNull final BlockPos pos)
+        {
+            return colonyIndex.getClosest(pos);
+        }
     }
 
     /**
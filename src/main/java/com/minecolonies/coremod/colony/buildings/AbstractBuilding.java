@@ -4,8 +4,6 @@ import com.google.common.collect.ImmutableCollection;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import com.google.common.reflect.TypeToken;
-import com.ldtteam.structures.helpers.Structure;
-import com.ldtteam.structurize.util.PlacementSettings;
 import com.minecolonies.api.blocks.AbstractBlockHut;
 import com.minecolonies.api.colony.ICitizenData;
 import com.minecolonies.api.colony.IColony;
@@ -38,7 +36,7 @@ import com.minecolonies.coremod.colony.workorders.WorkOrderBuildBuilding;
 import com.minecolonies.coremod.entity.ai.citizen.builder.ConstructionTapeHelper;
 import com.minecolonies.coremod.entity.ai.citizen.deliveryman.EntityAIWorkDeliveryman;
 import com.minecolonies.coremod.util.ChunkDataHelper;
-import com.minecolonies.coremod.util.ColonyUtils;
+import com.minecolonies.coremod.util.FootprintCache;
 import io.netty.buffer.ByteBuf;
 import net.minecraft.block.Block;
 import net.minecraft.entity.player.EntityPlayer;
@@ -189,6 +187,13 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer impleme
         return getBuildingRegistryEntry().getBuildingBlock() == block;
     }
 
+    @Override
+    public void setCorners(final int x1, final int x2, final int z1, final int z2)
+    {
+        super.setCorners(x1, x2, z1, z2);
+        colony.getBuildingManager().onBuildingCornersChanged(this);
+    }
+
     @Override
     public void deserializeNBT(final NBTTagCompound compound)
     {
@@ -614,15 +619,14 @@ public abstract class AbstractBuilding extends AbstractBuildingContainer impleme
             .filter(building -> building instanceof BuildingHome).mapToInt(ISchematicProvider::getBuildingLevel).sum()
         );
         final WorkOrderBuildBuilding workOrder = new WorkOrderBuildBuilding(this, newLevel);
-        final Structure wrapper = new Structure(colony.getWorld(), workOrder.getStructureName(), new PlacementSettings());
-        final Tuple<Tuple<Integer, Integer>, Tuple<Integer, Integer>> corners
-          = ColonyUtils.calculateCorners(this.getPosition(),
-          colony.getWorld(),
-          wrapper,
-          workOrder.getRotation(colony.getWorld()),
-          workOrder.isMirrored());
-        this.setHeight(wrapper.getHeight());
-        this.setCorners(corners.getFirst().getFirst(), corners.getFirst().getSecond(), corners.getSecond().getFirst(), corners.getSecond().getSecond());
+        final FootprintCache.Footprint footprint
+          = FootprintCache.getFootprint(colony.getWorld(), workOrder.getStructureName(), workOrder.getRotation(colony.getWorld()), workOrder.isMirrored());
+        if (footprint != null)
+        {
+            final Tuple<Tuple<Integer, Integer>, Tuple<Integer, Integer>> corners = footprint.getCorners(this.getPosition());
+            this.setHeight(footprint.getHeight());
+            this.setCorners(corners.getFirst().getFirst(), corners.getFirst().getSecond(), corners.getSecond().getFirst(), corners.getSecond().getSecond());
+        }
         this.isBuilt = true;
 
         if (newLevel > getBuildingLevel())
@@ -429,6 +429,12 @@ public abstract class AbstractBuildingWorker extends AbstractBuilding implements
         {
             recipes.add(token);
             markDirty();
+
+            //Requests waiting for a retry might be craftable now.
+            if (getColony().getRequestManager() != null)
+            {
+                getColony().getRequestManager().getRetryingRequestResolver().wakeUpAll();
+            }
             return true;
         }
         return false;
@@ -0,0 +1,256 @@
+package com.minecolonies.coremod.colony.buildings.utils;
+
+import com.minecolonies.api.colony.requestsystem.requestable.IDeliverable;
+import com.minecolonies.api.colony.requestsystem.requestable.Stack;
+import com.minecolonies.api.colony.requestsystem.requestable.StackList;
+import com.minecolonies.api.crafting.ItemStorage;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Index over the content of the racks of a warehouse.
+ * <p>
+ * Keeps the total count and the containing racks per {@link ItemStorage} (item, damage and NBT), and the storages per item,
+ * so that a deliverable for a specific item only has to look at the few storages of that item instead of every slot of every rack.
+ * It is updated with the content map of a rack whenever the rack changes.
+ */
+public class WarehouseIndex
+{
+    /**
+     * The content of each indexed rack.
+     */
+    private final Map<BlockPos, Map<ItemStorage, Integer>> rackContents = new HashMap<>();
+
+    /**
+     * The total amount and the racks per storage.
+     */
+    private final Map<ItemStorage, Entry> entries = new HashMap<>();
+
+    /**
+     * The storages per item.
+     */
+    private final Map<Item, Set<ItemStorage>> storagesByItem = new HashMap<>();
+
+    /**
+     * Replace the content of a rack.
+     *
+     * @param pos     the position of the rack.
+     * @param content the new content of the rack, by storage.
+     */
+    public void updateRack(@NotNull final BlockPos pos, @NotNull final Map<ItemStorage, Integer> content)
+    {
+        removeRack(pos);
+        if (content.isEmpty())
+        {
+            return;
+        }
+
+        final Map<ItemStorage, Integer> copy = new HashMap<>(content);
+        rackContents.put(pos, copy);
+        for (final Map.Entry<ItemStorage, Integer> stored : copy.entrySet())
+        {
+            final Entry entry = entries.computeIfAbsent(stored.getKey(), storage ->
+            {
+                storagesByItem.computeIfAbsent(storage.getItemStack().getItem(), item -> new HashSet<>()).add(storage);
+                return new Entry();
+            });
+            entry.count += stored.getValue();
+            entry.racks.add(pos);
+        }
+    }
+
+    /**
+     * Remove a rack from the index.
+     *
+     * @param pos the position of the rack.
+     */
+    public void removeRack(@NotNull final BlockPos pos)
+    {
+        final Map<ItemStorage, Integer> previous = rackContents.remove(pos);
+        if (previous == null)
+        {
+            return;
+        }
+
+        for (final Map.Entry<ItemStorage, Integer> stored : previous.entrySet())
+        {
+            final Entry entry = entries.get(stored.getKey());
+            if (entry == null)
+            {
+                continue;
+            }
+
+            entry.count -= stored.getValue();
+            entry.racks.remove(pos);
+            if (entry.racks.isEmpty())
+            {
+                entries.remove(stored.getKey());
+                final Set<ItemStorage> storages = storagesByItem.get(stored.getKey().getItemStack().getItem());
+                if (storages != null)
+                {
+                    storages.remove(stored.getKey());
+                    if (storages.isEmpty())
+                    {
+                        storagesByItem.remove(stored.getKey().getItemStack().getItem());
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Forget all racks.
+     */
+    public void clear()
+    {
+        rackContents.clear();
+        entries.clear();
+        storagesByItem.clear();
+    }
+
+    /**
+     * Count the items matching a deliverable.
+     *
+     * @param deliverable the deliverable.
+     * @return the total count in the indexed racks.
+     */
+    public int getCount(@NotNull final IDeliverable deliverable)
+    {
+        return getCount(getCandidates(deliverable), deliverable::matches);
+    }
+
+    /**
+     * Count the items matching a predicate, which is tested once per storage.
+     *
+     * @param predicate the predicate.
+     * @return the total count in the indexed racks.
+     */
+    public int getCount(@NotNull final Predicate<ItemStack> predicate)
+    {
+        return getCount(entries.keySet(), predicate);
+    }
+
+    /**
+     * Get the racks containing items matching a deliverable.
+     *
+     * @param deliverable the deliverable.
+     * @return the positions of the racks.
+     */
+    @NotNull
+    public Set<BlockPos> getRacks(@NotNull final IDeliverable deliverable)
+    {
+        return getRacks(getCandidates(deliverable), deliverable::matches);
+    }
+
+    /**
+     * Get the racks containing items matching a predicate, which is tested once per storage.
+     *
+     * @param predicate the predicate.
+     * @return the positions of the racks.
+     */
+    @NotNull
+    public Set<BlockPos> getRacks(@NotNull final Predicate<ItemStack> predicate)
+    {
+        return getRacks(entries.keySet(), predicate);
+    }
+
+    /**
+     * Get the counts of the storages matching a deliverable.
+     *
+     * @param deliverable the deliverable.
+     * @return the total count per matching storage.
+     */
+    @NotNull
+    public Map<ItemStorage, Integer> getMatchingCounts(@NotNull final IDeliverable deliverable)
+    {
+        final Map<ItemStorage, Integer> counts = new HashMap<>();
+        for (final ItemStorage storage : getCandidates(deliverable))
+        {
+            if (deliverable.matches(storage.getItemStack()))
+            {
+                counts.put(storage, entries.get(storage).count);
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * Get the content of all indexed racks.
+     *
+     * @return an unmodifiable view of the content by rack.
+     */
+    @NotNull
+    public Map<BlockPos, Map<ItemStorage, Integer>> getRackContents()
+    {
+        return Collections.unmodifiableMap(rackContents);
+    }
+
+    /**
+     * Get the storages which may match a deliverable.
+     * Stacks and stack lists which don't match by ore dictionary can only match their own items, everything else has to check all storages.
+     *
+     * @param deliverable the deliverable.
+     * @return the candidates.
+     */
+    @NotNull
+    private Collection<ItemStorage> getCandidates(@NotNull final IDeliverable deliverable)
+    {
+        if (deliverable instanceof Stack && !((Stack) deliverable).matchesOreDic())
+        {
+            return storagesByItem.getOrDefault(((Stack) deliverable).getStack().getItem(), Collections.emptySet());
+        }
+
+        if (deliverable instanceof StackList && !((StackList) deliverable).matchesOreDic())
+        {
+            final Set<ItemStorage> candidates = new HashSet<>();
+            for (final ItemStack stack : ((StackList) deliverable).getStacks())
+            {
+                candidates.addAll(storagesByItem.getOrDefault(stack.getItem(), Collections.emptySet()));
+            }
+            return candidates;
+        }
+
+        return entries.keySet();
+    }
+
+    private int getCount(@NotNull final Collection<ItemStorage> candidates, @NotNull final Predicate<ItemStack> predicate)
+    {
+        int count = 0;
+        for (final ItemStorage storage : candidates)
+        {
+            if (predicate.test(storage.getItemStack()))
+            {
+                count += entries.get(storage).count;
+            }
+        }
+        return count;
+    }
+
+    @NotNull
+    private Set<BlockPos> getRacks(@NotNull final Collection<ItemStorage> candidates, @NotNull final Predicate<ItemStack> predicate)
+    {
+        final Set<BlockPos> racks = new LinkedHashSet<>();
+        for (final ItemStorage storage : candidates)
+        {
+            if (predicate.test(storage.getItemStack()))
+            {
+                racks.addAll(entries.get(storage).racks);
+            }
+        }
+        return racks;
+    }
+
+    /**
+     * The total amount and the racks of one storage.
+     */
+    private static final class Entry
+    {
+        private       int           count = 0;
+        private final Set<BlockPos> racks = new HashSet<>();
+    }
+}
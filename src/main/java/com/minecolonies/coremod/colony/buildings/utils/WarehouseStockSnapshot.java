@@ -0,0 +1,186 @@
+package com.minecolonies.coremod.colony.buildings.utils;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.buildings.IBuilding;
+import com.minecolonies.api.colony.requestsystem.requestable.IDeliverable;
+import com.minecolonies.api.colony.requestsystem.token.IToken;
+import com.minecolonies.api.crafting.ItemStorage;
+import com.minecolonies.api.util.InventoryUtils;
+import com.minecolonies.api.util.ItemStackUtils;
+import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingWareHouse;
+import net.minecraft.item.ItemStack;
+import net.minecraft.tileentity.TileEntity;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The reservations the warehouse resolvers of a colony made within one tick, on top of the live stock of the warehouses.
+ * <p>
+ * The stock is read from the indexes of the warehouses on every query, and only unindexed containers are scanned, for the queried deliverable
+ * only. The amounts reserved for each request are subtracted from it, so two requests handled in the same tick can't both be promised the
+ * same items, and a request cancelled in that tick releases its amounts again.
+ */
+public class WarehouseStockSnapshot
+{
+    /**
+     * The colony.
+     */
+    private final IColony colony;
+
+    /**
+     * The tick this snapshot belongs to.
+     */
+    private final long tick;
+
+    /**
+     * The reserved amounts per storage.
+     */
+    private final Map<ItemStorage, Integer> reserved = new HashMap<>();
+
+    /**
+     * The reserved amounts per storage of each request.
+     */
+    private final Map<IToken<?>, Map<ItemStorage, Integer>> reservations = new HashMap<>();
+
+    /**
+     * Create the snapshot for a tick.
+     *
+     * @param colony the colony.
+     * @param tick   the world time.
+     */
+    public WarehouseStockSnapshot(@NotNull final IColony colony, final long tick)
+    {
+        this.colony = colony;
+        this.tick = tick;
+    }
+
+    /**
+     * Get the tick this snapshot belongs to.
+     *
+     * @return the world time.
+     */
+    public long getTick()
+    {
+        return tick;
+    }
+
+    /**
+     * Get the amount of items matching a deliverable which isn't reserved yet.
+     *
+     * @param deliverable the deliverable.
+     * @return the amount.
+     */
+    public int getAvailable(@NotNull final IDeliverable deliverable)
+    {
+        int available = 0;
+        for (final Map.Entry<ItemStorage, Integer> entry : getMatchingCounts(deliverable).entrySet())
+        {
+            available += Math.max(0, entry.getValue() - reserved.getOrDefault(entry.getKey(), 0));
+        }
+        return available;
+    }
+
+    /**
+     * Reserve items matching a deliverable for a request, for the rest of the tick.
+     * Amounts the request reserved before in this tick are released first.
+     *
+     * @param token       the token of the request.
+     * @param deliverable the deliverable.
+     * @param amount      the amount to reserve.
+     * @return the amount which could be reserved, at most the given amount.
+     */
+    public int reserve(@NotNull final IToken<?> token, @NotNull final IDeliverable deliverable, final int amount)
+    {
+        release(token);
+
+        final Map<ItemStorage, Integer> reservation = new HashMap<>();
+        int remaining = amount;
+        for (final Map.Entry<ItemStorage, Integer> entry : getMatchingCounts(deliverable).entrySet())
+        {
+            if (remaining <= 0)
+            {
+                break;
+            }
+
+            final int alreadyReserved = reserved.getOrDefault(entry.getKey(), 0);
+            final int taken = Math.min(remaining, entry.getValue() - alreadyReserved);
+            if (taken > 0)
+            {
+                reserved.put(entry.getKey(), alreadyReserved + taken);
+                reservation.put(entry.getKey(), taken);
+                remaining -= taken;
+            }
+        }
+
+        if (!reservation.isEmpty())
+        {
+            reservations.put(token, reservation);
+        }
+        return amount - remaining;
+    }
+
+    /**
+     * Release the amounts reserved for a request in this tick.
+     *
+     * @param token the token of the request.
+     */
+    public void release(@NotNull final IToken<?> token)
+    {
+        final Map<ItemStorage, Integer> reservation = reservations.remove(token);
+        if (reservation == null)
+        {
+            return;
+        }
+
+        for (final Map.Entry<ItemStorage, Integer> entry : reservation.entrySet())
+        {
+            reserved.computeIfPresent(entry.getKey(), (storage, count) -> count > entry.getValue() ? count - entry.getValue() : null);
+        }
+    }
+
+    /**
+     * Count the items matching a deliverable in all warehouses of the colony.
+     *
+     * @param deliverable the deliverable.
+     * @return the total count per matching storage.
+     */
+    @NotNull
+    private Map<ItemStorage, Integer> getMatchingCounts(@NotNull final IDeliverable deliverable)
+    {
+        final Map<ItemStorage, Integer> counts = new HashMap<>();
+        final World world = colony.getWorld();
+        for (final IBuilding building : colony.getBuildingManager().getBuildings().values())
+        {
+            if (!(building instanceof BuildingWareHouse))
+            {
+                continue;
+            }
+
+            final BuildingWareHouse wareHouse = (BuildingWareHouse) building;
+            for (final Map.Entry<ItemStorage, Integer> entry : wareHouse.getIndex().getMatchingCounts(deliverable).entrySet())
+            {
+                counts.merge(entry.getKey(), entry.getValue(), Integer::sum);
+            }
+
+            if (world != null)
+            {
+                for (final BlockPos pos : wareHouse.getUnindexedContainers())
+                {
+                    final TileEntity entity = world.getTileEntity(pos);
+                    if (entity != null)
+                    {
+                        for (final ItemStack stack : InventoryUtils.filterProvider(entity, stack -> !ItemStackUtils.isEmpty(stack) && deliverable.matches(stack)))
+                        {
+                            counts.merge(new ItemStorage(stack.copy()), ItemStackUtils.getSize(stack), Integer::sum);
+                        }
+                    }
+                }
+            }
+        }
+        return counts;
+    }
+}
@@ -21,6 +21,7 @@ import com.minecolonies.coremod.blocks.huts.BlockHutDeliveryman;
 import com.minecolonies.coremod.client.gui.WindowHutWareHouse;
 import com.minecolonies.coremod.colony.buildings.AbstractBuilding;
 import com.minecolonies.coremod.colony.buildings.AbstractBuildingWorker;
+import com.minecolonies.coremod.colony.buildings.utils.WarehouseIndex;
 import com.minecolonies.coremod.colony.buildings.views.AbstractBuildingView;
 import com.minecolonies.coremod.colony.requestsystem.resolvers.WarehouseRequestResolver;
 import com.minecolonies.coremod.tileentities.TileEntityWareHouse;
@@ -38,6 +39,7 @@ import net.minecraft.util.math.Vec3d;
 import net.minecraft.world.World;
 import net.minecraftforge.common.util.Constants;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 
@@ -81,6 +83,17 @@ public class BuildingWareHouse extends AbstractBuilding implements IWareHouse
      */
     private int storageUpgrade = 0;
 
+    /**
+     * Index over the content of the racks, built on first use.
+     */
+    @Nullable
+    private WarehouseIndex index;
+
+    /**
+     * The containers which are no racks and therefore not in the index.
+     */
+    private final List<BlockPos> unindexedContainers = new ArrayList<>();
+
     /**
      * Instantiates a new warehouse building.
      *
@@ -194,6 +207,7 @@ public class BuildingWareHouse extends AbstractBuilding implements IWareHouse
             }
         }
         storageUpgrade = compound.getInteger(TAG_STORAGE);
+        index = null;
     }
 
     @Override
@@ -345,6 +359,92 @@ public class BuildingWareHouse extends AbstractBuilding implements IWareHouse
         return false;
     }
 
+    @Override
+    public void addContainerPosition(@NotNull final BlockPos pos)
+    {
+        super.addContainerPosition(pos);
+        index = null;
+    }
+
+    @Override
+    public void removeContainerPosition(final BlockPos pos)
+    {
+        super.removeContainerPosition(pos);
+        index = null;
+    }
+
+    @Override
+    public void onRackContentChanged(@NotNull final AbstractTileEntityRack rack)
+    {
+        if (index == null || !containerList.contains(rack.getPos()))
+        {
+            return;
+        }
+
+        if (rack.isInvalid())
+        {
+            index.removeRack(rack.getPos());
+        }
+        else
+        {
+            index.updateRack(rack.getPos(), rack.getAllContent());
+        }
+    }
+
+    /**
+     * Get the index over the content of the hut and the racks, building it if necessary.
+     *
+     * @return the index.
+     */
+    @NotNull
+    public WarehouseIndex getIndex()
+    {
+        if (index == null)
+        {
+            index = new WarehouseIndex();
+            unindexedContainers.clear();
+
+            final World world = getColony().getWorld();
+            if (world != null)
+            {
+                for (final BlockPos pos : containerList)
+                {
+                    final TileEntity entity = world.getTileEntity(pos);
+                    if (entity instanceof AbstractTileEntityRack)
+                    {
+                        // Makes sure the rack reports its changes.
+                        ((AbstractTileEntityRack) entity).setInWarehouse(true);
+                        index.updateRack(pos, ((AbstractTileEntityRack) entity).getAllContent());
+                    }
+                    else if (entity != null)
+                    {
+                        unindexedContainers.add(pos);
+                    }
+                }
+            }
+        }
+
+        // The hut itself only flags its changes, it doesn't know the building while it is being loaded.
+        final AbstractTileEntityWareHouse tileEntity = getTileEntity();
+        if (tileEntity instanceof TileEntityWareHouse && (((TileEntityWareHouse) tileEntity).pollContentChanged() || !index.getRackContents().containsKey(getPosition())))
+        {
+            index.updateRack(getPosition(), tileEntity.getAllContent());
+        }
+        return index;
+    }
+
+    /**
+     * Get the containers which are no racks and have to be searched without the index.
+     *
+     * @return the positions.
+     */
+    @NotNull
+    public List<BlockPos> getUnindexedContainers()
+    {
+        getIndex();
+        return unindexedContainers;
+    }
+
     /**
      * BuildWarehouse View.
      */
@@ -1,7 +1,5 @@
 package com.minecolonies.coremod.colony.managers;
 
-import com.ldtteam.structures.helpers.Structure;
-import com.ldtteam.structurize.util.PlacementSettings;
 import com.minecolonies.api.blocks.AbstractBlockHut;
 import com.minecolonies.api.colony.ICitizenData;
 import com.minecolonies.api.colony.IColony;
@@ -18,13 +16,15 @@ import com.minecolonies.api.util.BlockUtils;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.ColonySaveSection;
 import com.minecolonies.coremod.colony.buildings.workerbuildings.*;
 import com.minecolonies.coremod.colony.workorders.WorkOrderBuildBuilding;
 import com.minecolonies.coremod.entity.ai.citizen.builder.ConstructionTapeHelper;
+import com.minecolonies.coremod.network.ViewMulticast;
 import com.minecolonies.coremod.network.messages.ColonyViewBuildingViewMessage;
 import com.minecolonies.coremod.network.messages.ColonyViewRemoveBuildingMessage;
 import com.minecolonies.coremod.tileentities.TileEntityScarecrow;
-import com.minecolonies.coremod.util.ColonyUtils;
+import com.minecolonies.coremod.util.FootprintCache;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
@@ -38,6 +38,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.function.Predicate;
 
 import static com.minecolonies.api.util.constant.NbtTagConstants.*;
 
@@ -49,6 +50,11 @@ public class BuildingManager implements IBuildingManager
     @NotNull
     private final Map<BlockPos, IBuilding> buildings = new HashMap<>();
 
+    /**
+     * Spatial index of the buildings for position lookups.
+     */
+    private final BuildingSpatialIndex buildingIndex = new BuildingSpatialIndex();
+
     /**
      * List of fields of the colony.
      */
@@ -94,6 +100,7 @@ public class BuildingManager implements IBuildingManager
     public void readFromNBT(@NotNull final NBTTagCompound compound)
     {
         buildings.clear();
+        buildingIndex.clear();
         //  Buildings
         final NBTTagList buildingTagList = compound.getTagList(TAG_BUILDINGS, Constants.NBT.TAG_COMPOUND);
         for (int i = 0; i < buildingTagList.tagCount(); ++i)
@@ -187,6 +194,7 @@ public class BuildingManager implements IBuildingManager
     public void markBuildingsDirty()
     {
         isBuildingsDirty = true;
+        colony.markSectionDirty(ColonySaveSection.BUILDINGS);
     }
 
     @Override
@@ -346,18 +354,15 @@ public class BuildingManager implements IBuildingManager
 
                     building.setRotation(BlockUtils.getRotationFromFacing(world.getBlockState(building.getPosition()).getValue(AbstractBlockHut.FACING)));
                     final WorkOrderBuildBuilding workOrder = new WorkOrderBuildBuilding(building, 1);
-                    final Structure wrapper = new Structure(world, workOrder.getStructureName(), new PlacementSettings());
-                    final Tuple<Tuple<Integer, Integer>, Tuple<Integer, Integer>> corners
-                      = ColonyUtils.calculateCorners(building.getPosition(),
-                      world,
-                      wrapper,
-                      workOrder.getRotation(world),
-                      workOrder.isMirrored());
-
-                    building.setCorners(corners.getFirst().getFirst(), corners.getFirst().getSecond(), corners.getSecond().getFirst(), corners.getSecond().getSecond());
-                    building.setHeight(wrapper.getHeight());
-
-                    ConstructionTapeHelper.placeConstructionTape(building.getPosition(), corners, world);
+                    final FootprintCache.Footprint footprint = FootprintCache.getFootprint(world, workOrder.getStructureName(), workOrder.getRotation(world), workOrder.isMirrored());
+                    if (footprint != null)
+                    {
+                        final Tuple<Tuple<Integer, Integer>, Tuple<Integer, Integer>> corners = footprint.getCorners(building.getPosition());
+                        building.setCorners(corners.getFirst().getFirst(), corners.getFirst().getSecond(), corners.getSecond().getFirst(), corners.getSecond().getSecond());
+                        building.setHeight(footprint.getHeight());
+
+                        ConstructionTapeHelper.placeConstructionTape(building.getPosition(), corners, world);
+                    }
                 }
 
                 ConstructionTapeHelper.placeConstructionTape(building.getPosition(), building.getCorners(), world);
@@ -382,6 +387,8 @@ public class BuildingManager implements IBuildingManager
     {
         if (buildings.remove(building.getID()) != null)
         {
+            buildingIndex.remove(building);
+            colony.markSectionDirty(ColonySaveSection.BUILDINGS);
             for (final EntityPlayerMP player : subscribers)
             {
                 MineColonies.getNetwork().sendTo(new ColonyViewRemoveBuildingMessage(colony, building.getID()), player);
@@ -424,21 +431,35 @@ public class BuildingManager implements IBuildingManager
     @Override
     public BlockPos getBestRestaurant(final AbstractEntityCitizen citizen)
     {
-        double distance = Double.MAX_VALUE;
-        BlockPos goodCook = null;
-        for (final IBuilding building : citizen.getCitizenColonyHandler().getColony().getBuildingManager().getBuildings().values())
-        {
-            if (building instanceof BuildingCook && building.getBuildingLevel() > 0)
-            {
-                final double localDistance = building.getPosition().distanceSq(citizen.getPosition());
-                if (localDistance < distance)
-                {
-                    distance = localDistance;
-                    goodCook = building.getPosition();
-                }
-            }
-        }
-        return goodCook;
+        final BuildingCook goodCook = getClosestBuilding(citizen.getPosition(), BuildingCook.class, building -> building.getBuildingLevel() > 0);
+        return goodCook == null ? null : goodCook.getPosition();
+    }
+
+    @Nullable
+    @Override
+    public <B extends IBuilding> B getClosestBuilding(@NotNull final BlockPos pos, @NotNull final Class<B> type, @NotNull final Predicate<B> filter)
+    {
+        return buildingIndex.getClosest(pos, type, filter);
+    }
+
+    @NotNull
+    @Override
+    public <B extends IBuilding> List<B> getBuildingsInRadius(@NotNull final BlockPos pos, final int radius, @NotNull final Class<B> type)
+    {
+        return buildingIndex.getWithinRadius(pos, radius, type);
+    }
+
+    @Nullable
+    @Override
+    public IBuilding getBuildingContaining(@NotNull final BlockPos pos)
+    {
+        return buildingIndex.getContaining(pos);
+    }
+
+    @Override
+    public void onBuildingCornersChanged(@NotNull final IBuilding building)
+    {
+        buildingIndex.update(building);
     }
 
     @Override
@@ -465,6 +486,7 @@ public class BuildingManager implements IBuildingManager
     private void markFieldsDirty()
     {
         isFieldsDirty = true;
+        colony.markSectionDirty(ColonySaveSection.BUILDINGS);
     }
 
     /**
@@ -475,6 +497,7 @@ public class BuildingManager implements IBuildingManager
     private void addBuilding(@NotNull final IBuilding building)
     {
         buildings.put(building.getID(), building);
+        buildingIndex.add(building);
         building.markDirty();
 
         //  Limit 1 town hall
@@ -501,7 +524,8 @@ public class BuildingManager implements IBuildingManager
             {
                 if (building.isDirty() || !newSubscribers.isEmpty())
                 {
-                    players.forEach(player -> MineColonies.getNetwork().sendTo(new ColonyViewBuildingViewMessage(building), player));
+                    final ColonyViewBuildingViewMessage message = new ColonyViewBuildingViewMessage(building);
+                    ViewMulticast.send(message, message.getPayloadSize(), players);
                 }
             }
         }
@@ -519,7 +543,8 @@ public class BuildingManager implements IBuildingManager
             {
                 if (building instanceof BuildingFarmer)
                 {
-                    players.forEach(player -> MineColonies.getNetwork().sendTo(new ColonyViewBuildingViewMessage(building), player));
+                    final ColonyViewBuildingViewMessage message = new ColonyViewBuildingViewMessage(building);
+                    ViewMulticast.send(message, message.getPayloadSize(), players);
                 }
             }
         }
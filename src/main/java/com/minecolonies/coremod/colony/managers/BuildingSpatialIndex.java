@@ -0,0 +1,283 @@
+package com.minecolonies.coremod.colony.managers;
+
+import com.minecolonies.api.colony.buildings.IBuilding;
+import net.minecraft.util.Tuple;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.function.Predicate;
+
+/**
+ * Grid index of the buildings of a colony.
+ * <p>
+ * Buildings are bucketed by the cell of their hut position for distance queries, and by all cells their corners span for containment queries.
+ * Cells have the size of a chunk.
+ */
+public class BuildingSpatialIndex
+{
+    /**
+     * Shift to get from a block coordinate to a cell coordinate.
+     */
+    private static final int CELL_SHIFT = 4;
+
+    /**
+     * Size of a cell in blocks.
+     */
+    private static final int CELL_SIZE = 1 << CELL_SHIFT;
+
+    /**
+     * Buildings by the cell of their hut position.
+     */
+    private final Map<Long, List<IBuilding>> buildingsByPosition = new HashMap<>();
+
+    /**
+     * Buildings by the cells their corners span.
+     */
+    private final Map<Long, List<IBuilding>> buildingsByArea = new HashMap<>();
+
+    /**
+     * The indexed corners (minX, maxX, minZ, maxZ) of each building, to remove them again later on.
+     */
+    private final Map<IBuilding, int[]> indexedBounds = new HashMap<>();
+
+    /**
+     * Range of the cells containing hut positions, to bound nearest searches.
+     */
+    private int minCellX = Integer.MAX_VALUE;
+    private int maxCellX = Integer.MIN_VALUE;
+    private int minCellZ = Integer.MAX_VALUE;
+    private int maxCellZ = Integer.MIN_VALUE;
+
+    /**
+     * Add a building to the index, or update its bounds if already indexed.
+     *
+     * @param building the building.
+     */
+    public void add(@NotNull final IBuilding building)
+    {
+        remove(building);
+
+        final BlockPos pos = building.getPosition();
+        final int cellX = pos.getX() >> CELL_SHIFT;
+        final int cellZ = pos.getZ() >> CELL_SHIFT;
+        buildingsByPosition.computeIfAbsent(ChunkPos.asLong(cellX, cellZ), cell -> new ArrayList<>()).add(building);
+        minCellX = Math.min(minCellX, cellX);
+        maxCellX = Math.max(maxCellX, cellX);
+        minCellZ = Math.min(minCellZ, cellZ);
+        maxCellZ = Math.max(maxCellZ, cellZ);
+
+        final int[] bounds = getBounds(building);
+        indexedBounds.put(building, bounds);
+        for (int x = bounds[0] >> CELL_SHIFT; x <= bounds[1] >> CELL_SHIFT; x++)
+        {
+            for (int z = bounds[2] >> CELL_SHIFT; z <= bounds[3] >> CELL_SHIFT; z++)
+            {
+                buildingsByArea.computeIfAbsent(ChunkPos.asLong(x, z), cell -> new ArrayList<>()).add(building);
+            }
+        }
+    }
+
+    /**
+     * Update the bounds of a building after its corners changed, does nothing if the building is not indexed.
+     *
+     * @param building the building.
+     */
+    public void update(@NotNull final IBuilding building)
+    {
+        if (indexedBounds.containsKey(building))
+        {
+            add(building);
+        }
+    }
+
+    /**
+     * Remove a building from the index.
+     *
+     * @param building the building.
+     */
+    public void remove(@NotNull final IBuilding building)
+    {
+        final int[] bounds = indexedBounds.remove(building);
+        if (bounds == null)
+        {
+            return;
+        }
+
+        final BlockPos pos = building.getPosition();
+        removeFromCell(buildingsByPosition, ChunkPos.asLong(pos.getX() >> CELL_SHIFT, pos.getZ() >> CELL_SHIFT), building);
+        for (int x = bounds[0] >> CELL_SHIFT; x <= bounds[1] >> CELL_SHIFT; x++)
+        {
+            for (int z = bounds[2] >> CELL_SHIFT; z <= bounds[3] >> CELL_SHIFT; z++)
+            {
+                removeFromCell(buildingsByArea, ChunkPos.asLong(x, z), building);
+            }
+        }
+    }
+
+    /**
+     * Remove all buildings from the index.
+     */
+    public void clear()
+    {
+        buildingsByPosition.clear();
+        buildingsByArea.clear();
+        indexedBounds.clear();
+        minCellX = Integer.MAX_VALUE;
+        maxCellX = Integer.MIN_VALUE;
+        minCellZ = Integer.MAX_VALUE;
+        maxCellZ = Integer.MIN_VALUE;
+    }
+
+    /**
+     * Find the building of a certain type whose hut is closest to a position.
+     *
+     * @param pos    the position.
+     * @param type   the type of the building.
+     * @param filter additional condition the building has to fulfill.
+     * @param <B>    the type of the building.
+     * @return the closest building or null if there is none.
+     */
+    @Nullable
+    public <B extends IBuilding> B getClosest(@NotNull final BlockPos pos, @NotNull final Class<B> type, @NotNull final Predicate<B> filter)
+    {
+        if (indexedBounds.isEmpty())
+        {
+            return null;
+        }
+
+        final int cellX = pos.getX() >> CELL_SHIFT;
+        final int cellZ = pos.getZ() >> CELL_SHIFT;
+        final int maxRing = Math.max(Math.max(Math.abs(cellX - minCellX), Math.abs(cellX - maxCellX)), Math.max(Math.abs(cellZ - minCellZ), Math.abs(cellZ - maxCellZ)));
+
+        B closest = null;
+        double closestDistance = Double.MAX_VALUE;
+        for (int ring = 0; ring <= maxRing; ring++)
+        {
+            for (int x = cellX - ring; x <= cellX + ring; x++)
+            {
+                // Only the border of the ring, the inside has been searched already.
+                final int step = (x == cellX - ring || x == cellX + ring) ? 1 : Math.max(1, ring * 2);
+                for (int z = cellZ - ring; z <= cellZ + ring; z += step)
+                {
+                    final List<IBuilding> cell = buildingsByPosition.get(ChunkPos.asLong(x, z));
+                    if (cell == null)
+                    {
+                        continue;
+                    }
+
+                    for (final IBuilding building : cell)
+                    {
+                        if (type.isInstance(building) && filter.test(type.cast(building)))
+                        {
+                            final double distance = building.getPosition().distanceSq(pos);
+                            if (distance < closestDistance)
+                            {
+                                closestDistance = distance;
+                                closest = type.cast(building);
+                            }
+                        }
+                    }
+                }
+            }
+
+            // Everything outside of this ring is at least this far away horizontally.
+            final double ringDistance = (double) ring * CELL_SIZE;
+            if (closest != null && closestDistance <= ringDistance * ringDistance)
+            {
+                break;
+            }
+        }
+        return closest;
+    }
+
+    /**
+     * Find the buildings of a certain type whose hut is within a radius of a position.
+     *
+     * @param pos    the position.
+     * @param radius the radius in blocks.
+     * @param type   the type of the buildings.
+     * @param <B>    the type of the buildings.
+     * @return the buildings, in no particular order.
+     */
+    @NotNull
+    public <B extends IBuilding> List<B> getWithinRadius(@NotNull final BlockPos pos, final int radius, @NotNull final Class<B> type)
+    {
+        final List<B> result = new ArrayList<>();
+        final double radiusSq = (double) radius * radius;
+        for (int x = (pos.getX() - radius) >> CELL_SHIFT; x <= (pos.getX() + radius) >> CELL_SHIFT; x++)
+        {
+            for (int z = (pos.getZ() - radius) >> CELL_SHIFT; z <= (pos.getZ() + radius) >> CELL_SHIFT; z++)
+            {
+                final List<IBuilding> cell = buildingsByPosition.get(ChunkPos.asLong(x, z));
+                if (cell == null)
+                {
+                    continue;
+                }
+
+                for (final IBuilding building : cell)
+                {
+                    if (type.isInstance(building) && building.getPosition().distanceSq(pos) <= radiusSq)
+                    {
+                        result.add(type.cast(building));
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Find the building whose corners contain a position.
+     * Only the inside of the corners counts, the corners themselves lie one block outside of the structure.
+     *
+     * @param pos the position.
+     * @return the building or null if the position is not inside of any building.
+     */
+    @Nullable
+    public IBuilding getContaining(@NotNull final BlockPos pos)
+    {
+        final List<IBuilding> cell = buildingsByArea.get(ChunkPos.asLong(pos.getX() >> CELL_SHIFT, pos.getZ() >> CELL_SHIFT));
+        if (cell == null)
+        {
+            return null;
+        }
+
+        for (final IBuilding building : cell)
+        {
+            final int[] bounds = indexedBounds.get(building);
+            if (pos.getX() > bounds[0] && pos.getX() < bounds[1] && pos.getZ() > bounds[2] && pos.getZ() < bounds[3])
+            {
+                return building;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Get the corners of a building as min and max values.
+     *
+     * @param building the building.
+     * @return minX, maxX, minZ and maxZ.
+     */
+    private static int[] getBounds(@NotNull final IBuilding building)
+    {
+        final Tuple<Tuple<Integer, Integer>, Tuple<Integer, Integer>> corners = building.getCorners();
+        final int x1 = corners.getFirst().getFirst();
+        final int x2 = corners.getFirst().getSecond();
+        final int z1 = corners.getSecond().getFirst();
+        final int z2 = corners.getSecond().getSecond();
+        return new int[] {Math.min(x1, x2), Math.max(x1, x2), Math.min(z1, z2), Math.max(z1, z2)};
+    }
+
+    private static void removeFromCell(@NotNull final Map<Long, List<IBuilding>> cells, final long cellKey, @NotNull final IBuilding building)
+    {
+        final List<IBuilding> cell = cells.get(cellKey);
+        if (cell != null && cell.remove(building) && cell.isEmpty())
+        {
+            cells.remove(cellKey);
+        }
+    }
+}
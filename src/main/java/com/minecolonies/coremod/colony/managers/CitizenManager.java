@@ -14,10 +14,12 @@ import com.minecolonies.api.util.NBTUtils;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.colony.CitizenData;
 import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.ColonySaveSection;
 import com.minecolonies.coremod.colony.buildings.AbstractBuildingGuards;
 import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingHome;
 import com.minecolonies.coremod.colony.jobs.AbstractJobGuard;
 import com.minecolonies.coremod.entity.citizen.EntityCitizen;
+import com.minecolonies.coremod.network.ViewMulticast;
 import com.minecolonies.coremod.network.messages.ColonyViewCitizenViewMessage;
 import com.minecolonies.coremod.network.messages.ColonyViewRemoveCitizenMessage;
 import com.minecolonies.coremod.network.messages.HappinessDataMessage;
@@ -53,6 +55,11 @@ public class CitizenManager implements ICitizenManager
      */
     private boolean isCitizensDirty = false;
 
+    /**
+     * The ids of the citizens the existing subscribers have a full view of, with the entity present.
+     */
+    private final Set<Integer> viewSyncedCitizens = new HashSet<>();
+
     /**
      * The highest citizen id.
      */
@@ -129,17 +136,39 @@ public class CitizenManager implements ICitizenManager
         if (isCitizensDirty || !newSubscribers.isEmpty())
         {
             final Set<EntityPlayerMP> players = isCitizensDirty ? closeSubscribers : newSubscribers;
+            final Set<EntityPlayerMP> existingPlayers = new HashSet<>(closeSubscribers);
+            existingPlayers.removeAll(newSubscribers);
+
             for (@NotNull final ICitizenData citizen : citizens.values())
             {
-                if (citizen.getCitizenEntity().isPresent())
+                // Citizens without an entity are not sent, their changes stay dirty until the entity is back.
+                if (!citizen.getCitizenEntity().isPresent())
                 {
-                    if (citizen.isDirty() || !newSubscribers.isEmpty())
-                    {
-                        players.forEach(player -> MineColonies.getNetwork().sendTo(new ColonyViewCitizenViewMessage(colony, citizen), player));
-                    }
+                    continue;
+                }
+
+                // New subscribers need the whole citizen, everyone else only gets the changed field groups.
+                if (!newSubscribers.isEmpty())
+                {
+                    final ColonyViewCitizenViewMessage message = new ColonyViewCitizenViewMessage(colony, citizen);
+                    ViewMulticast.send(message, message.getPayloadSize(), newSubscribers);
                 }
+
+                // Existing subscribers which don't have the citizen yet, or not since its entity came back, need the whole citizen too.
+                final boolean synced = viewSyncedCitizens.contains(citizen.getId());
+                if ((!synced || citizen.isDirty()) && !existingPlayers.isEmpty())
+                {
+                    final ColonyViewCitizenViewMessage message = synced
+                                                                   ? new ColonyViewCitizenViewMessage(colony, citizen, citizen.getDirtyViewGroups())
+                                                                   : new ColonyViewCitizenViewMessage(colony, citizen);
+                    ViewMulticast.send(message, message.getPayloadSize(), existingPlayers);
+                }
+
+                viewSyncedCitizens.add(citizen.getId());
+                citizen.clearDirty();
             }
-            players.forEach(player -> MineColonies.getNetwork().sendTo(new HappinessDataMessage(colony, colony.getHappinessData()), player));
+            final HappinessDataMessage happinessMessage = new HappinessDataMessage(colony, colony.getHappinessData());
+            ViewMulticast.send(happinessMessage, 0, players);
         }
     }
 
@@ -223,6 +252,7 @@ public class CitizenManager implements ICitizenManager
         final CitizenData citizenData = new CitizenData(topCitizenId, colony);
         citizenData.initForNewCitizen();
         citizens.put(citizenData.getId(), citizenData);
+        colony.markSectionDirty(ColonySaveSection.CITIZENS);
 
         return citizenData;
     }
@@ -232,6 +262,7 @@ public class CitizenManager implements ICitizenManager
     {
         //Remove the Citizen
         citizens.remove(citizen.getId());
+        colony.markSectionDirty(ColonySaveSection.CITIZENS);
 
         if (citizen.getWorkBuilding() != null)
         {
@@ -328,6 +359,7 @@ public class CitizenManager implements ICitizenManager
     public void markCitizensDirty()
     {
         colony.markDirty();
+        colony.markSectionDirty(ColonySaveSection.CITIZENS);
         isCitizensDirty = true;
     }
 
@@ -341,7 +373,9 @@ public class CitizenManager implements ICitizenManager
     public void clearDirty()
     {
         isCitizensDirty = false;
-        citizens.values().forEach(ICitizenData::clearDirty);
+
+        // Only the sent citizens are cleared, citizens without an entity get a full update once it is back.
+        viewSyncedCitizens.removeIf(id -> !citizens.containsKey(id) || !citizens.get(id).getCitizenEntity().isPresent());
     }
 
     @Override
@@ -4,11 +4,11 @@ import com.ldtteam.structurize.management.Structures;
 import com.minecolonies.api.colony.managers.interfaces.IColonyPackageManager;
 import com.minecolonies.api.colony.workorders.IWorkManager;
 import com.minecolonies.api.colony.workorders.IWorkOrder;
-import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.colony.Colony;
 import com.minecolonies.coremod.colony.ColonyView;
 import com.minecolonies.coremod.colony.permissions.Permissions;
 import com.minecolonies.coremod.colony.workorders.WorkOrderBuildMiner;
+import com.minecolonies.coremod.network.ViewMulticast;
 import com.minecolonies.coremod.network.messages.ColonyStylesMessage;
 import com.minecolonies.coremod.network.messages.ColonyViewMessage;
 import com.minecolonies.coremod.network.messages.ColonyViewWorkOrderMessage;
@@ -139,20 +139,29 @@ public class ColonyPackageManager implements IColonyPackageManager
             //  Send each type of update packet as appropriate:
             //      - To close Subscribers if the data changes
             //      - To New Subscribers even if it hasn't changed
+            //  All of them reach each player as one bundle.
+            ViewMulticast.beginBundle();
+            try
+            {
+                //ColonyView
+                sendColonyViewPackets();
 
-            //ColonyView
-            sendColonyViewPackets();
-
-            //Permissions
-            sendPermissionsPackets();
+                //Permissions
+                sendPermissionsPackets();
 
-            //WorkOrders
-            sendWorkOrderPackets();
+                //WorkOrders
+                sendWorkOrderPackets();
 
-            colony.getCitizenManager().sendPackets(closeSubscribers, newSubscribers);
-            colony.getBuildingManager().sendPackets(closeSubscribers, newSubscribers);
+                colony.getCitizenManager().sendPackets(closeSubscribers, newSubscribers);
+                colony.getBuildingManager().sendPackets(closeSubscribers, newSubscribers);
 
-            sendSchematicsPackets();
+                sendSchematicsPackets();
+            }
+            finally
+            {
+                ViewMulticast.endBundle();
+            }
+            ViewMulticast.onUpdateInterval();
         }
 
         isDirty = false;
@@ -165,12 +174,22 @@ public class ColonyPackageManager implements IColonyPackageManager
     @Override
     public void sendColonyViewPackets()
     {
-        if (isDirty || !newSubscribers.isEmpty())
+        // The delta goes first, so the snapshot of new subscribers carries the sync version the next delta is based on.
+        if (isDirty && !newSubscribers.containsAll(closeSubscribers))
         {
+            // Existing subscribers only receive the request system changes since the last update.
             final ByteBuf colonyByteBuf = Unpooled.buffer();
-            ColonyView.serializeNetworkData(colony, colonyByteBuf, !newSubscribers.isEmpty());
-            final Set<EntityPlayerMP> players = isDirty ? closeSubscribers : newSubscribers;
-            players.forEach(player -> MineColonies.getNetwork().sendTo(new ColonyViewMessage(colony, colonyByteBuf, newSubscribers.contains(player)), player));
+            ColonyView.serializeNetworkData(colony, colonyByteBuf, false);
+            final Set<EntityPlayerMP> players = new HashSet<>(closeSubscribers);
+            players.removeAll(newSubscribers);
+            ViewMulticast.send(new ColonyViewMessage(colony, colonyByteBuf, false), colonyByteBuf.readableBytes(), players);
+        }
+
+        if (!newSubscribers.isEmpty())
+        {
+            final ByteBuf colonyByteBuf = Unpooled.buffer();
+            ColonyView.serializeNetworkData(colony, colonyByteBuf, true);
+            ViewMulticast.send(new ColonyViewMessage(colony, colonyByteBuf, true), colonyByteBuf.readableBytes(), newSubscribers);
         }
         colony.getRequestManager().setDirty(false);
     }
@@ -182,7 +201,13 @@ public class ColonyPackageManager implements IColonyPackageManager
         if (permissions.isDirty() || !newSubscribers.isEmpty())
         {
             final Set<EntityPlayerMP> players = permissions.isDirty() ? closeSubscribers : newSubscribers;
-            players.forEach(player -> MineColonies.getNetwork().sendTo(new PermissionsMessage.View(colony, permissions.getRank(player)), player));
+            // Only the rank differs between the players.
+            final ByteBuf body = PermissionsMessage.View.serializeBody(colony);
+            ViewMulticast.recordSerialization(body.readableBytes());
+            for (final EntityPlayerMP player : players)
+            {
+                ViewMulticast.sendTo(new PermissionsMessage.View(colony, permissions.getRank(player), body), body.readableBytes(), player);
+            }
         }
     }
 
@@ -197,7 +222,8 @@ public class ColonyPackageManager implements IColonyPackageManager
             {
                 if (!(workOrder instanceof WorkOrderBuildMiner))
                 {
-                    players.forEach(player -> MineColonies.getNetwork().sendTo(new ColonyViewWorkOrderMessage(colony, workOrder), player));
+                    final ColonyViewWorkOrderMessage message = new ColonyViewWorkOrderMessage(colony, workOrder);
+                    ViewMulticast.send(message, message.getPayloadSize(), players);
                 }
             }
             workManager.setDirty(false);
@@ -210,7 +236,7 @@ public class ColonyPackageManager implements IColonyPackageManager
         if (Structures.isDirty() || !newSubscribers.isEmpty())
         {
             final Set<EntityPlayerMP> players = Structures.isDirty() ? closeSubscribers : newSubscribers;
-            players.forEach(player -> MineColonies.getNetwork().sendTo(new ColonyStylesMessage(), player));
+            ViewMulticast.send(new ColonyStylesMessage(), 0, players);
         }
         Structures.clearDirty();
     }
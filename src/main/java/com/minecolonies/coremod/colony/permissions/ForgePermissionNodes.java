@@ -49,7 +49,16 @@ public enum ForgePermissionNodes
     SCAN("com.minecolonies.coremod.Scan", DefaultPermissionLevel.OP, "Can scan structures."),
     CLAIM("com.minecolonies.coremod.Claim", DefaultPermissionLevel.OP, "Can claim structures."),
     LOOT_GEN("com.minecolonies.coremod.lootGen", DefaultPermissionLevel.OP, "Can lootGen minecolonies building blocks."),
-    LOAD_BACKUP("com.minecolonies.coremod.loadBackup", DefaultPermissionLevel.OP, "Can load colony backups, should be OP only!")
+    LOAD_BACKUP("com.minecolonies.coremod.loadBackup", DefaultPermissionLevel.OP, "Can load colony backups, should be OP only!"),
+    PATHFINDING_STATS("com.minecolonies.coremod.PathfindingStats", DefaultPermissionLevel.OP, "Can view the pathfinding statistics."),
+    PATH_CACHE_STATS("com.minecolonies.coremod.PathCacheStats", DefaultPermissionLevel.OP, "Can view and clear the path cache statistics."),
+    SAVE_STATS("com.minecolonies.coremod.SaveStats", DefaultPermissionLevel.OP, "Can view the colony save timings."),
+    COLONY_TICK_PROFILE("com.minecolonies.coremod.ColonyTickProfile", DefaultPermissionLevel.OP, "Can profile the colony ticks."),
+    AI_PROFILE("com.minecolonies.coremod.AIProfile", DefaultPermissionLevel.OP, "Can profile the worker AIs."),
+    VIEW_PACKET_STATS("com.minecolonies.coremod.ViewPacketStats", DefaultPermissionLevel.OP, "Can view and reset the colony view packet counters."),
+    BLUEPRINT_CACHE("com.minecolonies.coremod.BlueprintCache", DefaultPermissionLevel.OP, "Can view and clear the blueprint cache."),
+    STRUCTURE_SCANS("com.minecolonies.coremod.StructureScans", DefaultPermissionLevel.OP, "Can view the structure scan statistics."),
+    RETRY_STATS("com.minecolonies.coremod.RetryStats", DefaultPermissionLevel.OP, "Can view the request retry statistics.")
     ;
 
     @NotNull private final String nodeName;
@@ -796,7 +796,16 @@ public class Permissions implements IPermissions
     public void serializeViewNetworkData(@NotNull final ByteBuf buf, @NotNull final Rank viewerRank)
     {
         ByteBufUtils.writeUTF8String(buf, viewerRank.name());
+        serializeViewNetworkBody(buf);
+    }
 
+    /**
+     * Serializes the part of the network data which is the same for all viewers, everything but the viewer rank.
+     *
+     * @param buf {@link ByteBuf} to write to.
+     */
+    public void serializeViewNetworkBody(@NotNull final ByteBuf buf)
+    {
         //  Owners
         buf.writeInt(players.size());
         for (@NotNull final Map.Entry<UUID, Player> player : players.entrySet())
@@ -65,6 +65,14 @@ public class StandardDataStoreManager implements IDataStoreManager
         storeMap.clear();
     }
 
+    @Override
+    public IDataStoreManager copyWithout(final IToken<?> id)
+    {
+        final Map<IToken<?>, IDataStore> copy = new HashMap<>(storeMap);
+        copy.remove(id);
+        return new StandardDataStoreManager(copy);
+    }
+
     public static class Factory implements IFactory<FactoryVoidInput, StandardDataStoreManager>
     {
 
@@ -7,6 +7,7 @@ import com.minecolonies.api.colony.requestsystem.factory.FactoryVoidInput;
 import com.minecolonies.api.colony.requestsystem.factory.IFactory;
 import com.minecolonies.api.colony.requestsystem.factory.IFactoryController;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
+import com.minecolonies.api.colony.requestsystem.token.TokenCodec;
 import com.minecolonies.api.util.NBTUtils;
 import com.minecolonies.api.util.constant.NbtTagConstants;
 import com.minecolonies.api.util.constant.TypeConstants;
@@ -95,9 +96,7 @@ public class StandardProviderRequestResolverAssignmentDataStore implements IProv
                 NBTTagCompound entryCompound = new NBTTagCompound();
 
                 entryCompound.setTag(NbtTagConstants.TAG_TOKEN, controller.serialize(t));
-                entryCompound.setTag(NbtTagConstants.TAG_LIST, standardProviderRequestResolverAssignmentDataStore.assignments.get(t).stream()
-                                                                 .map(StandardFactoryController.getInstance()::serialize)
-                                                                 .collect(NBTUtils.toNBTTagList()));
+                TokenCodec.writeTokens(controller, entryCompound, NbtTagConstants.TAG_LIST, standardProviderRequestResolverAssignmentDataStore.assignments.get(t));
 
                 return entryCompound;
             }).collect(NBTUtils.toNBTTagList()));
@@ -113,9 +112,7 @@ public class StandardProviderRequestResolverAssignmentDataStore implements IProv
             Map<IToken<?>, Collection<IToken<?>>> map = NBTUtils.streamCompound(nbt.getTagList(NbtTagConstants.TAG_LIST, Constants.NBT.TAG_COMPOUND))
                                                           .map(nbtTagCompound -> {
                                                               final IToken<?> elementToken = controller.deserialize(nbtTagCompound.getCompoundTag(NbtTagConstants.TAG_TOKEN));
-                                                              final Collection<IToken<?>> elements = NBTUtils.streamCompound(nbtTagCompound.getTagList(NbtTagConstants.TAG_LIST,
-                                                                Constants.NBT.TAG_COMPOUND)).map(elementCompound -> (IToken<?>) controller.deserialize(elementCompound))
-                                                                                               .collect(Collectors.toList());
+                                                              final Collection<IToken<?>> elements = TokenCodec.readTokens(controller, nbtTagCompound, NbtTagConstants.TAG_LIST);
 
                                                               return new Tuple<>(elementToken, elements);
                                                           }).collect(Collectors.toMap(t -> t.getFirst(), t -> t.getSecond()));
@@ -18,7 +18,7 @@ import net.minecraft.util.Tuple;
 import net.minecraftforge.common.util.Constants;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.Map;
+import java.util.*;
 import java.util.stream.Collectors;
 
 import static com.minecolonies.api.util.constant.NbtTagConstants.*;
@@ -31,11 +31,17 @@ public class StandardRequestIdentitiesDataStore implements IRequestIdentitiesDat
     private IToken<?>                     id;
     private final BiMap<IToken<?>, IRequest<?>> map;
 
+    /**
+     * The tokens of the requests per requester id.
+     */
+    private final Map<IToken<?>, Set<IToken<?>>> requestsByRequester = new HashMap<>();
+
     public StandardRequestIdentitiesDataStore(
       final IToken<?> id,
       final BiMap<IToken<?>, IRequest<?>> map) {
         this.id = id;
         this.map = map;
+        map.values().forEach(this::index);
     }
 
     public StandardRequestIdentitiesDataStore()
@@ -50,6 +56,72 @@ public class StandardRequestIdentitiesDataStore implements IRequestIdentitiesDat
         return map;
     }
 
+    @Override
+    public void addRequest(final IRequest<?> request)
+    {
+        removeRequest(request.getId());
+        map.forcePut(request.getId(), request);
+        index(request);
+    }
+
+    @Override
+    public void removeRequest(final IToken<?> token)
+    {
+        final IRequest<?> request = map.remove(token);
+        if (request == null)
+        {
+            return;
+        }
+
+        final Set<IToken<?>> requests = requestsByRequester.get(request.getRequester().getId());
+        if (requests != null)
+        {
+            requests.remove(token);
+            if (requests.isEmpty())
+            {
+                requestsByRequester.remove(request.getRequester().getId());
+            }
+        }
+    }
+
+    /**
+     * Looks the requests up in the index instead of checking every request.
+     * The results are checked against the identities, so changes made directly to them can only make requests go missing.
+     *
+     * @param requesterId The id of the requester.
+     * @return The requests.
+     */
+    @Override
+    public Collection<IRequest<?>> getRequestsOfRequester(final IToken<?> requesterId)
+    {
+        final Set<IToken<?>> tokens = requestsByRequester.get(requesterId);
+        if (tokens == null)
+        {
+            return new ArrayList<>();
+        }
+
+        final List<IRequest<?>> requests = new ArrayList<>(tokens.size());
+        for (final IToken<?> token : tokens)
+        {
+            final IRequest<?> request = map.get(token);
+            if (request != null && request.getRequester().getId().equals(requesterId))
+            {
+                requests.add(request);
+            }
+        }
+        return requests;
+    }
+
+    /**
+     * Adds a request to the index.
+     *
+     * @param request The request.
+     */
+    private void index(final IRequest<?> request)
+    {
+        requestsByRequester.computeIfAbsent(request.getRequester().getId(), requester -> new HashSet<>()).add(request.getId());
+    }
+
     @Override
     public IToken<?> getId()
     {
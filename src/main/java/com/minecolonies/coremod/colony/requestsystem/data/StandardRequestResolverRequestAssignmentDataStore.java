@@ -7,6 +7,7 @@ import com.minecolonies.api.colony.requestsystem.factory.FactoryVoidInput;
 import com.minecolonies.api.colony.requestsystem.factory.IFactory;
 import com.minecolonies.api.colony.requestsystem.factory.IFactoryController;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
+import com.minecolonies.api.colony.requestsystem.token.TokenCodec;
 import com.minecolonies.api.util.NBTUtils;
 import com.minecolonies.api.util.constant.NbtTagConstants;
 import com.minecolonies.api.util.constant.TypeConstants;
@@ -14,9 +15,11 @@ import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.Tuple;
 import net.minecraftforge.common.util.Constants;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -26,12 +29,18 @@ public class StandardRequestResolverRequestAssignmentDataStore implements IReque
     private final Map<IToken<?>, Collection<IToken<?>>> assignments;
     private IToken<?> id;
 
+    /**
+     * The resolver of each assigned request, the reverse of the assignments.
+     */
+    private final Map<IToken<?>, IToken<?>> resolverByRequest = new HashMap<>();
+
     public StandardRequestResolverRequestAssignmentDataStore(
       final IToken<?> id,
       final Map<IToken<?>, Collection<IToken<?>>> assignments
       ) {
         this.id = id;
         this.assignments = assignments;
+        assignments.forEach((resolver, requests) -> requests.forEach(request -> resolverByRequest.put(request, resolver)));
     }
 
     public StandardRequestResolverRequestAssignmentDataStore()
@@ -46,6 +55,69 @@ public class StandardRequestResolverRequestAssignmentDataStore implements IReque
         return assignments;
     }
 
+    /**
+     * Looks the resolver up in the reverse index instead of searching all assignments.
+     * The result is checked against the assignments, so changes made directly to them can only make the lookup miss.
+     *
+     * @param value The request token to look for.
+     * @return The token of the resolver or null.
+     */
+    @Nullable
+    @Override
+    public IToken<?> getAssignmentForValue(final IToken<?> value)
+    {
+        final IToken<?> resolver = resolverByRequest.get(value);
+        if (resolver == null)
+        {
+            return null;
+        }
+
+        final Collection<IToken<?>> requests = assignments.get(resolver);
+        return requests != null && requests.contains(value) ? resolver : null;
+    }
+
+    @Override
+    public void assign(final IToken<?> key, final IToken<?> value)
+    {
+        final IToken<?> previous = resolverByRequest.put(value, key);
+        if (previous != null && !previous.equals(key))
+        {
+            removeFromAssignments(previous, value);
+        }
+        assignments.computeIfAbsent(key, k -> new HashSet<>()).add(value);
+    }
+
+    @Override
+    public void unassign(final IToken<?> key, final IToken<?> value)
+    {
+        if (key.equals(resolverByRequest.get(value)))
+        {
+            resolverByRequest.remove(value);
+        }
+        removeFromAssignments(key, value);
+    }
+
+    /**
+     * Removes a request from the assignments of a resolver, and the resolver when it has no requests left.
+     *
+     * @param key   The token of the resolver.
+     * @param value The token of the request.
+     */
+    private void removeFromAssignments(final IToken<?> key, final IToken<?> value)
+    {
+        final Collection<IToken<?>> requests = assignments.get(key);
+        if (requests == null)
+        {
+            return;
+        }
+
+        requests.remove(value);
+        if (requests.isEmpty())
+        {
+            assignments.remove(key);
+        }
+    }
+
     @Override
     public IToken<?> getId()
     {
@@ -95,9 +167,7 @@ public class StandardRequestResolverRequestAssignmentDataStore implements IReque
                 final NBTTagCompound entryCompound = new NBTTagCompound();
 
                 entryCompound.setTag(NbtTagConstants.TAG_TOKEN, controller.serialize(t));
-                entryCompound.setTag(NbtTagConstants.TAG_LIST, standardProviderRequestResolverAssignmentDataStore.assignments.get(t).stream()
-                                                                 .map(StandardFactoryController.getInstance()::serialize)
-                                                                 .collect(NBTUtils.toNBTTagList()));
+                TokenCodec.writeTokens(controller, entryCompound, NbtTagConstants.TAG_LIST, standardProviderRequestResolverAssignmentDataStore.assignments.get(t));
 
                 return entryCompound;
             }).collect(NBTUtils.toNBTTagList()));
@@ -113,9 +183,7 @@ public class StandardRequestResolverRequestAssignmentDataStore implements IReque
             final Map<IToken<?>, Collection<IToken<?>>> map = NBTUtils.streamCompound(nbt.getTagList(NbtTagConstants.TAG_LIST, Constants.NBT.TAG_COMPOUND))
                                                           .map(nbtTagCompound -> {
                                                               final IToken<?> elementToken = controller.deserialize(nbtTagCompound.getCompoundTag(NbtTagConstants.TAG_TOKEN));
-                                                              final Collection<IToken<?>> elements = NBTUtils.streamCompound(nbtTagCompound.getTagList(NbtTagConstants.TAG_LIST,
-                                                                Constants.NBT.TAG_COMPOUND)).map(elementCompound -> (IToken<?>) controller.deserialize(elementCompound))
-                                                                                                       .collect(Collectors.toList());
+                                                              final Collection<IToken<?>> elements = TokenCodec.readTokens(controller, nbtTagCompound, NbtTagConstants.TAG_LIST);
 
                                                               return new Tuple<>(elementToken, elements);
                                                           }).collect(Collectors.toMap(t -> t.getFirst(), t -> t.getSecond()));
@@ -4,6 +4,7 @@ import com.minecolonies.api.colony.requestsystem.data.*;
 import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
 import com.minecolonies.coremod.colony.requestsystem.management.handlers.*;
 import com.minecolonies.coremod.colony.requestsystem.management.manager.StandardRequestManager;
+import net.minecraft.nbt.NBTTagCompound;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -40,4 +41,41 @@ public interface IStandardRequestManager extends IRequestManager
     int getCurrentVersion();
 
     void setCurrentVersion(int currentVersion);
+
+    /**
+     * Serializes the request system for the clients that are already subscribed to the colony.
+     * Only contains the requests which changed since the last sync, unless a full snapshot is required.
+     *
+     * @return The sync data.
+     */
+    NBTTagCompound serializeSyncNBT();
+
+    /**
+     * Serializes an empty snapshot at the current sync version, sent instead of a sync which is too large for a packet.
+     * The clients then start over with no requests and pick up the following changes, without touching the state of the server.
+     *
+     * @return The empty snapshot.
+     */
+    NBTTagCompound serializeEmptySyncNBT();
+
+    /**
+     * Applies the changes created by {@link #serializeSyncNBT()} on the client side.
+     *
+     * @param nbt The sync data.
+     * @return False if the data is a full snapshot that has to be deserialized instead.
+     */
+    boolean deserializeSyncNBT(NBTTagCompound nbt);
+
+    /**
+     * Checks if the last sync applied on the client side was based on a different state than the local one.
+     * The client then has to ask for a full snapshot, see {@link #requireFullSync()}.
+     *
+     * @return True if changes might be missing.
+     */
+    boolean isOutOfSync();
+
+    /**
+     * Forces the next sync to send a full snapshot, used when the data stores are replaced or a client missed a sync.
+     */
+    void requireFullSync();
 }
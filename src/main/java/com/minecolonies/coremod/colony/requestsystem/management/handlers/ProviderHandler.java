@@ -2,6 +2,7 @@ package com.minecolonies.coremod.colony.requestsystem.management.handlers;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
+import com.minecolonies.api.colony.requestsystem.data.IRequestResolverRequestAssignmentDataStore;
 import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
 import com.minecolonies.api.colony.requestsystem.resolver.IRequestResolverProvider;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
@@ -147,7 +148,17 @@ public class ProviderHandler implements IProviderHandler
     void removeResolverWithoutAssignedRequests(@NotNull final IToken<?> resolverToken)
     {
         manager.getLogger().debug("Removing resolver without assigned requests: " + resolverToken);
-        manager.getRequestResolverRequestAssignmentDataStore().getAssignments().remove(resolverToken);
+        final IRequestResolverRequestAssignmentDataStore assignmentDataStore = manager.getRequestResolverRequestAssignmentDataStore();
+        final Collection<IToken<?>> assignedRequests = assignmentDataStore.getAssignments().get(resolverToken);
+        if (assignedRequests != null)
+        {
+            //Unassign through the data store so its reverse index stays in step.
+            for (final IToken<?> requestToken : new ArrayList<>(assignedRequests))
+            {
+                assignmentDataStore.unassign(resolverToken, requestToken);
+            }
+        }
+        assignmentDataStore.getAssignments().remove(resolverToken);
 
         manager.getResolverHandler().removeResolver(resolverToken);
     }
@@ -12,8 +12,6 @@ import com.minecolonies.api.colony.requestsystem.requestable.IRequestable;
 import com.minecolonies.api.colony.requestsystem.requester.IRequester;
 import com.minecolonies.api.colony.requestsystem.resolver.IRequestResolver;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
-import com.minecolonies.api.util.ReflectionUtils;
-import com.minecolonies.api.util.constant.TypeConstants;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.colony.requestsystem.management.IStandardRequestManager;
 import com.minecolonies.coremod.colony.requestsystem.management.manager.wrapped.WrappedBlacklistAssignmentRequestManager;
@@ -21,7 +19,6 @@ import com.minecolonies.coremod.colony.requestsystem.management.manager.wrapped.
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
-import java.util.stream.Collectors;
 
 import static com.minecolonies.api.util.constant.Suppression.RAWTYPES;
 import static com.minecolonies.api.util.constant.Suppression.UNCHECKED;
@@ -70,7 +67,7 @@ public class RequestHandler implements IRequestHandler
 
         manager.getLogger().debug("Registering request: " + request);
 
-        manager.getRequestIdentitiesDataStore().getIdentities().put(request.getId(), request);
+        manager.getRequestIdentitiesDataStore().addRequest(request);
     }
 
     /**
@@ -134,23 +131,7 @@ public class RequestHandler implements IRequestHandler
 
         request.setState(new WrappedStaticStateRequestManager(manager), RequestState.ASSIGNING);
 
-        final Set<TypeToken> requestTypes = ReflectionUtils.getSuperClasses(request.getType());
-        requestTypes.remove(TypeConstants.OBJECT);
-
-        final List<TypeToken> typeIndexList = new LinkedList<>(requestTypes);
-
-        final Set<IRequestResolver<?>> resolvers = requestTypes.stream()
-                                                     .filter(typeToken -> manager.getRequestableTypeRequestResolverAssignmentDataStore().getAssignments().containsKey(typeToken))
-                                                     .flatMap(type -> manager.getRequestableTypeRequestResolverAssignmentDataStore()
-                                                                        .getAssignments()
-                                                                        .get(type)
-                                                                        .stream()
-                                                                        .map(iToken -> manager.getResolverHandler().getResolver(iToken)))
-                                                     .filter(iRequestResolver -> typeIndexList.contains(iRequestResolver.getRequestType()))
-                                                     .sorted(Comparator.comparingInt((IRequestResolver<?> r) -> -1 * r.getPriority())
-                                                               .thenComparingInt((IRequestResolver<?> r) -> typeIndexList.indexOf(r.getRequestType())))
-                                                     .collect(Collectors.toCollection(LinkedHashSet::new));
-
+        final List<IRequestResolver<?>> resolvers = manager.getResolverHandler().getResolverCandidates(request.getType());
 
         for (final IRequestResolver<?> resolver : resolvers)
         {
@@ -231,14 +212,7 @@ public class RequestHandler implements IRequestHandler
         final IRequestResolver currentlyAssignedResolver = manager.getResolverForRequest(request.getId());
         currentlyAssignedResolver.onAssignedRequestBeingCancelled(new WrappedStaticStateRequestManager(manager), request);
 
-        if (manager.getRequestResolverRequestAssignmentDataStore().getAssignments().containsKey(currentlyAssignedResolver.getId()))
-        {
-            manager.getRequestResolverRequestAssignmentDataStore().getAssignments().get(currentlyAssignedResolver.getId()).remove(request.getId());
-            if (manager.getRequestResolverRequestAssignmentDataStore().getAssignments().get(currentlyAssignedResolver.getId()).isEmpty())
-            {
-                manager.getRequestResolverRequestAssignmentDataStore().getAssignments().remove(currentlyAssignedResolver.getId());
-            }
-        }
+        manager.getRequestResolverRequestAssignmentDataStore().unassign(currentlyAssignedResolver.getId(), request.getId());
 
         currentlyAssignedResolver.onAssignedRequestCancelled(new WrappedStaticStateRequestManager(manager), request);
 
@@ -347,7 +321,7 @@ public class RequestHandler implements IRequestHandler
 
         if (manager.getRequestResolverRequestAssignmentDataStore().getAssignmentForValue(token) == null)
         {
-            manager.getRequestIdentitiesDataStore().getIdentities().remove(token);
+            manager.getRequestIdentitiesDataStore().removeRequest(token);
             return;
         }
 
@@ -433,14 +407,7 @@ public class RequestHandler implements IRequestHandler
         final IRequestResolver resolver = manager.getResolverForRequest(request.getId());
         resolver.onAssignedRequestBeingCancelled(new WrappedStaticStateRequestManager(manager), request);
 
-        if (manager.getRequestResolverRequestAssignmentDataStore().getAssignments().containsKey(resolver.getId()))
-        {
-            manager.getRequestResolverRequestAssignmentDataStore().getAssignments().get(resolver.getId()).remove(request.getId());
-            if (manager.getRequestResolverRequestAssignmentDataStore().getAssignments().get(resolver.getId()).isEmpty())
-            {
-                manager.getRequestResolverRequestAssignmentDataStore().getAssignments().remove(resolver.getId());
-            }
-        }
+        manager.getRequestResolverRequestAssignmentDataStore().unassign(resolver.getId(), request.getId());
 
         if (request.hasParent())
         {
@@ -502,14 +469,10 @@ public class RequestHandler implements IRequestHandler
         if (isAssigned(token))
         {
             final IRequestResolver<?> resolver = manager.getResolverHandler().getResolverForRequest(token);
-            manager.getRequestResolverRequestAssignmentDataStore().getAssignments().get(resolver.getId()).remove(token);
-            if (manager.getRequestResolverRequestAssignmentDataStore().getAssignments().get(resolver.getId()).isEmpty())
-            {
-                manager.getRequestResolverRequestAssignmentDataStore().getAssignments().remove(resolver.getId());
-            }
+            manager.getRequestResolverRequestAssignmentDataStore().unassign(resolver.getId(), token);
         }
 
-        manager.getRequestIdentitiesDataStore().getIdentities().remove(token);
+        manager.getRequestIdentitiesDataStore().removeRequest(token);
     }
 
     /**
@@ -555,11 +518,6 @@ public class RequestHandler implements IRequestHandler
     @Override
     public Collection<IRequest<?>> getRequestsMadeByRequester(final IRequester requester)
     {
-        return manager.getRequestIdentitiesDataStore()
-          .getIdentities()
-          .values()
-          .stream()
-          .filter(iRequest -> iRequest.getRequester().getId().equals(requester.getId()))
-          .collect(Collectors.toList());
+        return manager.getRequestIdentitiesDataStore().getRequestsOfRequester(requester.getId());
     }
 }
@@ -1,5 +1,6 @@
 package com.minecolonies.coremod.colony.requestsystem.management.handlers;
 
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import com.google.common.reflect.TypeToken;
 import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
@@ -28,6 +29,11 @@ public class ResolverHandler implements IResolverHandler
 
     private final IStandardRequestManager manager;
 
+    /**
+     * The sorted resolver candidates per request type, see {@link #getResolverCandidates(TypeToken)}.
+     */
+    private final Map<TypeToken<?>, List<IRequestResolver<?>>> resolverCandidates = new HashMap<>();
+
     public ResolverHandler(final IStandardRequestManager manager)
     {
         this.manager = manager;
@@ -86,6 +92,7 @@ public class ResolverHandler implements IResolverHandler
         }
 
         manager.getRequestResolverIdentitiesDataStore().getIdentities().put(resolver.getId(), resolver);
+        clearResolverCandidates();
 
         @SuppressWarnings(RAWTYPES) final Set<TypeToken> resolverTypes = ReflectionUtils.getSuperClasses(resolver.getRequestType());
         resolverTypes.remove(TypeConstants.OBJECT);
@@ -224,6 +231,7 @@ public class ResolverHandler implements IResolverHandler
     public void removeResolverInternal(final IRequestResolver<?> resolver)
     {
         manager.getRequestResolverIdentitiesDataStore().getIdentities().remove(resolver.getId());
+        clearResolverCandidates();
         @SuppressWarnings(RAWTYPES) final Set<TypeToken> requestTypes = ReflectionUtils.getSuperClasses(resolver.getRequestType());
         requestTypes.remove(TypeConstants.OBJECT);
         requestTypes.forEach(c -> {
@@ -232,6 +240,43 @@ public class ResolverHandler implements IResolverHandler
         });
     }
 
+    @Override
+    @SuppressWarnings(RAWTYPES)
+    public List<IRequestResolver<?>> getResolverCandidates(final TypeToken<?> requestType)
+    {
+        final List<IRequestResolver<?>> cached = resolverCandidates.get(requestType);
+        if (cached != null)
+        {
+            return cached;
+        }
+
+        final Set<TypeToken> requestTypes = ReflectionUtils.getSuperClasses(requestType);
+        requestTypes.remove(TypeConstants.OBJECT);
+
+        final List<TypeToken> typeIndexList = new ArrayList<>(requestTypes);
+
+        final List<IRequestResolver<?>> candidates = ImmutableList.copyOf(requestTypes.stream()
+                                                                            .filter(typeToken -> manager.getRequestableTypeRequestResolverAssignmentDataStore().getAssignments().containsKey(typeToken))
+                                                                            .flatMap(type -> manager.getRequestableTypeRequestResolverAssignmentDataStore()
+                                                                                               .getAssignments()
+                                                                                               .get(type)
+                                                                                               .stream()
+                                                                                               .map(this::getResolver))
+                                                                            .filter(iRequestResolver -> typeIndexList.contains(iRequestResolver.getRequestType()))
+                                                                            .sorted(Comparator.comparingInt((IRequestResolver<?> r) -> -1 * r.getPriority())
+                                                                                      .thenComparingInt((IRequestResolver<?> r) -> typeIndexList.indexOf(r.getRequestType())))
+                                                                            .collect(Collectors.toCollection(LinkedHashSet::new)));
+
+        resolverCandidates.put(requestType, candidates);
+        return candidates;
+    }
+
+    @Override
+    public void clearResolverCandidates()
+    {
+        resolverCandidates.clear();
+    }
+
     /**
      * Method used to remove a multiple registered resolvers.
      * <p>
@@ -280,14 +325,9 @@ public class ResolverHandler implements IResolverHandler
     @Override
     public void addRequestToResolver(final IRequestResolver<?> resolver, final IRequest<?> request)
     {
-        if (!manager.getRequestResolverRequestAssignmentDataStore().getAssignments().containsKey(resolver.getId()))
-        {
-            manager.getRequestResolverRequestAssignmentDataStore().getAssignments().put(resolver.getId(), new HashSet<>());
-        }
-
         manager.getLogger().debug("Adding request: " + request + " to resolver: " + resolver);
 
-        manager.getRequestResolverRequestAssignmentDataStore().getAssignments().get(resolver.getId()).add(request.getId());
+        manager.getRequestResolverRequestAssignmentDataStore().assign(resolver.getId(), request.getId());
 
         request.setState(new WrappedStaticStateRequestManager(manager), RequestState.ASSIGNED);
     }
@@ -319,11 +359,7 @@ public class ResolverHandler implements IResolverHandler
 
         manager.getLogger().debug("Removing request: " + request + " from resolver: " + resolver);
 
-        manager.getRequestResolverRequestAssignmentDataStore().getAssignments().get(resolver.getId()).remove(request.getId());
-        if (manager.getRequestResolverRequestAssignmentDataStore().getAssignments().get(resolver.getId()).isEmpty())
-        {
-            manager.getRequestResolverRequestAssignmentDataStore().getAssignments().remove(resolver.getId());
-        }
+        manager.getRequestResolverRequestAssignmentDataStore().unassign(resolver.getId(), request.getId());
     }
 
     /**
@@ -371,6 +407,10 @@ public class ResolverHandler implements IResolverHandler
     @Override
     public void onColonyUpdate(final Predicate<IRequest> shouldTriggerReassign)
     {
-        manager.getRequestResolverIdentitiesDataStore().getIdentities().values().forEach(resolver -> resolver.onColonyUpdate(manager, shouldTriggerReassign));
+        // Only resolvers with assigned requests can have something to reassign.
+        new ArrayList<>(manager.getRequestResolverRequestAssignmentDataStore().getAssignments().keySet()).stream()
+          .map(token -> manager.getRequestResolverIdentitiesDataStore().getIdentities().get(token))
+          .filter(Objects::nonNull)
+          .forEach(resolver -> resolver.onColonyUpdate(manager, shouldTriggerReassign));
     }
 }
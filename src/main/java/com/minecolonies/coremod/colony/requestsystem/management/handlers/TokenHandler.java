@@ -2,6 +2,8 @@ package com.minecolonies.coremod.colony.requestsystem.management.handlers;
 
 import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
+import com.minecolonies.api.colony.requestsystem.token.TokenCodec;
+import com.minecolonies.api.configuration.Configurations;
 import com.minecolonies.api.util.constant.TypeConstants;
 import com.minecolonies.coremod.colony.requestsystem.management.IStandardRequestManager;
 
@@ -15,6 +17,11 @@ public class TokenHandler implements ITokenHandler
 
     private final IStandardRequestManager manager;
 
+    /**
+     * The counter of the next compact token.
+     */
+    private long nextTokenId = 0;
+
     public TokenHandler(final IStandardRequestManager manager) {this.manager = manager;}
 
     @Override
@@ -31,7 +38,24 @@ public class TokenHandler implements ITokenHandler
     @Override
     public IToken generateNewToken()
     {
+        if (Configurations.requestSystem.compactRequestTokens && manager.getColony() != null)
+        {
+            return TokenCodec.createCompactToken(manager.getColony().getID(), nextTokenId++);
+        }
+
         //Force generic type to be correct.
         return manager.getFactoryController().getNewInstance(TypeConstants.ITOKEN, UUID.randomUUID());
     }
+
+    @Override
+    public long getNextTokenId()
+    {
+        return nextTokenId;
+    }
+
+    @Override
+    public void setNextTokenId(final long nextTokenId)
+    {
+        this.nextTokenId = Math.max(this.nextTokenId, nextTokenId);
+    }
 }
@@ -16,19 +16,27 @@ import com.minecolonies.api.colony.requestsystem.resolver.player.IPlayerRequestR
 import com.minecolonies.api.colony.requestsystem.resolver.retrying.IRetryingRequestResolver;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
 import com.minecolonies.api.util.ItemStackUtils;
+import com.minecolonies.api.util.NBTUtils;
 import com.minecolonies.api.util.constant.Constants;
 import com.minecolonies.api.util.constant.TypeConstants;
+import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.ColonySaveSection;
 import com.minecolonies.coremod.colony.requestsystem.management.IStandardRequestManager;
 import com.minecolonies.coremod.colony.requestsystem.management.handlers.*;
 import com.minecolonies.coremod.colony.requestsystem.management.manager.wrapped.WrappedStaticStateRequestManager;
 import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.nbt.NBTTagList;
+import net.minecraftforge.common.util.Constants.NBT;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
@@ -55,6 +63,11 @@ public class StandardRequestManager implements IStandardRequestManager
     private static final String NBT_ID_PLAYER                        = "PlayerRequestResolverId";
     private static final String NBT_ID_RETRYING                      = "RetryingRequestResolverId";
     private static final String NBT_VERSION = "Version";
+    private static final String NBT_SYNC_VERSION                     = "SyncVersion";
+    private static final String NBT_SYNC_BASE_VERSION                = "SyncBaseVersion";
+    private static final String NBT_SYNC_REQUESTS                    = "SyncRequests";
+    private static final String NBT_SYNC_REMOVED                     = "SyncRemoved";
+    private static final String NBT_NEXT_TOKEN                       = "NextTokenId";
     ////---------------------------NBTTags-------------------------\\\\
 
     private IToken<?> requestIdentitiesDataStoreId;
@@ -104,6 +117,31 @@ public class StandardRequestManager implements IStandardRequestManager
 
     private int version = -1;
 
+    /**
+     * Version of the state that was last synced to the subscribed clients.
+     */
+    private int syncVersion = 0;
+
+    /**
+     * The change counts of the requests at the moment they were last synced.
+     */
+    private final Map<IToken<?>, Integer> syncedRequests = new HashMap<>();
+
+    /**
+     * Variable describing if the subscribed clients need a full snapshot on the next sync.
+     */
+    private boolean fullSyncRequired = true;
+
+    /**
+     * Variable describing if the client knows the sync version of its state, which is only the case after a full snapshot.
+     */
+    private boolean syncBaseKnown = false;
+
+    /**
+     * Variable describing if the last sync on the client side did not apply to its state.
+     */
+    private boolean outOfSync = false;
+
     public StandardRequestManager(@NotNull final IColony colony)
     {
         this.colony = colony;
@@ -206,6 +244,10 @@ public class StandardRequestManager implements IStandardRequestManager
         if (this.isDirty())
         {
             colony.markDirty();
+            if (colony instanceof Colony)
+            {
+                ((Colony) colony).markSectionDirty(ColonySaveSection.REQUESTS);
+            }
         }
     }
 
@@ -326,6 +368,9 @@ public class StandardRequestManager implements IStandardRequestManager
     public void onProviderAddedToColony(@NotNull final IRequestResolverProvider provider)
     {
         getProviderHandler().registerProvider(provider);
+
+        //The new resolvers might be able to take requests which are waiting for a retry.
+        getRetryingRequestResolver().wakeUpAll();
     }
 
     @Override
@@ -396,6 +441,15 @@ public class StandardRequestManager implements IStandardRequestManager
 
         version = -1;
         getUpdateHandler().handleUpdate();
+        requireFullSync();
+    }
+
+    @Override
+    public void requireFullSync()
+    {
+        fullSyncRequired = true;
+        syncedRequests.clear();
+        dirty = true;
     }
 
     /**
@@ -408,6 +462,7 @@ public class StandardRequestManager implements IStandardRequestManager
     {
         final NBTTagCompound systemCompound = new NBTTagCompound();
         systemCompound.setInteger(NBT_VERSION, version);
+        systemCompound.setInteger(NBT_SYNC_VERSION, syncVersion);
 
         systemCompound.setTag(NBT_DATASTORE, getFactoryController().serialize(dataStoreManager));
         systemCompound.setTag(NBT_ID_REQUEST_IDENTITIES, getFactoryController().serialize(requestIdentitiesDataStoreId));
@@ -418,6 +473,7 @@ public class StandardRequestManager implements IStandardRequestManager
 
         systemCompound.setTag(NBT_ID_PLAYER, getFactoryController().serialize(playerRequestResolverId));
         systemCompound.setTag(NBT_ID_RETRYING, getFactoryController().serialize(retryingRequestResolverId));
+        systemCompound.setLong(NBT_NEXT_TOKEN, getTokenHandler().getNextTokenId());
 
         return systemCompound;
     }
@@ -430,6 +486,13 @@ public class StandardRequestManager implements IStandardRequestManager
     @Override
     public void deserializeNBT(final NBTTagCompound nbt)
     {
+        if (nbt.hasKey(NBT_SYNC_VERSION))
+        {
+            syncVersion = nbt.getInteger(NBT_SYNC_VERSION);
+            syncBaseKnown = true;
+        }
+        outOfSync = false;
+
         executeDeserializationStepOrMarkForUpdate(nbt,
           NBT_VERSION,
           NBTTagCompound::getInteger,
@@ -471,7 +534,107 @@ public class StandardRequestManager implements IStandardRequestManager
           NBTTagCompound::getCompoundTag,
           c -> retryingRequestResolverId = getFactoryController().deserialize(c));
 
+        if (nbt.hasKey(NBT_NEXT_TOKEN))
+        {
+            getTokenHandler().setNextTokenId(nbt.getLong(NBT_NEXT_TOKEN));
+        }
+
+        getResolverHandler().clearResolverCandidates();
         updateIfRequired();
+        requireFullSync();
+    }
+
+    @Override
+    public NBTTagCompound serializeEmptySyncNBT()
+    {
+        // Without the data stores the client resets its manager to empty ones.
+        final NBTTagCompound systemCompound = new NBTTagCompound();
+        systemCompound.setInteger(NBT_SYNC_VERSION, syncVersion);
+        return systemCompound;
+    }
+
+    @Override
+    public NBTTagCompound serializeSyncNBT()
+    {
+        syncVersion++;
+        final Map<IToken<?>, IRequest<?>> identities = getRequestIdentitiesDataStore().getIdentities();
+        if (fullSyncRequired)
+        {
+            fullSyncRequired = false;
+            identities.forEach((token, request) -> syncedRequests.put(token, request.getChangeCount()));
+            return serializeNBT();
+        }
+
+        final NBTTagCompound systemCompound = new NBTTagCompound();
+        systemCompound.setInteger(NBT_SYNC_BASE_VERSION, syncVersion - 1);
+        systemCompound.setInteger(NBT_SYNC_VERSION, syncVersion);
+        systemCompound.setTag(NBT_DATASTORE, getFactoryController().serialize(dataStoreManager.copyWithout(requestIdentitiesDataStoreId)));
+
+        final NBTTagList changedList = new NBTTagList();
+        for (final Map.Entry<IToken<?>, IRequest<?>> entry : identities.entrySet())
+        {
+            final Integer syncedChangeCount = syncedRequests.get(entry.getKey());
+            final int changeCount = entry.getValue().getChangeCount();
+            if (syncedChangeCount == null || changeCount < 0 || syncedChangeCount != changeCount)
+            {
+                changedList.appendTag(getFactoryController().serialize(entry.getValue()));
+                syncedRequests.put(entry.getKey(), changeCount);
+            }
+        }
+        systemCompound.setTag(NBT_SYNC_REQUESTS, changedList);
+
+        final NBTTagList removedList = new NBTTagList();
+        final Iterator<IToken<?>> syncedIterator = syncedRequests.keySet().iterator();
+        while (syncedIterator.hasNext())
+        {
+            final IToken<?> token = syncedIterator.next();
+            if (!identities.containsKey(token))
+            {
+                removedList.appendTag(getFactoryController().serialize(token));
+                syncedIterator.remove();
+            }
+        }
+        systemCompound.setTag(NBT_SYNC_REMOVED, removedList);
+
+        return systemCompound;
+    }
+
+    @Override
+    public boolean deserializeSyncNBT(final NBTTagCompound nbt)
+    {
+        if (!nbt.hasKey(NBT_SYNC_BASE_VERSION))
+        {
+            return false;
+        }
+
+        outOfSync = syncBaseKnown && nbt.getInteger(NBT_SYNC_BASE_VERSION) != syncVersion;
+        if (outOfSync)
+        {
+            getLogger().warn("Applying request system sync " + nbt.getInteger(NBT_SYNC_VERSION) + " on top of version " + syncVersion + ", requesting a full sync.");
+        }
+        syncVersion = nbt.getInteger(NBT_SYNC_VERSION);
+        syncBaseKnown = true;
+
+        final IRequestIdentitiesDataStore identitiesDataStore = getRequestIdentitiesDataStore();
+        final IDataStoreManager syncedDataStoreManager = getFactoryController().deserialize(nbt.getCompoundTag(NBT_DATASTORE));
+        syncedDataStoreManager.get(requestIdentitiesDataStoreId, () -> identitiesDataStore);
+        dataStoreManager = syncedDataStoreManager;
+
+        NBTUtils.streamCompound(nbt.getTagList(NBT_SYNC_REMOVED, NBT.TAG_COMPOUND))
+          .forEach(compound -> identitiesDataStore.removeRequest(getFactoryController().deserialize(compound)));
+        NBTUtils.streamCompound(nbt.getTagList(NBT_SYNC_REQUESTS, NBT.TAG_COMPOUND))
+          .forEach(compound -> {
+              final IRequest<?> request = getFactoryController().deserialize(compound);
+              identitiesDataStore.addRequest(request);
+          });
+
+        return true;
+    }
+
+    @Override
+    public boolean isOutOfSync()
+    {
+        return outOfSync;
     }
 
     private <T> void executeDeserializationStepOrMarkForUpdate(@NotNull final NBTTagCompound nbt, @NotNull final String key, @NotNull final BiFunction<NBTTagCompound, String, T> extractor, @NotNull final Consumer<T> valueConsumer)
@@ -54,6 +54,11 @@ public abstract class AbstractRequest<R extends IRequestable> implements IReques
 
     private ImmutableList<ItemStack> itemExamples;
 
+    /**
+     * Amount of changes made to this request, used to detect which requests need to be synced.
+     */
+    private int changeCount = 0;
+
     protected AbstractRequest(@NotNull final IRequester requester, @NotNull final IToken token, @NotNull final R requested)
     {
         this.requester = requester;
@@ -138,6 +143,7 @@ public abstract class AbstractRequest<R extends IRequestable> implements IReques
     public void setState(@NotNull final IRequestManager manager, @NotNull final RequestState state)
     {
         this.state = state;
+        this.changeCount++;
         manager.getLogger().debug("Updated state from: " + getId() + " to: " + state);
 
         if (this.hasParent() && this.getParent() != null)
@@ -191,6 +197,7 @@ public abstract class AbstractRequest<R extends IRequestable> implements IReques
     public void setResult(@NotNull final R result)
     {
         this.result = result;
+        this.changeCount++;
     }
 
     /**
@@ -227,6 +234,7 @@ public abstract class AbstractRequest<R extends IRequestable> implements IReques
     public <T extends IToken> void setParent(@Nullable final T parent)
     {
         this.parent = parent;
+        this.changeCount++;
     }
 
     /**
@@ -249,6 +257,7 @@ public abstract class AbstractRequest<R extends IRequestable> implements IReques
     public <T extends IToken> void addChild(@NotNull final T child)
     {
         this.children.add(child);
+        this.changeCount++;
     }
 
     /**
@@ -288,6 +297,7 @@ public abstract class AbstractRequest<R extends IRequestable> implements IReques
     public <T extends IToken> void removeChild(@NotNull final T child)
     {
         this.children.remove(child);
+        this.changeCount++;
     }
 
     /**
@@ -391,6 +401,12 @@ public abstract class AbstractRequest<R extends IRequestable> implements IReques
         return !getDeliveries().isEmpty();
     }
 
+    @Override
+    public int getChangeCount()
+    {
+        return changeCount;
+    }
+
     @NotNull
     @Override
     public ImmutableList<ItemStack> getDeliveries()
@@ -402,6 +418,7 @@ public abstract class AbstractRequest<R extends IRequestable> implements IReques
     public void overrideCurrentDeliveries(@NotNull final ImmutableList<ItemStack> stacks)
     {
         this.deliveries = Lists.newArrayList(stacks);
+        this.changeCount++;
     }
 
     @Override
@@ -409,6 +426,7 @@ public abstract class AbstractRequest<R extends IRequestable> implements IReques
     {
         this.deliveries.add(stack);
         this.deliveries = InventoryUtils.processItemStackListAndMerge(this.deliveries);
+        this.changeCount++;
     }
 
     @NotNull
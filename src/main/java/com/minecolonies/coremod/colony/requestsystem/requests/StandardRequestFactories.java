@@ -12,6 +12,7 @@ import com.minecolonies.api.colony.requestsystem.requestable.crafting.PrivateCra
 import com.minecolonies.api.colony.requestsystem.requestable.crafting.PublicCrafting;
 import com.minecolonies.api.colony.requestsystem.requester.IRequester;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
+import com.minecolonies.api.colony.requestsystem.token.TokenCodec;
 import com.minecolonies.api.util.NBTUtils;
 import com.minecolonies.api.util.constant.Suppression;
 import com.minecolonies.coremod.colony.requestable.SmeltableOre;
@@ -559,10 +560,10 @@ public final class StandardRequestFactories
         final NBTTagInt stateCompound = request.getState().serializeNBT();
         final NBTTagCompound requestedCompound = typeSerialization.apply(controller, request.getRequest());
 
-        final NBTTagList childrenCompound = new NBTTagList();
+        final List<IToken<?>> children = new ArrayList<>();
         for (final IToken token : request.getChildren())
         {
-            childrenCompound.appendTag(controller.serialize(token));
+            children.add(token);
         }
 
         compound.setTag(NBT_REQUESTER, requesterCompound);
@@ -580,7 +581,7 @@ public final class StandardRequestFactories
             compound.setTag(NBT_PARENT, controller.serialize(request.getParent()));
         }
 
-        compound.setTag(NBT_CHILDREN, childrenCompound);
+        TokenCodec.writeTokens(controller, compound, NBT_CHILDREN, children);
 
         final NBTTagList deliveriesList = new NBTTagList();
         request.getDeliveries().forEach(itemStack -> deliveriesList.appendTag(itemStack.writeToNBT(new NBTTagCompound())));
@@ -599,12 +600,7 @@ public final class StandardRequestFactories
         final RequestState state = RequestState.deserializeNBT((NBTTagInt) compound.getTag(NBT_STATE));
         final T requested = typeDeserialization.apply(controller, compound.getCompoundTag(NBT_REQUESTED));
 
-        final List<IToken> childTokens = new ArrayList<>();
-        final NBTTagList childCompound = compound.getTagList(NBT_CHILDREN, Constants.NBT.TAG_COMPOUND);
-        for (int i = 0; i < childCompound.tagCount(); i++)
-        {
-            childTokens.add(controller.deserialize(childCompound.getCompoundTagAt(i)));
-        }
+        final List<IToken> childTokens = new ArrayList<>(TokenCodec.readTokens(controller, compound, NBT_CHILDREN));
 
         @SuppressWarnings(Suppression.LEFT_CURLY_BRACE) final R request = objectConstructor.construct(requested, token, requester, state);
 
@@ -12,6 +12,7 @@ import com.minecolonies.api.colony.requestsystem.resolver.retrying.IRetryingRequ
 import com.minecolonies.api.colony.requestsystem.token.IToken;
 import com.minecolonies.api.configuration.Configurations;
 import com.minecolonies.api.util.constant.TypeConstants;
+import com.minecolonies.coremod.util.TimerWheel;
 import net.minecraft.util.text.ITextComponent;
 import net.minecraft.util.text.TextComponentString;
 import org.jetbrains.annotations.NotNull;
@@ -19,7 +20,6 @@ import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import static com.minecolonies.api.util.RSConstants.CONST_RETRYING_RESOLVER_PRIORITY;
 import static com.minecolonies.api.util.constant.Suppression.RAWTYPES;
@@ -29,13 +29,29 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
 
     private static final Integer CONST_RETRYING_ID_SCALE = -20000;
 
+    /**
+     * The amount of slots of the retry wheel, the default delay takes a few turns.
+     */
+    private static final int RETRY_WHEEL_SIZE = 256;
+
     private       IRequestManager manager;
     private final ILocation       location;
     private final IToken<?>       id;
     private       IToken<?>       current;
-    private final HashMap<IToken<?>, Integer> delays           = new HashMap<>();
     private final HashMap<IToken<?>, Integer> assignedRequests = new HashMap<>();
 
+    /**
+     * The next retry of each assigned request, one step per update.
+     */
+    private final TimerWheel<IToken<?>> retries = new TimerWheel<>(RETRY_WHEEL_SIZE);
+
+    /**
+     * The retries since the resolver got loaded, how many of them moved the request to another resolver, and how many were woken up early.
+     */
+    private int retryAttempts     = 0;
+    private int successfulRetries = 0;
+    private int wakeUps           = 0;
+
     public StandardRetryingRequestResolver(final IFactoryController factoryController, final IRequestManager manager)
     {
         this.updateManager(manager);
@@ -104,7 +120,7 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
     @Override
     public void resolveRequest(@NotNull final IRequestManager manager, @NotNull final IRequest<? extends IRetryable> request) throws RuntimeException
     {
-        delays.put(request.getId(), getMaximalDelayBetweenRetriesInTicks());
+        retries.schedule(request.getId(), getMaximalDelayBetweenRetriesInTicks());
         assignedRequests.put(request.getId(), assignedRequests.containsKey(request.getId()) ? assignedRequests.get(request.getId()) + 1 : 1);
     }
 
@@ -123,7 +139,7 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
     {
         if (assignedRequests.containsKey(request.getId()))
         {
-            delays.remove(request.getId());
+            retries.cancel(request.getId());
             assignedRequests.remove(request.getId());
         }
     }
@@ -144,53 +160,86 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
     @Override
     public void update()
     {
-        manager.getLogger().debug("Starting reassignment.");
+        final List<IToken<?>> due = retries.advance();
+        if (due.isEmpty())
+        {
+            return;
+        }
 
-        //Lets decrement all delays
-        getAllAssignedRequests().forEach(t -> {
-            Integer current = delays.remove(t);
-            delays.put(t, --current);
-        });
+        manager.getLogger().debug("Starting reassignment.");
 
-        //Lets get all keys with 0 residual delay:
-        final Set<IToken<?>> retryables = delays.keySet().stream().filter(t -> delays.get(t) == 0).collect(Collectors.toSet());
-        final Set<IToken<?>> successfully = retryables.stream().filter(t -> {
-            final Set<IToken<?>> blackList = assignedRequests.get(t) < getMaximalTries() ? ImmutableSet.of() : ImmutableSet.of(id);
+        for (final IToken<?> t : due)
+        {
+            if (assignedRequests.containsKey(t))
+            {
+                retry(t);
+            }
+        }
 
-            Integer currentAttempt = assignedRequests.get(t);
+        manager.getLogger().debug("Finished reassignment.");
+    }
 
-            this.setCurrent(t);
-            final IToken<?> resultingResolver;
+    /**
+     * Try to reassign a request to another resolver.
+     *
+     * @param t the token of the request.
+     */
+    private void retry(@NotNull final IToken<?> t)
+    {
+        final int currentAttempt = assignedRequests.get(t);
+        final Set<IToken<?>> blackList = currentAttempt < getMaximalTries() ? ImmutableSet.of() : ImmutableSet.of(id);
 
-            try
-            {
-                resultingResolver = manager.reassignRequest(t, blackList);
-            }
-            catch (Exception ex)
-            {
-                assignedRequests.remove(t);
-                delays.remove(t);
-                return false;
-            }
+        retryAttempts++;
+        this.setCurrent(t);
+        final IToken<?> resultingResolver;
 
+        try
+        {
+            resultingResolver = manager.reassignRequest(t, blackList);
+        }
+        catch (Exception ex)
+        {
+            assignedRequests.remove(t);
+            retries.cancel(t);
+            return;
+        }
+        finally
+        {
             this.setCurrent(null);
+        }
 
-            assignedRequests.put(t, ++currentAttempt);
-
-            if (resultingResolver != null && !resultingResolver.equals(getId()))
-            {
-                assignedRequests.remove(t);
-                delays.remove(t);
-            }
+        assignedRequests.put(t, currentAttempt + 1);
 
-            return resultingResolver != null;
-        }).collect(Collectors.toSet());
+        if (resultingResolver != null && !resultingResolver.equals(getId()))
+        {
+            assignedRequests.remove(t);
+            retries.cancel(t);
+            successfulRetries++;
+        }
+        else
+        {
+            manager.getLogger().debug("Failed to reassign a retryable request: " + t);
+        }
+    }
 
-        successfully.forEach(t -> {
-            manager.getLogger().debug("Failed to reassign a retryable request: " + id);
-        });
+    /**
+     * Retry a request in the next update instead of waiting for its delay.
+     *
+     * @param t the token of the request.
+     */
+    public void wakeUp(@NotNull final IToken<?> t)
+    {
+        if (assignedRequests.containsKey(t) && retries.getDelay(t) != 1)
+        {
+            retries.schedule(t, 1);
+            wakeUps++;
+        }
+    }
 
-        manager.getLogger().debug("Finished reassignment.");
+    @Override
+    public void wakeUpAll()
+    {
+        new ArrayList<>(assignedRequests.keySet()).forEach(this::wakeUp);
     }
 
     @Override
@@ -203,7 +252,7 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
     public void onSystemReset()
     {
         assignedRequests.clear();
-        delays.clear();
+        retries.clear();
     }
 
     public void setCurrent(@Nullable final IToken<?> token)
@@ -248,12 +297,22 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
         this.assignedRequests.clear();
         this.assignedRequests.putAll(newAssignedRequests);
 
-        this.delays.clear();
-        this.delays.putAll(newDelays);
+        this.retries.clear();
+        newDelays.forEach(retries::schedule);
     }
 
+    /**
+     * Get the remaining delays of the assigned requests.
+     *
+     * @return a new map with the amount of updates until each retry.
+     */
     public Map<IToken<?>, Integer> getDelays()
     {
+        final Map<IToken<?>, Integer> delays = new HashMap<>();
+        for (final IToken<?> t : retries.getItems())
+        {
+            delays.put(t, retries.getDelay(t));
+        }
         return delays;
     }
 
@@ -262,21 +321,46 @@ public class StandardRetryingRequestResolver implements IRetryingRequestResolver
         return assignedRequests;
     }
 
+    /**
+     * Get the amount of retries since the resolver got loaded.
+     *
+     * @return the amount.
+     */
+    public int getRetryAttempts()
+    {
+        return retryAttempts;
+    }
+
+    /**
+     * Get the amount of retries which moved the request to another resolver.
+     *
+     * @return the amount.
+     */
+    public int getSuccessfulRetries()
+    {
+        return successfulRetries;
+    }
+
+    /**
+     * Get the amount of retries which were brought forward by a change in the colony.
+     *
+     * @return the amount.
+     */
+    public int getWakeUps()
+    {
+        return wakeUps;
+    }
+
+    /**
+     * Brings the retry of the matching requests forward to the next update, instead of reassigning them right away.
+     */
     @Override
     public void onColonyUpdate(@NotNull final IRequestManager manager, @NotNull final Predicate<IRequest> shouldTriggerReassign)
     {
         new ArrayList<>(assignedRequests.keySet()).stream()
                 .map(manager::getRequestForToken)
-                .filter(shouldTriggerReassign)
                 .filter(Objects::nonNull)
-                .forEach(request ->
-                {
-                    final IToken newResolverToken = manager.reassignRequest(request.getId(), ImmutableList.of(getId()));
-
-                    if (newResolverToken != getId())
-                    {
-                        assignedRequests.remove(request.getId());
-                    }
-                });
+                .filter(shouldTriggerReassign)
+                .forEach(request -> wakeUp(request.getId()));
     }
 }
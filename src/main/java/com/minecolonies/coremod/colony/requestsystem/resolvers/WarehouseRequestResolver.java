@@ -25,7 +25,6 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
-import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -58,12 +57,10 @@ public class WarehouseRequestResolver extends AbstractRequestResolver<IDeliverab
                 return false;
 
             final Colony colony = (Colony) manager.getColony();
-            final Set<TileEntityWareHouse> wareHouses = getWareHousesInColony(colony);
-            wareHouses.removeIf(Objects::isNull);
 
             try
             {
-                return wareHouses.stream().anyMatch(wareHouse -> wareHouse.hasMatchingItemStackInWarehouse(itemStack -> requestToCheck.getRequest().matches(itemStack), requestToCheck.getRequest().getCount()));
+                return colony.getWarehouseStockSnapshot().getAvailable(requestToCheck.getRequest()) >= requestToCheck.getRequest().getCount();
             }
             catch (Exception e)
             {
@@ -108,15 +105,9 @@ public class WarehouseRequestResolver extends AbstractRequestResolver<IDeliverab
 
         final Colony colony = (Colony) manager.getColony();
 
-        final Set<TileEntityWareHouse> wareHouses = getWareHousesInColony(colony);
-
+        // Reserved for the rest of the tick, so other requests assigned in this tick can't count on the same items.
         final int totalRequested = request.getRequest().getCount();
-        final int totalAvailable = wareHouses.stream()
-                                     .map(wareHouse -> wareHouse.getMatchingItemStacksInWarehouse(itemStack -> request.getRequest().matches(itemStack)))
-                                     .filter(itemStacks -> !itemStacks.isEmpty())
-                                     .flatMap(List::stream)
-                                     .mapToInt(ItemStack::getCount)
-                                     .sum();
+        final int totalAvailable = colony.getWarehouseStockSnapshot().reserve(request.getId(), request.getRequest(), totalRequested);
 
         if (totalAvailable >= totalRequested)
             return Lists.newArrayList();
@@ -151,7 +142,7 @@ public class WarehouseRequestResolver extends AbstractRequestResolver<IDeliverab
         tileentities:
         for (final TileEntityWareHouse wareHouse : wareHouses)
         {
-            final List<ItemStack> targetStacks = wareHouse.getMatchingItemStacksInWarehouse(itemStack -> completedRequest.getRequest().matches(itemStack));
+            final List<ItemStack> targetStacks = wareHouse.getMatchingItemStacksInWarehouse(completedRequest.getRequest());
             for (final ItemStack stack :
               targetStacks)
             {
@@ -191,13 +182,28 @@ public class WarehouseRequestResolver extends AbstractRequestResolver<IDeliverab
     public void onAssignedRequestBeingCancelled(
       @NotNull final IRequestManager manager, @NotNull final IRequest<? extends IDeliverable> request)
     {
+        releaseReservation(manager, request);
     }
 
     @Override
     public void onAssignedRequestCancelled(
       @NotNull final IRequestManager manager, @NotNull final IRequest<? extends IDeliverable> request)
     {
+        releaseReservation(manager, request);
+    }
 
+    /**
+     * Give back the items reserved for a request in this tick, so other requests of the tick can use them.
+     *
+     * @param manager the request manager.
+     * @param request the cancelled request.
+     */
+    private static void releaseReservation(@NotNull final IRequestManager manager, @NotNull final IRequest<?> request)
+    {
+        if (!manager.getColony().getWorld().isRemote && manager.getColony() instanceof Colony)
+        {
+            ((Colony) manager.getColony()).getWarehouseStockSnapshot().release(request.getId());
+        }
     }
 
     private static Set<TileEntityWareHouse> getWareHousesInColony(final Colony colony)
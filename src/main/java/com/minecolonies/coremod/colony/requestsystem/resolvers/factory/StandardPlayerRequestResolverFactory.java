@@ -6,15 +6,14 @@ import com.minecolonies.api.colony.requestsystem.factory.IFactoryController;
 import com.minecolonies.api.colony.requestsystem.location.ILocation;
 import com.minecolonies.api.colony.requestsystem.manager.IRequestManager;
 import com.minecolonies.api.colony.requestsystem.token.IToken;
-import com.minecolonies.api.util.NBTUtils;
+import com.minecolonies.api.colony.requestsystem.token.TokenCodec;
 import com.minecolonies.api.util.constant.TypeConstants;
 import com.minecolonies.coremod.colony.requestsystem.resolvers.StandardPlayerRequestResolver;
 import net.minecraft.nbt.NBTTagCompound;
-import net.minecraftforge.common.util.Constants;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.HashSet;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 /**
  * ------------ Class not Documented ------------
@@ -71,7 +70,7 @@ public class StandardPlayerRequestResolverFactory implements IFactory<IRequestMa
         final NBTTagCompound compound = new NBTTagCompound();
         compound.setTag(NBT_TOKEN, controller.serialize(playerRequestResolver.getId()));
         compound.setTag(NBT_LOCATION, controller.serialize(playerRequestResolver.getLocation()));
-        compound.setTag(NBT_ASSIGNED_REQUESTS, playerRequestResolver.getAllAssignedRequests().stream().map(controller::serialize).collect(NBTUtils.toNBTTagList()));
+        TokenCodec.writeTokens(controller, compound, NBT_ASSIGNED_REQUESTS, playerRequestResolver.getAllAssignedRequests());
         return compound;
     }
 
@@ -83,7 +82,7 @@ public class StandardPlayerRequestResolverFactory implements IFactory<IRequestMa
         final ILocation location = controller.deserialize(nbt.getCompoundTag(NBT_LOCATION));
 
         final Set<IToken<?>> assignedRequests =
-          NBTUtils.streamCompound(nbt.getTagList(NBT_ASSIGNED_REQUESTS, Constants.NBT.TAG_COMPOUND)).map(c -> (IToken<?>) controller.deserialize(c)).collect(Collectors.toSet());
+          new HashSet<>(TokenCodec.readTokens(controller, nbt, NBT_ASSIGNED_REQUESTS));
 
         final StandardPlayerRequestResolver resolver = new StandardPlayerRequestResolver(location, token);
         resolver.setAllAssignedRequests(assignedRequests);
@@ -77,6 +77,11 @@ public abstract class AbstractWorkOrder implements IWorkOrder
      */
     private   boolean  changed = false;
 
+    /**
+     * If the saved state of the workOrder changed.
+     */
+    private   boolean  unsaved = false;
+
     /**
      * The location to built at.
      */
@@ -267,6 +272,22 @@ public abstract class AbstractWorkOrder implements IWorkOrder
         changed = false;
     }
 
+    @Override
+    public boolean pollUnsavedChange()
+    {
+        final boolean wasUnsaved = unsaved;
+        unsaved = false;
+        return wasUnsaved;
+    }
+
+    /**
+     * Marks the saved state of the workOrder as changed, without updating the views.
+     */
+    protected void markUnsaved()
+    {
+        unsaved = true;
+    }
+
     /**
      * Get the ID of the Work Order.
      *
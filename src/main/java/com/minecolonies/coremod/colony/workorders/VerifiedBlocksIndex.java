@@ -0,0 +1,96 @@
+package com.minecolonies.coremod.colony.workorders;
+
+import com.minecolonies.api.entity.ai.util.VerifiedBlocks;
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.minecraft.util.math.BlockPos;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The verified blocks of the active decoration work orders of all colonies, per dimension.
+ * <p>
+ * Block changes anywhere in a dimension are checked against the footprint of every set of that dimension, so a change in a chunk which
+ * isn't claimed by the colony of the work order still clears the bit of its position. Nothing is allocated per block change.
+ */
+public final class VerifiedBlocksIndex
+{
+    /**
+     * The registered sets per dimension.
+     */
+    private static final Int2ObjectMap<List<VerifiedBlocks>> BY_DIMENSION = new Int2ObjectOpenHashMap<>();
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private VerifiedBlocksIndex()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Register the verified blocks of a work order.
+     *
+     * @param dimension      the dimension of the colony of the work order.
+     * @param verifiedBlocks the verified blocks.
+     */
+    public static void add(final int dimension, @NotNull final VerifiedBlocks verifiedBlocks)
+    {
+        final List<VerifiedBlocks> list = BY_DIMENSION.computeIfAbsent(dimension, dim -> new ArrayList<>());
+        if (!list.contains(verifiedBlocks))
+        {
+            list.add(verifiedBlocks);
+        }
+    }
+
+    /**
+     * Unregister the verified blocks of a work order.
+     *
+     * @param dimension      the dimension of the colony of the work order.
+     * @param verifiedBlocks the verified blocks.
+     */
+    public static void remove(final int dimension, @NotNull final VerifiedBlocks verifiedBlocks)
+    {
+        final List<VerifiedBlocks> list = BY_DIMENSION.get(dimension);
+        if (list != null)
+        {
+            list.remove(verifiedBlocks);
+            if (list.isEmpty())
+            {
+                BY_DIMENSION.remove(dimension);
+            }
+        }
+    }
+
+    /**
+     * Forget all registered verified blocks, when the server stops.
+     */
+    public static void clear()
+    {
+        BY_DIMENSION.clear();
+    }
+
+    /**
+     * Called when a block changed, clears the bit of its position in every set whose footprint contains it.
+     *
+     * @param dimension the dimension of the block.
+     * @param pos       the position of the block.
+     */
+    public static void invalidate(final int dimension, @NotNull final BlockPos pos)
+    {
+        final List<VerifiedBlocks> list = BY_DIMENSION.get(dimension);
+        if (list == null)
+        {
+            return;
+        }
+
+        for (int i = 0; i < list.size(); i++)
+        {
+            list.get(i).invalidate(pos);
+        }
+    }
+}
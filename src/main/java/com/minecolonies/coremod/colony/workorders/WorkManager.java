@@ -9,6 +9,7 @@ import com.minecolonies.api.colony.workorders.IWorkOrder;
 import com.minecolonies.api.util.AdvancementUtils;
 import com.minecolonies.api.util.Log;
 import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.ColonySaveSection;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
 import net.minecraft.util.math.BlockPos;
@@ -72,8 +73,10 @@ public class WorkManager implements IWorkManager
         if (workOrder != null)
         {
             workOrders.remove(orderId);
+            unregisterVerifiedBlocks(workOrder);
             colony.removeWorkOrderInView(orderId);
             workOrder.onRemoved(colony);
+            colony.markSectionDirty(ColonySaveSection.WORK_ORDERS);
             colony.markDirty();
         }
     }
@@ -166,7 +169,7 @@ public class WorkManager implements IWorkManager
     @Override
     public void clearWorkForCitizen(@NotNull final ICitizenData citizen)
     {
-        dirty = true;
+        markChanged();
         workOrders.values().stream().filter(o -> o != null && o.isClaimedBy(citizen)).forEach(IWorkOrder::clearClaimedBy);
     }
 
@@ -197,6 +200,7 @@ public class WorkManager implements IWorkManager
     @Override
     public void readFromNBT(@NotNull final NBTTagCompound compound)
     {
+        workOrders.values().forEach(this::unregisterVerifiedBlocks);
         workOrders.clear();
         //  Work Orders
         final NBTTagList list = compound.getTagList(TAG_WORK_ORDERS, NBT.TAG_COMPOUND);
@@ -230,7 +234,7 @@ public class WorkManager implements IWorkManager
     @Override
     public void addWorkOrder(@NotNull final IWorkOrder order, final boolean readingFromNbt)
     {
-        dirty = true;
+        markChanged();
 
         if (order instanceof WorkOrderBuildDecoration)
         {
@@ -271,9 +275,26 @@ public class WorkManager implements IWorkManager
             }
         }
         workOrders.put(order.getID(), order);
+        if (order instanceof WorkOrderBuildDecoration)
+        {
+            VerifiedBlocksIndex.add(colony.getDimension(), ((WorkOrderBuildDecoration) order).getVerifiedBlocks());
+        }
         order.onAdded(colony, readingFromNbt);
     }
 
+    /**
+     * Stop tracking block changes for a work order which is removed.
+     *
+     * @param order the work order.
+     */
+    private void unregisterVerifiedBlocks(@NotNull final IWorkOrder order)
+    {
+        if (order instanceof WorkOrderBuildDecoration)
+        {
+            VerifiedBlocksIndex.remove(colony.getDimension(), ((WorkOrderBuildDecoration) order).getVerifiedBlocks());
+        }
+    }
+
     /**
      * Process updates on the Colony Tick. Currently, does periodic Work Order cleanup.
      *
@@ -289,12 +310,18 @@ public class WorkManager implements IWorkManager
             if (!o.isValid(this.colony))
             {
                 iter.remove();
-                dirty = true;
+                unregisterVerifiedBlocks(o);
+                markChanged();
             }
             else if (o.hasChanged())
             {
-                dirty = true;
+                markChanged();
                 o.resetChange();
+                o.pollUnsavedChange();
+            }
+            else if (o.pollUnsavedChange())
+            {
+                colony.markSectionDirty(ColonySaveSection.WORK_ORDERS);
             }
         }
     }
@@ -314,6 +341,15 @@ public class WorkManager implements IWorkManager
                  .collect(Collectors.toList());
     }
 
+    /**
+     * Mark the work orders as changed, for the views and for saving.
+     */
+    private void markChanged()
+    {
+        dirty = true;
+        colony.markSectionDirty(ColonySaveSection.WORK_ORDERS);
+    }
+
     /**
      * Checks if changes has been made.
      *
@@ -334,6 +370,10 @@ public class WorkManager implements IWorkManager
     public void setDirty(final boolean dirty)
     {
         this.dirty = dirty;
+        if (dirty)
+        {
+            colony.markSectionDirty(ColonySaveSection.WORK_ORDERS);
+        }
     }
 
     @Override
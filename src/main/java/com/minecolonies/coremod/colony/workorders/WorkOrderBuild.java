@@ -28,7 +28,8 @@ public class WorkOrderBuild extends WorkOrderBuildDecoration
     /**
      * Max distance a builder can have from the building site.
      */
-    private static final double MAX_DISTANCE_SQ = 100*100;
+    private static final int    MAX_DISTANCE    = 100;
+    private static final double MAX_DISTANCE_SQ = MAX_DISTANCE * MAX_DISTANCE;
 
     private int    upgradeLevel;
     private String upgradeName;
@@ -152,7 +153,7 @@ public class WorkOrderBuild extends WorkOrderBuildDecoration
     @Override
     public boolean tooFarFromAnyBuilder(final IColony colony, final int level)
     {
-        return colony.getBuildingManager().getBuildings().values().stream().noneMatch(building -> building instanceof BuildingBuilder && building.getMainCitizen() != null && building.getPosition().distanceSq(this.getBuildingLocation()) <= MAX_DISTANCE_SQ);
+        return colony.getBuildingManager().getBuildingsInRadius(this.getBuildingLocation(), MAX_DISTANCE, BuildingBuilder.class).stream().noneMatch(building -> building.getMainCitizen() != null);
     }
 
     /**
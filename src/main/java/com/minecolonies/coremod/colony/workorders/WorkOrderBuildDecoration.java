@@ -7,6 +7,7 @@ import com.minecolonies.api.colony.ICitizenData;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.workorders.IWorkManager;
 import com.minecolonies.api.colony.workorders.WorkOrderType;
+import com.minecolonies.api.entity.ai.util.VerifiedBlocks;
 import com.minecolonies.api.util.AdvancementUtils;
 import com.minecolonies.api.util.LanguageHandler;
 import com.minecolonies.api.util.Log;
@@ -39,6 +40,7 @@ public class WorkOrderBuildDecoration extends AbstractWorkOrder
     private static final String TAG_SCHEMATIC_MD5     = "schematicMD5";
     private static final String TAG_BUILDING_ROTATION = "buildingRotation";
     private static final String TAG_AMOUNT_OF_RES     = "resQuantity";
+    private static final String TAG_VERIFIED_BLOCKS   = "verifiedBlocks";
 
     protected boolean  isBuildingMirrored;
     protected int      buildingRotation;
@@ -51,6 +53,11 @@ public class WorkOrderBuildDecoration extends AbstractWorkOrder
     protected boolean hasSentMessageForThisWorkOrder = false;
     private   boolean requested;
 
+    /**
+     * The positions of the structure which already match the world.
+     */
+    private final VerifiedBlocks verifiedBlocks = new VerifiedBlocks();
+
     /**
      * Unused constructor for reflection.
      */
@@ -134,6 +141,7 @@ public class WorkOrderBuildDecoration extends AbstractWorkOrder
         isBuildingMirrored = compound.getBoolean(TAG_IS_MIRRORED);
         amountOfRes = compound.getInteger(TAG_AMOUNT_OF_RES);
         levelUp = compound.getBoolean(TAG_LEVEL);
+        verifiedBlocks.readFromNBT(compound.getCompoundTag(TAG_VERIFIED_BLOCKS));
     }
 
     /**
@@ -167,6 +175,13 @@ public class WorkOrderBuildDecoration extends AbstractWorkOrder
         compound.setBoolean(TAG_IS_MIRRORED, isBuildingMirrored);
         compound.setInteger(TAG_AMOUNT_OF_RES, amountOfRes);
         compound.setBoolean(TAG_LEVEL, levelUp);
+
+        if (verifiedBlocks.size() > 0)
+        {
+            final NBTTagCompound verifiedCompound = new NBTTagCompound();
+            verifiedBlocks.writeToNBT(verifiedCompound);
+            compound.setTag(TAG_VERIFIED_BLOCKS, verifiedCompound);
+        }
     }
 
     @Override
@@ -326,7 +341,11 @@ public class WorkOrderBuildDecoration extends AbstractWorkOrder
      */
     public void setCleared(final boolean cleared)
     {
-        this.cleared = cleared;
+        if (this.cleared != cleared)
+        {
+            this.cleared = cleared;
+            markUnsaved();
+        }
     }
 
     /**
@@ -346,7 +365,11 @@ public class WorkOrderBuildDecoration extends AbstractWorkOrder
      */
     public void setRequested(final boolean requested)
     {
-        this.requested = requested;
+        if (this.requested != requested)
+        {
+            this.requested = requested;
+            markUnsaved();
+        }
     }
 
     /**
@@ -365,7 +388,11 @@ public class WorkOrderBuildDecoration extends AbstractWorkOrder
      */
     public void setAmountOfRes(final int amountOfRes)
     {
-        this.amountOfRes = amountOfRes;
+        if (this.amountOfRes != amountOfRes)
+        {
+            this.amountOfRes = amountOfRes;
+            markUnsaved();
+        }
     }
 
     /**
@@ -376,4 +403,22 @@ public class WorkOrderBuildDecoration extends AbstractWorkOrder
     {
         return amountOfRes;
     }
+
+    @Override
+    public boolean pollUnsavedChange()
+    {
+        final boolean verifiedChanged = verifiedBlocks.pollChanged();
+        return super.pollUnsavedChange() || verifiedChanged;
+    }
+
+    /**
+     * Get the positions of the structure which already match the world.
+     *
+     * @return the verified blocks.
+     */
+    @NotNull
+    public VerifiedBlocks getVerifiedBlocks()
+    {
+        return verifiedBlocks;
+    }
 }
@@ -5,6 +5,15 @@ import com.minecolonies.coremod.commands.citizencommands.*;
 import com.minecolonies.coremod.commands.colonycommands.*;
 import com.minecolonies.coremod.commands.colonycommands.requestsystem.RSResetAllCommand;
 import com.minecolonies.coremod.commands.colonycommands.requestsystem.RSResetCommand;
+import com.minecolonies.coremod.commands.debugcommands.AIProfileCommand;
+import com.minecolonies.coremod.commands.debugcommands.BlueprintCacheCommand;
+import com.minecolonies.coremod.commands.debugcommands.ColonyTickProfileCommand;
+import com.minecolonies.coremod.commands.debugcommands.PathCacheStatsCommand;
+import com.minecolonies.coremod.commands.debugcommands.PathfindingStatsCommand;
+import com.minecolonies.coremod.commands.debugcommands.RetryStatsCommand;
+import com.minecolonies.coremod.commands.debugcommands.SaveStatsCommand;
+import com.minecolonies.coremod.commands.debugcommands.StructureScanCommand;
+import com.minecolonies.coremod.commands.debugcommands.ViewPacketStatsCommand;
 import com.minecolonies.coremod.commands.generalcommands.*;
 import com.minecolonies.coremod.commands.killcommands.*;
 import org.jetbrains.annotations.NotNull;
@@ -297,6 +306,71 @@ public enum ActionMenuType implements IMenuType
       new ActionArgument("building", ActionArgumentType.STRING, ActionArgumentType.Is.REQUIRED),
       new ActionArgument("paste", ActionArgumentType.BOOLEAN, ActionArgumentType.Is.OPTIONAL),
       new ActionArgument("level", ActionArgumentType.INTEGER, ActionArgumentType.Is.OPTIONAL)
+    )),
+    PATHFINDING_STATS(new ActionMenu(
+      "PathfindingStats",
+      "pathfinding",
+      ForgePermissionNodes.PATHFINDING_STATS,
+      PathfindingStatsCommand.class
+    )),
+    PATH_CACHE_STATS(new ActionMenu(
+      "PathCacheStats",
+      "pathcache",
+      ForgePermissionNodes.PATH_CACHE_STATS,
+      PathCacheStatsCommand.class,
+      new ActionArgument("clear", ActionArgumentType.BOOLEAN, ActionArgumentType.Is.OPTIONAL)
+    )),
+    SAVE_STATS(new ActionMenu(
+      "SaveStats",
+      "savestats",
+      ForgePermissionNodes.SAVE_STATS,
+      SaveStatsCommand.class
+    )),
+    COLONY_TICK_PROFILE(new ActionMenu(
+      "ColonyTickProfile",
+      "colonyticks",
+      ForgePermissionNodes.COLONY_TICK_PROFILE,
+      ColonyTickProfileCommand.class,
+      new ActionArgument("enable", ActionArgumentType.BOOLEAN, ActionArgumentType.Is.OPTIONAL),
+      new ActionArgument("reset", ActionArgumentType.BOOLEAN, ActionArgumentType.Is.OPTIONAL),
+      new ActionArgument("csv", ActionArgumentType.BOOLEAN, ActionArgumentType.Is.OPTIONAL),
+      new ActionArgument("colony", ActionArgumentType.COLONY, ActionArgumentType.Is.OPTIONAL)
+    )),
+    AI_PROFILE(new ActionMenu(
+      "AIProfile",
+      "aiprofile",
+      ForgePermissionNodes.AI_PROFILE,
+      AIProfileCommand.class,
+      new ActionArgument("mode", ActionArgumentType.STRING, ActionArgumentType.Is.OPTIONAL),
+      new ActionArgument("top", ActionArgumentType.INTEGER, ActionArgumentType.Is.OPTIONAL),
+      new ActionArgument("colony", ActionArgumentType.COLONY, ActionArgumentType.Is.OPTIONAL),
+      new ActionArgument("reset", ActionArgumentType.BOOLEAN, ActionArgumentType.Is.OPTIONAL)
+    )),
+    VIEW_PACKET_STATS(new ActionMenu(
+      "ViewPacketStats",
+      "viewpackets",
+      ForgePermissionNodes.VIEW_PACKET_STATS,
+      ViewPacketStatsCommand.class,
+      new ActionArgument("reset", ActionArgumentType.BOOLEAN, ActionArgumentType.Is.OPTIONAL)
+    )),
+    BLUEPRINT_CACHE(new ActionMenu(
+      "BlueprintCache",
+      "blueprintcache",
+      ForgePermissionNodes.BLUEPRINT_CACHE,
+      BlueprintCacheCommand.class,
+      new ActionArgument("clear", ActionArgumentType.BOOLEAN, ActionArgumentType.Is.OPTIONAL)
+    )),
+    STRUCTURE_SCANS(new ActionMenu(
+      "StructureScans",
+      "structurescans",
+      ForgePermissionNodes.STRUCTURE_SCANS,
+      StructureScanCommand.class
+    )),
+    RETRY_STATS(new ActionMenu(
+      "RetryStats",
+      "retrystats",
+      ForgePermissionNodes.RETRY_STATS,
+      RetryStatsCommand.class
     )),;
 
     @NotNull private final ActionMenu menu;
@@ -48,12 +48,25 @@ public enum NavigationMenuType implements IMenuType
         ActionMenuType.SHEEP_KILL
     )),
 
+    DEBUG(new NavigationMenu("debug",
+        ActionMenuType.PATHFINDING_STATS,
+        ActionMenuType.PATH_CACHE_STATS,
+        ActionMenuType.SAVE_STATS,
+        ActionMenuType.COLONY_TICK_PROFILE,
+        ActionMenuType.AI_PROFILE,
+        ActionMenuType.VIEW_PACKET_STATS,
+        ActionMenuType.BLUEPRINT_CACHE,
+        ActionMenuType.STRUCTURE_SCANS,
+        ActionMenuType.RETRY_STATS
+    )),
+
     MINECOLONIES(new NavigationMenu("mineColonies",
             NavigationMenuType.COLONIES,
             NavigationMenuType.DELETE,
             NavigationMenuType.COLONY,
             NavigationMenuType.CITIZENS,
             NavigationMenuType.REQUEST_SYSTEM,
+            NavigationMenuType.DEBUG,
             ActionMenuType.RANDOM_TELEPORT,
             ActionMenuType.BACKUP,
             ActionMenuType.HOME_TELEPORT,
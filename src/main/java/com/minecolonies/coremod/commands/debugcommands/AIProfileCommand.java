@@ -0,0 +1,156 @@
+package com.minecolonies.coremod.commands.debugcommands;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.coremod.commands.AbstractSingleCommand;
+import com.minecolonies.coremod.commands.ActionMenuState;
+import com.minecolonies.coremod.commands.IActionCommand;
+import com.minecolonies.coremod.entity.ai.basic.AIStateProfiler;
+import com.minecolonies.coremod.util.TimingStatistic;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.TextComponentString;
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.Nullable;
+import java.util.*;
+
+/**
+ * Switches the worker AI profiler between off, sampled and full, and prints the hottest AI states and targets, server wide or of one colony.
+ */
+public class AIProfileCommand extends AbstractSingleCommand implements IActionCommand
+{
+    /**
+     * Command description.
+     */
+    public static final String DESC = "aiprofile";
+
+    /**
+     * Default amount of printed entries.
+     */
+    private static final int DEFAULT_TOP = 10;
+
+    /**
+     * Messages sent by the command.
+     */
+    private static final String MODE_MESSAGE         = "AI profiler mode: %s (sampled mode records every %dth check).";
+    private static final String UNKNOWN_MODE_MESSAGE = "Unknown mode %s, use off, sampled or full.";
+    private static final String STATES_MESSAGE       = "Hottest states%s:";
+    private static final String TARGETS_MESSAGE      = "Hottest targets%s:";
+    private static final String COLONY_SUFFIX        = " of colony %d";
+    private static final String ENTRY_MESSAGE        = " - %s: %s";
+    private static final String RESET_MESSAGE        = "AI profiles reset.";
+
+    /**
+     * no-args constructor called by new CommandEntryPoint executer.
+     */
+    public AIProfileCommand()
+    {
+        super();
+    }
+
+    /**
+     * Initialize this SubCommand with it's parents.
+     *
+     * @param parents an array of all the parents.
+     */
+    public AIProfileCommand(@NotNull final String... parents)
+    {
+        super(parents);
+    }
+
+    @Override
+    public void execute(@NotNull final MinecraftServer server, @NotNull final ICommandSender sender, @NotNull final ActionMenuState actionMenuState) throws CommandException
+    {
+        final IColony colony = actionMenuState.getColonyForArgument("colony");
+        executeShared(sender,
+          actionMenuState.getStringForArgument("mode"),
+          actionMenuState.getIntValueForArgument("top", DEFAULT_TOP),
+          colony == null ? null : colony.getID(),
+          actionMenuState.getBooleanValueForArgument("reset", false));
+    }
+
+    @Override
+    public void execute(@NotNull final MinecraftServer server, @NotNull final ICommandSender sender, @NotNull final String... args) throws CommandException
+    {
+        executeShared(sender, args.length > 0 ? args[0] : null, DEFAULT_TOP, null, false);
+    }
+
+    private static void executeShared(
+      @NotNull final ICommandSender sender,
+      @Nullable final String mode,
+      final int top,
+      @Nullable final Integer colonyId,
+      final boolean reset)
+    {
+        if (mode != null)
+        {
+            try
+            {
+                AIStateProfiler.setMode(AIStateProfiler.Mode.valueOf(mode.toUpperCase(Locale.US)));
+            }
+            catch (final IllegalArgumentException e)
+            {
+                sender.sendMessage(new TextComponentString(String.format(UNKNOWN_MODE_MESSAGE, mode)));
+            }
+        }
+        sender.sendMessage(new TextComponentString(String.format(MODE_MESSAGE, AIStateProfiler.getMode(), AIStateProfiler.SAMPLE_INTERVAL)));
+
+        final String suffix = colonyId == null ? "" : String.format(COLONY_SUFFIX, colonyId);
+        final Map<String, TimingStatistic> targets = AIStateProfiler.getTimings(colonyId);
+
+        // The keys are "job state target part", sum them up by job and state.
+        final Map<String, TimingStatistic> states = new HashMap<>();
+        for (final Map.Entry<String, TimingStatistic> entry : targets.entrySet())
+        {
+            final String[] parts = entry.getKey().split(" ");
+            states.computeIfAbsent(parts[0] + " " + parts[1], key -> new TimingStatistic()).add(entry.getValue());
+        }
+
+        sender.sendMessage(new TextComponentString(String.format(STATES_MESSAGE, suffix)));
+        sendTop(sender, states, top);
+        sender.sendMessage(new TextComponentString(String.format(TARGETS_MESSAGE, suffix)));
+        sendTop(sender, targets, top);
+
+        if (reset)
+        {
+            AIStateProfiler.reset();
+            sender.sendMessage(new TextComponentString(RESET_MESSAGE));
+        }
+    }
+
+    /**
+     * Send the entries with the highest total time.
+     *
+     * @param sender  the receiver.
+     * @param timings the timings.
+     * @param top     the amount of entries to send.
+     */
+    private static void sendTop(@NotNull final ICommandSender sender, @NotNull final Map<String, TimingStatistic> timings, final int top)
+    {
+        final List<Map.Entry<String, TimingStatistic>> entries = new ArrayList<>(timings.entrySet());
+        entries.sort(Comparator.comparingLong((Map.Entry<String, TimingStatistic> entry) -> entry.getValue().getTotalNanos()).reversed());
+        for (final Map.Entry<String, TimingStatistic> entry : entries.subList(0, Math.min(Math.max(top, 0), entries.size())))
+        {
+            sender.sendMessage(new TextComponentString(String.format(ENTRY_MESSAGE, entry.getKey(), entry.getValue())));
+        }
+    }
+
+    @NotNull
+    @Override
+    public List<String> getTabCompletionOptions(
+                                                 @NotNull final MinecraftServer server,
+                                                 @NotNull final ICommandSender sender,
+                                                 @NotNull final String[] args,
+                                                 @Nullable final BlockPos pos)
+    {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public boolean isUsernameIndex(@NotNull final String[] args, final int index)
+    {
+        return false;
+    }
+}
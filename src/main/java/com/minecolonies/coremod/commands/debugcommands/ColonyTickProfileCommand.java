@@ -0,0 +1,218 @@
+package com.minecolonies.coremod.commands.debugcommands;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.api.util.Log;
+import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.colony.ColonyTickProfiler;
+import com.minecolonies.coremod.commands.AbstractSingleCommand;
+import com.minecolonies.coremod.commands.ActionMenuState;
+import com.minecolonies.coremod.commands.IActionCommand;
+import com.minecolonies.coremod.util.TimingStatistic;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.TextComponentString;
+import net.minecraftforge.common.DimensionManager;
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.Nullable;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.*;
+
+import static com.minecolonies.api.util.constant.ColonyManagerConstants.FILENAME_MINECOLONIES_PATH;
+
+/**
+ * Switches the colony tick profiler on and off, and prints or dumps the recorded timings per colony, state and transition.
+ */
+public class ColonyTickProfileCommand extends AbstractSingleCommand implements IActionCommand
+{
+    /**
+     * Command description.
+     */
+    public static final String DESC = "colonyticks";
+
+    /**
+     * Name of the file the timings are dumped to.
+     */
+    private static final String CSV_FILE = "colony_tick_profile.csv";
+
+    /**
+     * Amount of transitions printed per colony.
+     */
+    private static final int TOP_TRANSITIONS = 5;
+
+    /**
+     * Messages sent by the command.
+     */
+    private static final String ENABLED_MESSAGE  = "Colony tick profiler is %s.";
+    private static final String RESET_MESSAGE    = "Colony tick profiles reset.";
+    private static final String CSV_MESSAGE      = "Colony tick profiles written to %s.";
+    private static final String CSV_FAIL_MESSAGE = "Could not write the colony tick profiles, see the log.";
+    private static final String COLONY_MESSAGE   = "Colony %d (%s): %s";
+    private static final String ENTRY_MESSAGE    = " - %s: %s";
+
+    /**
+     * no-args constructor called by new CommandEntryPoint executer.
+     */
+    public ColonyTickProfileCommand()
+    {
+        super();
+    }
+
+    /**
+     * Initialize this SubCommand with it's parents.
+     *
+     * @param parents an array of all the parents.
+     */
+    public ColonyTickProfileCommand(@NotNull final String... parents)
+    {
+        super(parents);
+    }
+
+    @Override
+    public void execute(@NotNull final MinecraftServer server, @NotNull final ICommandSender sender, @NotNull final ActionMenuState actionMenuState) throws CommandException
+    {
+        executeShared(sender,
+          actionMenuState.getBooleanForArgument("enable"),
+          actionMenuState.getBooleanValueForArgument("reset", false),
+          actionMenuState.getBooleanValueForArgument("csv", false),
+          actionMenuState.getColonyForArgument("colony"));
+    }
+
+    @Override
+    public void execute(@NotNull final MinecraftServer server, @NotNull final ICommandSender sender, @NotNull final String... args) throws CommandException
+    {
+        final String enable = getArgumentValue(args, "enable");
+        executeShared(sender,
+          enable == null ? null : Boolean.parseBoolean(enable),
+          Boolean.parseBoolean(getArgumentValue(args, "reset")),
+          Boolean.parseBoolean(getArgumentValue(args, "csv")),
+          null);
+    }
+
+    /**
+     * Get the value following an argument name in the form "name: value".
+     *
+     * @param args the arguments.
+     * @param name the name of the argument.
+     * @return the value or null if not given.
+     */
+    @Nullable
+    private static String getArgumentValue(@NotNull final String[] args, @NotNull final String name)
+    {
+        for (int i = 0; i < args.length - 1; i++)
+        {
+            if ((name + ":").equalsIgnoreCase(args[i]))
+            {
+                return args[i + 1];
+            }
+        }
+        return null;
+    }
+
+    private static void executeShared(
+      @NotNull final ICommandSender sender,
+      @Nullable final Boolean enable,
+      final boolean reset,
+      final boolean csv,
+      @Nullable final IColony onlyColony)
+    {
+        final List<Colony> colonies = new ArrayList<>();
+        for (final IColony colony : onlyColony == null ? IColonyManager.getInstance().getAllColonies() : Collections.singletonList(onlyColony))
+        {
+            if (colony instanceof Colony)
+            {
+                colonies.add((Colony) colony);
+            }
+        }
+
+        if (enable != null)
+        {
+            ColonyTickProfiler.setEnabled(enable);
+        }
+        sender.sendMessage(new TextComponentString(String.format(ENABLED_MESSAGE, ColonyTickProfiler.isEnabled() ? "on" : "off")));
+
+        if (csv)
+        {
+            final File file = writeCsv(colonies);
+            sender.sendMessage(new TextComponentString(file == null ? CSV_FAIL_MESSAGE : String.format(CSV_MESSAGE, file.getPath())));
+        }
+        else
+        {
+            // Most expensive colonies first.
+            colonies.sort(Comparator.comparingLong((Colony colony) -> colony.getTickProfiler().getTotal().getTotalNanos()).reversed());
+            for (final Colony colony : colonies)
+            {
+                final ColonyTickProfiler profiler = colony.getTickProfiler();
+                sender.sendMessage(new TextComponentString(String.format(COLONY_MESSAGE, colony.getID(), colony.getName(), profiler.getTotal())));
+
+                final List<Map.Entry<String, TimingStatistic>> entries = new ArrayList<>(profiler.getTimings().entrySet());
+                entries.sort(Comparator.comparingLong((Map.Entry<String, TimingStatistic> entry) -> entry.getValue().getTotalNanos()).reversed());
+                for (final Map.Entry<String, TimingStatistic> entry : entries.subList(0, Math.min(TOP_TRANSITIONS, entries.size())))
+                {
+                    sender.sendMessage(new TextComponentString(String.format(ENTRY_MESSAGE, entry.getKey(), entry.getValue())));
+                }
+            }
+        }
+
+        if (reset)
+        {
+            colonies.forEach(colony -> colony.getTickProfiler().reset());
+            sender.sendMessage(new TextComponentString(RESET_MESSAGE));
+        }
+    }
+
+    /**
+     * Write the timings of the colonies to a csv file in the minecolonies save folder.
+     *
+     * @param colonies the colonies.
+     * @return the file, or null if it could not be written.
+     */
+    @Nullable
+    private static File writeCsv(@NotNull final List<Colony> colonies)
+    {
+        final File file = new File(new File(DimensionManager.getWorld(0).getSaveHandler().getWorldDirectory(), FILENAME_MINECOLONIES_PATH), CSV_FILE);
+        file.getParentFile().mkdirs();
+        try (PrintWriter writer = new PrintWriter(file, "UTF-8"))
+        {
+            writer.println("colony,dimension,state,transition,count,totalNanos,maxNanos");
+            for (final Colony colony : colonies)
+            {
+                for (final Map.Entry<String, TimingStatistic> entry : colony.getTickProfiler().getTimings().entrySet())
+                {
+                    final String[] stateAndTransition = entry.getKey().split("/", 2);
+                    final TimingStatistic timing = entry.getValue();
+                    writer.println(colony.getID() + "," + colony.getDimension() + "," + stateAndTransition[0] + "," + stateAndTransition[1] + ","
+                                     + timing.getCount() + "," + timing.getTotalNanos() + "," + timing.getMaxNanos());
+                }
+            }
+            return file;
+        }
+        catch (final IOException e)
+        {
+            Log.getLogger().warn("Unable to write the colony tick profiles", e);
+            return null;
+        }
+    }
+
+    @NotNull
+    @Override
+    public List<String> getTabCompletionOptions(
+                                                 @NotNull final MinecraftServer server,
+                                                 @NotNull final ICommandSender sender,
+                                                 @NotNull final String[] args,
+                                                 @Nullable final BlockPos pos)
+    {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public boolean isUsernameIndex(@NotNull final String[] args, final int index)
+    {
+        return false;
+    }
+}
@@ -0,0 +1,93 @@
+package com.minecolonies.coremod.commands.debugcommands;
+
+import com.minecolonies.coremod.commands.AbstractSingleCommand;
+import com.minecolonies.coremod.commands.ActionMenuState;
+import com.minecolonies.coremod.commands.IActionCommand;
+import com.minecolonies.coremod.entity.pathfinding.PathCache;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.TextComponentString;
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Prints the statistics of the colony path cache, and optionally clears it.
+ */
+public class PathCacheStatsCommand extends AbstractSingleCommand implements IActionCommand
+{
+    /**
+     * Command description.
+     */
+    public static final String DESC = "pathcache";
+
+    /**
+     * Message sent after clearing the cache.
+     */
+    private static final String CLEARED_MESSAGE = "Path cache cleared.";
+
+    /**
+     * no-args constructor called by new CommandEntryPoint executer.
+     */
+    public PathCacheStatsCommand()
+    {
+        super();
+    }
+
+    /**
+     * Initialize this SubCommand with it's parents.
+     *
+     * @param parents an array of all the parents.
+     */
+    public PathCacheStatsCommand(@NotNull final String... parents)
+    {
+        super(parents);
+    }
+
+    @Override
+    public void execute(@NotNull final MinecraftServer server, @NotNull final ICommandSender sender, @NotNull final ActionMenuState actionMenuState) throws CommandException
+    {
+        executeShared(sender, actionMenuState.getBooleanValueForArgument("clear", false));
+    }
+
+    @Override
+    public void execute(@NotNull final MinecraftServer server, @NotNull final ICommandSender sender, @NotNull final String... args) throws CommandException
+    {
+        executeShared(sender, args.length == 2 && "clear:".equalsIgnoreCase(args[0]) && "true".equalsIgnoreCase(args[1]));
+    }
+
+    private static void executeShared(@NotNull final ICommandSender sender, final boolean clear)
+    {
+        for (final String line : PathCache.getInstance().getStatistics())
+        {
+            sender.sendMessage(new TextComponentString(line));
+        }
+
+        if (clear)
+        {
+            PathCache.getInstance().clear();
+            sender.sendMessage(new TextComponentString(CLEARED_MESSAGE));
+        }
+    }
+
+    @NotNull
+    @Override
+    public List<String> getTabCompletionOptions(
+                                                 @NotNull final MinecraftServer server,
+                                                 @NotNull final ICommandSender sender,
+                                                 @NotNull final String[] args,
+                                                 @Nullable final BlockPos pos)
+    {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public boolean isUsernameIndex(@NotNull final String[] args, final int index)
+    {
+        return false;
+    }
+}
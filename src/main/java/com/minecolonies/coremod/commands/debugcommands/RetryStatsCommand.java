@@ -0,0 +1,115 @@
+package com.minecolonies.coremod.commands.debugcommands;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.api.colony.requestsystem.resolver.retrying.IRetryingRequestResolver;
+import com.minecolonies.coremod.colony.requestsystem.resolvers.StandardRetryingRequestResolver;
+import com.minecolonies.coremod.commands.AbstractSingleCommand;
+import com.minecolonies.coremod.commands.ActionMenuState;
+import com.minecolonies.coremod.commands.IActionCommand;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.TextComponentString;
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Prints how many retries of the retrying request resolvers of all colonies succeeded.
+ */
+public class RetryStatsCommand extends AbstractSingleCommand implements IActionCommand
+{
+    /**
+     * Command description.
+     */
+    public static final String DESC = "retrystats";
+
+    /**
+     * Message sent if no colony has a request system.
+     */
+    private static final String NO_RESOLVERS = "No colony has a retrying request resolver.";
+
+    /**
+     * no-args constructor called by new CommandEntryPoint executer.
+     */
+    public RetryStatsCommand()
+    {
+        super();
+    }
+
+    /**
+     * Initialize this SubCommand with it's parents.
+     *
+     * @param parents an array of all the parents.
+     */
+    public RetryStatsCommand(@NotNull final String... parents)
+    {
+        super(parents);
+    }
+
+    @Override
+    public void execute(@NotNull final MinecraftServer server, @NotNull final ICommandSender sender, @NotNull final ActionMenuState actionMenuState) throws CommandException
+    {
+        executeShared(sender);
+    }
+
+    @Override
+    public void execute(@NotNull final MinecraftServer server, @NotNull final ICommandSender sender, @NotNull final String... args) throws CommandException
+    {
+        executeShared(sender);
+    }
+
+    private static void executeShared(@NotNull final ICommandSender sender)
+    {
+        boolean found = false;
+        for (final IColony colony : IColonyManager.getInstance().getAllColonies())
+        {
+            if (colony.getRequestManager() == null)
+            {
+                continue;
+            }
+
+            final IRetryingRequestResolver resolver = colony.getRequestManager().getRetryingRequestResolver();
+            if (!(resolver instanceof StandardRetryingRequestResolver))
+            {
+                continue;
+            }
+
+            final StandardRetryingRequestResolver retrying = (StandardRetryingRequestResolver) resolver;
+            found = true;
+            sender.sendMessage(new TextComponentString(String.format("%s: %d waiting, %d retries, %d successful (%.1f%%), %d woken up early",
+              colony.getName(),
+              retrying.getAllAssignedRequests().size(),
+              retrying.getRetryAttempts(),
+              retrying.getSuccessfulRetries(),
+              retrying.getRetryAttempts() == 0 ? 0.0 : 100.0 * retrying.getSuccessfulRetries() / retrying.getRetryAttempts(),
+              retrying.getWakeUps())));
+        }
+
+        if (!found)
+        {
+            sender.sendMessage(new TextComponentString(NO_RESOLVERS));
+        }
+    }
+
+    @NotNull
+    @Override
+    public List<String> getTabCompletionOptions(
+                                                 @NotNull final MinecraftServer server,
+                                                 @NotNull final ICommandSender sender,
+                                                 @NotNull final String[] args,
+                                                 @Nullable final BlockPos pos)
+    {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public boolean isUsernameIndex(@NotNull final String[] args, final int index)
+    {
+        return false;
+    }
+}
@@ -0,0 +1,102 @@
+package com.minecolonies.coremod.commands.debugcommands;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.coremod.colony.Colony;
+import com.minecolonies.coremod.commands.AbstractSingleCommand;
+import com.minecolonies.coremod.commands.ActionMenuState;
+import com.minecolonies.coremod.commands.IActionCommand;
+import com.minecolonies.coremod.util.ColonySaveWriter;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.TextComponentString;
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Prints the serialize timings of the colonies and the write timings of the last colony backup files.
+ */
+public class SaveStatsCommand extends AbstractSingleCommand implements IActionCommand
+{
+    /**
+     * Command description.
+     */
+    public static final String DESC = "savestats";
+
+    /**
+     * Message with the serialize time of one colony.
+     */
+    private static final String SERIALIZE_MESSAGE = "Colony %d (dimension %d): last serialize %dms";
+
+    /**
+     * no-args constructor called by new CommandEntryPoint executer.
+     */
+    public SaveStatsCommand()
+    {
+        super();
+    }
+
+    /**
+     * Initialize this SubCommand with it's parents.
+     *
+     * @param parents an array of all the parents.
+     */
+    public SaveStatsCommand(@NotNull final String... parents)
+    {
+        super(parents);
+    }
+
+    @Override
+    public void execute(@NotNull final MinecraftServer server, @NotNull final ICommandSender sender, @NotNull final ActionMenuState actionMenuState) throws CommandException
+    {
+        executeShared(sender);
+    }
+
+    @Override
+    public void execute(@NotNull final MinecraftServer server, @NotNull final ICommandSender sender, @NotNull final String... args) throws CommandException
+    {
+        executeShared(sender);
+    }
+
+    private static void executeShared(@NotNull final ICommandSender sender)
+    {
+        for (final IColony colony : IColonyManager.getInstance().getAllColonies())
+        {
+            if (colony instanceof Colony)
+            {
+                sender.sendMessage(new TextComponentString(String.format(SERIALIZE_MESSAGE,
+                  colony.getID(),
+                  colony.getDimension(),
+                  TimeUnit.NANOSECONDS.toMillis(((Colony) colony).getLastSerializeNanos()))));
+            }
+        }
+
+        for (final String line : ColonySaveWriter.getInstance().getStatistics())
+        {
+            sender.sendMessage(new TextComponentString(line));
+        }
+    }
+
+    @NotNull
+    @Override
+    public List<String> getTabCompletionOptions(
+                                                 @NotNull final MinecraftServer server,
+                                                 @NotNull final ICommandSender sender,
+                                                 @NotNull final String[] args,
+                                                 @Nullable final BlockPos pos)
+    {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public boolean isUsernameIndex(@NotNull final String[] args, final int index)
+    {
+        return false;
+    }
+}
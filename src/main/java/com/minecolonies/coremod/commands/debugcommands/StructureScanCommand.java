@@ -0,0 +1,123 @@
+package com.minecolonies.coremod.commands.debugcommands;
+
+import com.minecolonies.api.colony.ICitizenData;
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.api.configuration.Configurations;
+import com.minecolonies.api.entity.ai.util.StructureIterator;
+import com.minecolonies.coremod.colony.jobs.AbstractJob;
+import com.minecolonies.coremod.commands.AbstractSingleCommand;
+import com.minecolonies.coremod.commands.ActionMenuState;
+import com.minecolonies.coremod.commands.IActionCommand;
+import com.minecolonies.coremod.entity.ai.basic.AbstractEntityAIStructure;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.TextComponentString;
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Prints how many blocks per scan the builders and miners of all colonies achieve within the structure scan budget.
+ */
+public class StructureScanCommand extends AbstractSingleCommand implements IActionCommand
+{
+    /**
+     * Command description.
+     */
+    public static final String DESC = "structurescans";
+
+    /**
+     * Message sent if no structure is being scanned.
+     */
+    private static final String NO_SCANS = "No builder or miner is working on a structure.";
+
+    /**
+     * no-args constructor called by new CommandEntryPoint executer.
+     */
+    public StructureScanCommand()
+    {
+        super();
+    }
+
+    /**
+     * Initialize this SubCommand with it's parents.
+     *
+     * @param parents an array of all the parents.
+     */
+    public StructureScanCommand(@NotNull final String... parents)
+    {
+        super(parents);
+    }
+
+    @Override
+    public void execute(@NotNull final MinecraftServer server, @NotNull final ICommandSender sender, @NotNull final ActionMenuState actionMenuState) throws CommandException
+    {
+        executeShared(sender);
+    }
+
+    @Override
+    public void execute(@NotNull final MinecraftServer server, @NotNull final ICommandSender sender, @NotNull final String... args) throws CommandException
+    {
+        executeShared(sender);
+    }
+
+    private static void executeShared(@NotNull final ICommandSender sender)
+    {
+        sender.sendMessage(new TextComponentString("Budget: " + Configurations.gameplay.structureScanBudgetMicros + "us per tick, at most "
+                                                     + Configurations.gameplay.maxBlocksCheckedByBuilder + " blocks per scan"));
+
+        boolean found = false;
+        for (final IColony colony : IColonyManager.getInstance().getAllColonies())
+        {
+            for (final ICitizenData citizen : colony.getCitizenManager().getCitizens())
+            {
+                if (!(citizen.getJob() instanceof AbstractJob) || !(((AbstractJob) citizen.getJob()).getWorkerAI() instanceof AbstractEntityAIStructure))
+                {
+                    continue;
+                }
+
+                final StructureIterator structure = ((AbstractEntityAIStructure) ((AbstractJob) citizen.getJob()).getWorkerAI()).getCurrentStructure();
+                if (structure == null || structure.getScans() == 0)
+                {
+                    continue;
+                }
+
+                found = true;
+                sender.sendMessage(new TextComponentString(String.format("%s (%s): %s, %d scans, %.1f blocks/scan, %.1fus/scan",
+                  citizen.getName(),
+                  colony.getName(),
+                  structure.getStage(),
+                  structure.getScans(),
+                  (double) structure.getScannedBlocks() / structure.getScans(),
+                  structure.getScanNanos() / 1000.0 / structure.getScans())));
+            }
+        }
+
+        if (!found)
+        {
+            sender.sendMessage(new TextComponentString(NO_SCANS));
+        }
+    }
+
+    @NotNull
+    @Override
+    public List<String> getTabCompletionOptions(
+                                                 @NotNull final MinecraftServer server,
+                                                 @NotNull final ICommandSender sender,
+                                                 @NotNull final String[] args,
+                                                 @Nullable final BlockPos pos)
+    {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public boolean isUsernameIndex(@NotNull final String[] args, final int index)
+    {
+        return false;
+    }
+}
@@ -0,0 +1,93 @@
+package com.minecolonies.coremod.commands.debugcommands;
+
+import com.minecolonies.coremod.commands.AbstractSingleCommand;
+import com.minecolonies.coremod.commands.ActionMenuState;
+import com.minecolonies.coremod.commands.IActionCommand;
+import com.minecolonies.coremod.network.ViewMulticast;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.text.TextComponentString;
+import org.jetbrains.annotations.NotNull;
+
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Prints the counters of the serialized and sent colony view data, and optionally resets them.
+ */
+public class ViewPacketStatsCommand extends AbstractSingleCommand implements IActionCommand
+{
+    /**
+     * Command description.
+     */
+    public static final String DESC = "viewpackets";
+
+    /**
+     * Message sent after resetting the counters.
+     */
+    private static final String RESET_MESSAGE = "View packet counters reset.";
+
+    /**
+     * no-args constructor called by new CommandEntryPoint executer.
+     */
+    public ViewPacketStatsCommand()
+    {
+        super();
+    }
+
+    /**
+     * Initialize this SubCommand with it's parents.
+     *
+     * @param parents an array of all the parents.
+     */
+    public ViewPacketStatsCommand(@NotNull final String... parents)
+    {
+        super(parents);
+    }
+
+    @Override
+    public void execute(@NotNull final MinecraftServer server, @NotNull final ICommandSender sender, @NotNull final ActionMenuState actionMenuState) throws CommandException
+    {
+        executeShared(sender, actionMenuState.getBooleanValueForArgument("reset", false));
+    }
+
+    @Override
+    public void execute(@NotNull final MinecraftServer server, @NotNull final ICommandSender sender, @NotNull final String... args) throws CommandException
+    {
+        executeShared(sender, args.length == 2 && "reset:".equalsIgnoreCase(args[0]) && "true".equalsIgnoreCase(args[1]));
+    }
+
+    private static void executeShared(@NotNull final ICommandSender sender, final boolean reset)
+    {
+        for (final String line : ViewMulticast.getStatistics())
+        {
+            sender.sendMessage(new TextComponentString(line));
+        }
+
+        if (reset)
+        {
+            ViewMulticast.reset();
+            sender.sendMessage(new TextComponentString(RESET_MESSAGE));
+        }
+    }
+
+    @NotNull
+    @Override
+    public List<String> getTabCompletionOptions(
+                                                 @NotNull final MinecraftServer server,
+                                                 @NotNull final ICommandSender sender,
+                                                 @NotNull final String[] args,
+                                                 @Nullable final BlockPos pos)
+    {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public boolean isUsernameIndex(@NotNull final String[] args, final int index)
+    {
+        return false;
+    }
+}
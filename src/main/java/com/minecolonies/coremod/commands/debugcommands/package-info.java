@@ -0,0 +1,4 @@
+/**
+ * Contains all debug and performance commands.
+ */
+package com.minecolonies.coremod.commands.debugcommands;
@@ -60,9 +60,9 @@ public class BackupCommand extends AbstractSingleCommand implements IActionComma
 
         if (isPlayerOpped(sender))
         {
-            server.addScheduledTask(() ->
+            server.addScheduledTask(() -> BackUpHelper.backupColonyData().thenAccept(success -> server.addScheduledTask(() ->
             {
-                if (BackUpHelper.backupColonyData())
+                if (success)
                 {
                     sender.sendMessage(new TextComponentString(BACKUP_SUCCESS_MESSAGE));
                 }
@@ -70,7 +70,7 @@ public class BackupCommand extends AbstractSingleCommand implements IActionComma
                 {
                     sender.sendMessage(new TextComponentString(BACKUP_FAILURE_MESSAGE));
                 }
-            });
+            })));
         }
         else
         {
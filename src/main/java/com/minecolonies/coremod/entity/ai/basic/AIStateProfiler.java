@@ -0,0 +1,228 @@
+package com.minecolonies.coremod.entity.ai.basic;
+
+import com.minecolonies.api.entity.ai.statemachine.basestatemachine.IStateMachineProfiler;
+import com.minecolonies.api.entity.ai.statemachine.states.IAIState;
+import com.minecolonies.api.entity.ai.statemachine.tickratestatemachine.ITickingTransition;
+import com.minecolonies.api.entity.ai.statemachine.transitions.IStateMachineEvent;
+import com.minecolonies.api.entity.ai.statemachine.transitions.IStateMachineOneTimeEvent;
+import com.minecolonies.coremod.util.TimingStatistic;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Records the time the worker AIs spend per job, state and target, split into the predicate and the action of the target.
+ * <p>
+ * The profiler is either off, samples on average every {@link #SAMPLE_INTERVAL}th target check, or records every check.
+ * The distance between samples is random, a fixed one could line up with the fixed order of the targets and never hit some of them.
+ * When off the state machines only check {@link #shouldProfile()}.
+ * The timings are kept per colony and only accessed from the server thread.
+ */
+public class AIStateProfiler implements IStateMachineProfiler<ITickingTransition<IAIState>, IAIState>
+{
+    /**
+     * The modes of the profiler.
+     */
+    public enum Mode
+    {
+        /**
+         * Nothing is recorded.
+         */
+        OFF,
+
+        /**
+         * On average every {@link #SAMPLE_INTERVAL}th target check is recorded.
+         */
+        SAMPLED,
+
+        /**
+         * Every target check is recorded.
+         */
+        FULL
+    }
+
+    /**
+     * Every how many target checks one is recorded on average in sampled mode.
+     */
+    public static final int SAMPLE_INTERVAL = 32;
+
+    /**
+     * Random to pick the distance to the next sample.
+     */
+    private static final Random RANDOM = new Random();
+
+    /**
+     * The current mode.
+     */
+    private static volatile Mode mode = Mode.OFF;
+
+    /**
+     * The recorded timings by colony id and key.
+     */
+    private static final Map<Integer, Map<String, TimingStatistic>> TIMINGS = new HashMap<>();
+
+    /**
+     * The job name timings of this AI are recorded under.
+     */
+    private final String jobName;
+
+    /**
+     * The id of the colony of the AI.
+     */
+    private final int colonyId;
+
+    /**
+     * The names of the targets of this AI, weak so one time targets are dropped once they fired.
+     */
+    private final Map<ITickingTransition<IAIState>, String> targetNames = new WeakHashMap<>();
+
+    /**
+     * Amount of registered targets per state or event type, to name the targets.
+     */
+    private final Map<Object, Integer> targetCounts = new HashMap<>();
+
+    /**
+     * The amount of target checks until the next sample.
+     */
+    private int checksUntilSample = nextSampleDistance();
+
+    /**
+     * Create a profiler for one AI.
+     *
+     * @param jobName  the name of the job of the AI.
+     * @param colonyId the id of the colony of the AI.
+     */
+    public AIStateProfiler(@NotNull final String jobName, final int colonyId)
+    {
+        this.jobName = jobName;
+        this.colonyId = colonyId;
+    }
+
+    /**
+     * Get the current mode.
+     *
+     * @return the mode.
+     */
+    public static Mode getMode()
+    {
+        return mode;
+    }
+
+    /**
+     * Set the mode of all AI profilers.
+     *
+     * @param mode the new mode.
+     */
+    public static void setMode(@NotNull final Mode mode)
+    {
+        AIStateProfiler.mode = mode;
+    }
+
+    /**
+     * Drop all recorded timings.
+     */
+    public static void reset()
+    {
+        TIMINGS.clear();
+    }
+
+    /**
+     * Drop the recorded timings of a deleted colony.
+     *
+     * @param colonyId the id of the colony.
+     */
+    public static void removeColony(final int colonyId)
+    {
+        TIMINGS.remove(colonyId);
+    }
+
+    /**
+     * Get the recorded timings, summed up over all colonies or of one colony.
+     * In sampled mode the timings only contain the sampled checks.
+     *
+     * @param colonyId the id of the colony or null for all colonies.
+     * @return the timings by "job state target part".
+     */
+    @NotNull
+    public static Map<String, TimingStatistic> getTimings(final Integer colonyId)
+    {
+        final Map<String, TimingStatistic> result = new HashMap<>();
+        for (final Map.Entry<Integer, Map<String, TimingStatistic>> colonyEntry : TIMINGS.entrySet())
+        {
+            if (colonyId == null || colonyId.equals(colonyEntry.getKey()))
+            {
+                for (final Map.Entry<String, TimingStatistic> entry : colonyEntry.getValue().entrySet())
+                {
+                    result.computeIfAbsent(entry.getKey(), key -> new TimingStatistic()).add(entry.getValue());
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Name a target, by its state or event type and the order of registration.
+     * The order is the same for all AIs of one job, so the names can be compared between workers.
+     * One time targets are added again and again while the AI runs, they share one name per event type
+     * so the amount of recorded timings stays bounded.
+     *
+     * @param target the target.
+     */
+    public void registerTarget(@NotNull final ITickingTransition<IAIState> target)
+    {
+        final Object group = target instanceof IStateMachineEvent ? ((IStateMachineEvent) target).getEventType() : target.getState();
+        if (target instanceof IStateMachineOneTimeEvent)
+        {
+            targetNames.put(target, group + "#once");
+            return;
+        }
+
+        final int index = targetCounts.merge(group, 1, Integer::sum);
+        targetNames.put(target, group + "#" + index);
+    }
+
+    @Override
+    public boolean shouldProfile()
+    {
+        switch (mode)
+        {
+            case FULL:
+                return true;
+            case SAMPLED:
+                if (--checksUntilSample > 0)
+                {
+                    return false;
+                }
+                checksUntilSample = nextSampleDistance();
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Pick the distance to the next sample, between 1 and twice the interval so the average stays at the interval.
+     *
+     * @return the amount of target checks.
+     */
+    private static int nextSampleDistance()
+    {
+        return 1 + RANDOM.nextInt(2 * SAMPLE_INTERVAL - 1);
+    }
+
+    @Override
+    public void onTransitionChecked(
+      @NotNull final IAIState state,
+      @NotNull final ITickingTransition<IAIState> transition,
+      final long conditionNanos,
+      final long actionNanos)
+    {
+        final Map<String, TimingStatistic> colonyTimings = TIMINGS.computeIfAbsent(colonyId, id -> new HashMap<>());
+        final String prefix = jobName + " " + state + " " + targetNames.getOrDefault(transition, "unnamed");
+        colonyTimings.computeIfAbsent(prefix + " predicate", key -> new TimingStatistic()).add(conditionNanos);
+        if (actionNanos > 0)
+        {
+            colonyTimings.computeIfAbsent(prefix + " action", key -> new TimingStatistic()).add(actionNanos);
+        }
+    }
+}
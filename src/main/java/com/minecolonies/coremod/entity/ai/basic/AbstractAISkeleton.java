@@ -41,6 +41,12 @@ public abstract class AbstractAISkeleton<J extends IJob> extends EntityAIBase
     @NotNull
     private final ITickRateStateMachine<IAIState> stateMachine;
 
+    /**
+     * The profiler of the statemachine.
+     */
+    @NotNull
+    private final AIStateProfiler profiler;
+
     /**
      * Sets up some important skeleton stuff for every ai.
      *
@@ -61,6 +67,8 @@ public abstract class AbstractAISkeleton<J extends IJob> extends EntityAIBase
         this.world = CompatibilityUtils.getWorldFromCitizen(this.worker);
         stateMachine = new TickRateStateMachine<>(AIWorkerState.INIT, this::onException);
         stateMachine.setTickRate(Configurations.gameplay.updateRate);
+        profiler = new AIStateProfiler(job.getClass().getSimpleName(), job.getCitizen().getColony().getID());
+        stateMachine.setProfiler(profiler);
     }
 
     /**
@@ -70,6 +78,7 @@ public abstract class AbstractAISkeleton<J extends IJob> extends EntityAIBase
      */
     public void registerTarget(final TickingTransition target)
     {
+        profiler.registerTarget(target);
         stateMachine.addTransition(target);
     }
 
@@ -173,6 +182,6 @@ public abstract class AbstractAISkeleton<J extends IJob> extends EntityAIBase
      */
     public void resetAI()
     {
-        stateMachine.addTransition(new AIOneTimeEventTarget(AIWorkerState.IDLE));
+        registerTarget(new AIOneTimeEventTarget(AIWorkerState.IDLE));
     }
 }
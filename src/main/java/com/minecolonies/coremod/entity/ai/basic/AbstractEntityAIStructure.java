@@ -184,6 +184,17 @@ public abstract class AbstractEntityAIStructure<J extends AbstractJobStructure>
         return AbstractBuildingStructureBuilder.class;
     }
 
+    /**
+     * Get the structure which is currently worked on.
+     *
+     * @return the iterator or null if there is none.
+     */
+    @Nullable
+    public StructureIterator getCurrentStructure()
+    {
+        return currentStructure;
+    }
+
     /**
      * Generate a function that will iterate over a structure.
      * <p>
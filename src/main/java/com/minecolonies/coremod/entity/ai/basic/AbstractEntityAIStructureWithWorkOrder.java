@@ -1,6 +1,7 @@
 package com.minecolonies.coremod.entity.ai.basic;
 
 import com.ldtteam.structurize.blocks.schematic.BlockSolidSubstitution;
+import com.ldtteam.structurize.management.Structures;
 import com.ldtteam.structurize.util.BlockInfo;
 import com.ldtteam.structurize.util.StructurePlacementUtils;
 import com.minecolonies.api.blocks.AbstractBlockHut;
@@ -8,6 +9,9 @@ import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.api.compatibility.candb.ChiselAndBitsCheck;
 import com.minecolonies.api.configuration.Configurations;
 import com.minecolonies.api.crafting.ItemStorage;
+import com.minecolonies.api.entity.ai.statemachine.AIEventTarget;
+import com.minecolonies.api.entity.ai.statemachine.states.AIBlockingEventType;
+import com.minecolonies.api.entity.ai.statemachine.states.IAIState;
 import com.minecolonies.api.entity.ai.util.StructureIterator;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.BlockUtils;
@@ -33,9 +37,7 @@ import net.minecraft.util.math.BlockPos;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.util.*;
 
 import static com.minecolonies.api.util.constant.Constants.STACKSIZE;
 import static com.minecolonies.api.util.constant.TranslationConstants.COM_MINECOLONIES_COREMOD_ENTITY_BUILDER_BUILDCOMPLETE;
@@ -47,6 +49,39 @@ import static com.minecolonies.api.util.constant.TranslationConstants.COM_MINECO
  */
 public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJobStructure> extends AbstractEntityAIStructure<J>
 {
+    /**
+     * The amount of structure blocks compared with the world per tick when calculating the needed materials.
+     */
+    private static final int MATERIAL_BLOCKS_PER_TICK = 512;
+
+    /**
+     * The amount of structures whose material relevant blocks are cached.
+     */
+    private static final int MATERIAL_BLOCK_CACHE_SIZE = 16;
+
+    /**
+     * The material relevant blocks by schematic, rotation and mirror, shared between all builders.
+     */
+    private static final Map<String, List<BlockInfo>> MATERIAL_BLOCK_CACHE = Collections.synchronizedMap(new LinkedHashMap<String, List<BlockInfo>>(16, 0.75F, true)
+    {
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<String, List<BlockInfo>> eldest)
+        {
+            return size() > MATERIAL_BLOCK_CACHE_SIZE;
+        }
+    });
+
+    /**
+     * The blocks which are compared with the world to calculate the needed materials, null if no calculation is running.
+     */
+    @Nullable
+    private List<BlockInfo> materialBlocks = null;
+
+    /**
+     * The index of the next block of the running material calculation.
+     */
+    private int materialBlockIndex = 0;
+
     /**
      * Initialize the builder and add all his tasks.
      *
@@ -55,6 +90,12 @@ public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJ
     public AbstractEntityAIStructureWithWorkOrder(@NotNull final J job)
     {
         super(job);
+        this.registerTargets(
+          /*
+           * Continue the material calculation, the builder keeps working meanwhile.
+           */
+          new AIEventTarget(AIBlockingEventType.EVENT, () -> materialBlocks != null, this::calculateMaterialsSlice)
+        );
         worker.setCanPickUpLoot(true);
     }
 
@@ -147,6 +188,11 @@ public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJ
         workOrder.setCleared(false);
         workOrder.setRequested(false);
 
+        if (currentStructure != null && job.hasStructure() && !removal)
+        {
+            currentStructure.setVerifiedBlocks(workOrder.getVerifiedBlocks());
+        }
+
         //We need to deal with materials
         requestMaterialsState();
         if (getProgressPos() != null)
@@ -165,78 +211,139 @@ public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJ
             return;
         }
         requestMaterials();
+    }
+
+    /**
+     * Called when the material calculation finished, marks the work order as requested.
+     */
+    private void onMaterialsCalculated()
+    {
+        final WorkOrderBuildDecoration workOrder = job.getWorkOrder();
+        if (workOrder == null || workOrder.isRequested())
+        {
+            return;
+        }
 
         final AbstractBuildingStructureBuilder buildingWorker = getOwnBuilding(AbstractBuildingStructureBuilder.class);
-        job.getWorkOrder().setRequested(true);
+        workOrder.setRequested(true);
 
-        if (job.getWorkOrder().getAmountOfRes() == 0)
+        if (workOrder.getAmountOfRes() == 0)
         {
-            job.getWorkOrder().setAmountOfRes(buildingWorker.getNeededResources().values().stream()
+            workOrder.setAmountOfRes(buildingWorker.getNeededResources().values().stream()
                                                 .mapToInt(ItemStorage::getAmount).sum());
         }
     }
 
     /**
-     * Iterates through all the required resources and stores them in the building.
-     * Suppressing Sonar Rule Squid:S135
-     * The rule thinks we should have less continue and breaks.
-     * But in this case the rule does not apply because code would become unreadable and uneffective without.
+     * Starts calculating all the required resources and storing them in the building.
+     * The structure is compared with the world in slices, the first one right away and the others in the following ticks,
+     * so that the resources found so far can already be requested.
      */
     private void requestMaterials()
     {
         final AbstractBuildingStructureBuilder buildingWorker = getOwnBuilding(AbstractBuildingStructureBuilder.class);
         buildingWorker.resetNeededResources();
 
+        materialBlocks = getMaterialBlocks();
+        materialBlockIndex = 0;
+        calculateMaterialsSlice();
+    }
+
+    /**
+     * Get the blocks of the current structure which may need materials.
+     * They only depend on the schematic, the rotation and the mirror, so they are shared between the builders.
+     *
+     * @return the blocks, never modified.
+     */
+    @NotNull
+    private List<BlockInfo> getMaterialBlocks()
+    {
+        final WorkOrderBuildDecoration workOrder = job.getWorkOrder();
+        final String md5 = workOrder == null ? null : Structures.getMD5(workOrder.getStructureName());
+        if (md5 == null)
+        {
+            return computeMaterialBlocks();
+        }
+
+        final String key = md5 + ":" + workOrder.getRotation(world) + ":" + workOrder.isMirrored();
+        List<BlockInfo> blocks = MATERIAL_BLOCK_CACHE.get(key);
+        if (blocks == null)
+        {
+            blocks = computeMaterialBlocks();
+            MATERIAL_BLOCK_CACHE.put(key, blocks);
+        }
+        return blocks;
+    }
+
+    /**
+     * Filter the blocks of the current structure which never need materials.
+     *
+     * @return the remaining blocks.
+     */
+    @NotNull
+    private List<BlockInfo> computeMaterialBlocks()
+    {
+        final List<BlockInfo> blocks = new ArrayList<>();
         for (final BlockInfo blockInfo : job.getStructure().getBluePrint().getBlockInfoAsList())
         {
             if (blockInfo == null)
             {
                 continue;
             }
-            final BlockPos worldPos = blockInfo.getPos().add(job.getStructure().getOffsetPosition());
 
-            @Nullable IBlockState blockState = blockInfo.getState();
-            @Nullable Block block = blockState.getBlock();
-
-            if (StructurePlacementUtils.isStructureBlockEqualWorldBlock(world, worldPos, blockState)
-                  || (blockState.getBlock() instanceof BlockBed && blockState.getValue(BlockBed.PART).equals(BlockBed.EnumPartType.FOOT))
+            final IBlockState blockState = blockInfo.getState();
+            if ((blockState.getBlock() instanceof BlockBed && blockState.getValue(BlockBed.PART).equals(BlockBed.EnumPartType.FOOT))
                   || (blockState.getBlock() instanceof BlockDoor && blockState.getValue(BlockDoor.HALF).equals(BlockDoor.EnumDoorHalf.UPPER))
                   || blockState.getBlock() == Blocks.AIR)
             {
                 continue;
             }
+            blocks.add(blockInfo);
+        }
+        return Collections.unmodifiableList(blocks);
+    }
 
-            if (block instanceof BlockSolidSubstitution)
-            {
-                blockState = getSolidSubstitution(worldPos);
-                block = blockState.getBlock();
-            }
-            if (block == Blocks.GRASS)
-            {
-                block = Blocks.DIRT;
-                blockState = block.getDefaultState();
-            }
+    /**
+     * Compare the next slice of the structure with the world and store the required resources in the building.
+     * Suppressing Sonar Rule Squid:S135
+     * The rule thinks we should have less continue and breaks.
+     * But in this case the rule does not apply because code would become unreadable and uneffective without.
+     *
+     * @return null, the state is never changed.
+     */
+    private IAIState calculateMaterialsSlice()
+    {
+        final List<BlockInfo> blocks = materialBlocks;
+        if (blocks == null || job.getStructure() == null)
+        {
+            materialBlocks = null;
+            return null;
+        }
 
-            final Block worldBlock = BlockPosUtil.getBlock(world, job.getStructure().getBlockPosition());
-            if (block instanceof BlockFalling)
+        final AbstractBuildingStructureBuilder buildingWorker = getOwnBuilding(AbstractBuildingStructureBuilder.class);
+        final int end = Math.min(blocks.size(), materialBlockIndex + MATERIAL_BLOCKS_PER_TICK);
+        final Block worldBlock = BlockPosUtil.getBlock(world, job.getStructure().getBlockPosition());
+        for (; materialBlockIndex < end; materialBlockIndex++)
+        {
+            final BlockInfo blockInfo = blocks.get(materialBlockIndex);
+            try
             {
-                final IBlockState downState = BlockPosUtil.getBlockState(world, worldPos.down());
-                if (!downState.getMaterial().isSolid())
-                {
-                    requestBlockToBuildingIfRequired(buildingWorker, getSolidSubstitution(worldPos), blockInfo);
-                }
+                calculateMaterialsOfBlock(buildingWorker, blockInfo, worldBlock);
             }
-
-            if (block != null
-                  && block != Blocks.AIR
-                  && worldBlock != Blocks.BEDROCK
-                  && !(worldBlock instanceof AbstractBlockHut)
-                  && !isBlockFree(block, 0))
+            catch (final RuntimeException e)
             {
-                requestBlockToBuildingIfRequired(buildingWorker, blockState, blockInfo);
+                // Skip the block, otherwise the same slice would fail again in every tick.
+                Log.getLogger().warn("Skipping block at " + blockInfo.getPos() + " while calculating the needed materials", e);
             }
         }
 
+        if (materialBlockIndex < blocks.size())
+        {
+            return null;
+        }
+
+        // Cleared first, so a failing entity can't make the last slice run again in every tick.
+        materialBlocks = null;
         for (final NBTTagCompound entityInfo : job.getStructure().getEntityData())
         {
             if (entityInfo != null)
@@ -250,6 +357,58 @@ public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJ
                 }
             }
         }
+
+        onMaterialsCalculated();
+        return null;
+    }
+
+    /**
+     * Compare one block of the structure with the world and store the required resources in the building.
+     *
+     * @param buildingWorker the building of the builder.
+     * @param blockInfo      the block of the structure.
+     * @param worldBlock     the block in the world at the current position of the structure.
+     */
+    private void calculateMaterialsOfBlock(@NotNull final AbstractBuildingStructureBuilder buildingWorker, @NotNull final BlockInfo blockInfo, final Block worldBlock)
+    {
+        final BlockPos worldPos = blockInfo.getPos().add(job.getStructure().getOffsetPosition());
+
+        @Nullable IBlockState blockState = blockInfo.getState();
+        @Nullable Block block = blockState.getBlock();
+
+        if (StructurePlacementUtils.isStructureBlockEqualWorldBlock(world, worldPos, blockState))
+        {
+            return;
+        }
+
+        if (block instanceof BlockSolidSubstitution)
+        {
+            blockState = getSolidSubstitution(worldPos);
+            block = blockState.getBlock();
+        }
+        if (block == Blocks.GRASS)
+        {
+            block = Blocks.DIRT;
+            blockState = block.getDefaultState();
+        }
+
+        if (block instanceof BlockFalling)
+        {
+            final IBlockState downState = BlockPosUtil.getBlockState(world, worldPos.down());
+            if (!downState.getMaterial().isSolid())
+            {
+                requestBlockToBuildingIfRequired(buildingWorker, getSolidSubstitution(worldPos), blockInfo);
+            }
+        }
+
+        if (block != null
+              && block != Blocks.AIR
+              && worldBlock != Blocks.BEDROCK
+              && !(worldBlock instanceof AbstractBlockHut)
+              && !isBlockFree(block, 0))
+        {
+            requestBlockToBuildingIfRequired(buildingWorker, blockState, blockInfo);
+        }
     }
 
     /**
@@ -461,7 +620,7 @@ public abstract class AbstractEntityAIStructureWithWorkOrder<J extends AbstractJ
         final AbstractBuildingStructureBuilder buildingWorker = getOwnBuilding(AbstractBuildingStructureBuilder.class);
         BuildingBuilderResource resource = buildingWorker.getNeededResources().get(stack.getTranslationKey() + ":" + stack.getItemDamage() + "-" + hashCode);
 
-        if(resource == null)
+        if(resource == null && materialBlocks == null)
         {
             requestMaterials();
             resource = buildingWorker.getNeededResources().get(stack.getTranslationKey() + ":" + stack.getItemDamage() + "-" + hashCode);
@@ -1,11 +1,9 @@
 package com.minecolonies.coremod.entity.ai.citizen.builder;
 
-import com.ldtteam.structures.helpers.Structure;
-import com.ldtteam.structurize.util.PlacementSettings;
 import com.minecolonies.api.blocks.ModBlocks;
 import com.minecolonies.api.configuration.Configurations;
 import com.minecolonies.coremod.colony.workorders.WorkOrderBuildDecoration;
-import com.minecolonies.coremod.util.ColonyUtils;
+import com.minecolonies.coremod.util.FootprintCache;
 import net.minecraft.block.Block;
 import net.minecraft.block.BlockHorizontal;
 import net.minecraft.block.properties.PropertyDirection;
@@ -45,10 +43,11 @@ public final class ConstructionTapeHelper
      */
     public static void placeConstructionTape(@NotNull final WorkOrderBuildDecoration workOrder, @NotNull final World world)
     {
-        final Tuple<Tuple<Integer, Integer>, Tuple<Integer, Integer>> corners
-          = ColonyUtils.calculateCorners(workOrder.getBuildingLocation(), world,
-          new Structure(world, workOrder.getStructureName(), new PlacementSettings()), workOrder.getRotation(world), workOrder.isMirrored());
-        placeConstructionTape(workOrder.getBuildingLocation(), corners, world);
+        final FootprintCache.Footprint footprint = FootprintCache.getFootprint(world, workOrder.getStructureName(), workOrder.getRotation(world), workOrder.isMirrored());
+        if (footprint != null)
+        {
+            placeConstructionTape(workOrder.getBuildingLocation(), footprint.getCorners(workOrder.getBuildingLocation()), world);
+        }
     }
 
     /**
@@ -170,12 +169,10 @@ public final class ConstructionTapeHelper
      */
     public static void removeConstructionTape(@NotNull final WorkOrderBuildDecoration workOrder, @NotNull final World world)
     {
-        final Structure structure = new Structure(world, workOrder.getStructureName(), new PlacementSettings());
-        if (!structure.isBluePrintMissing())
+        final FootprintCache.Footprint footprint = FootprintCache.getFootprint(world, workOrder.getStructureName(), workOrder.getRotation(world), workOrder.isMirrored());
+        if (footprint != null)
         {
-            final Tuple<Tuple<Integer, Integer>, Tuple<Integer, Integer>> corners = ColonyUtils.calculateCorners(workOrder.getBuildingLocation(), world,
-              structure, workOrder.getRotation(world), workOrder.isMirrored());
-            removeConstructionTape(corners, world);
+            removeConstructionTape(footprint.getCorners(workOrder.getBuildingLocation()), world);
         }
     }
 
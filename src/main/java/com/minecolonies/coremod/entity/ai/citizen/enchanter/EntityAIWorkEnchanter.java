@@ -36,6 +36,7 @@ import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import static com.minecolonies.api.entity.ai.statemachine.states.AIWorkerState.*;
+import static com.minecolonies.api.util.constant.CitizenConstants.VIEW_GROUP_SKILLS;
 import static com.minecolonies.api.util.constant.Constants.TICKS_SECOND;
 import static com.minecolonies.api.util.constant.TranslationConstants.NO_WORKERS_TO_DRAIN_SET;
 
@@ -363,7 +364,7 @@ public class EntityAIWorkEnchanter extends AbstractEntityAIInteract<JobEnchanter
             worker.getCitizenData().levelUp();
         }
         worker.getCitizenExperienceHandler().updateLevel();
-        worker.getCitizenData().markDirty();
+        worker.getCitizenData().markDirty(VIEW_GROUP_SKILLS);
 
         resetDraining();
         return IDLE;
@@ -2,7 +2,6 @@ package com.minecolonies.coremod.entity.ai.citizen.lumberjack;
 
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.IColonyManager;
-import com.minecolonies.api.colony.buildings.IBuilding;
 import com.minecolonies.api.compatibility.Compatibility;
 import com.minecolonies.api.configuration.Configurations;
 import com.minecolonies.api.crafting.ItemStorage;
@@ -863,21 +862,6 @@ public class Tree
             return true;
         }
 
-        for (final IBuilding building : colony.getBuildingManager().getBuildings().values())
-        {
-            final Tuple<Tuple<Integer, Integer>, Tuple<Integer, Integer>> corners = building.getCorners();
-            final int x1 = corners.getFirst().getFirst();
-            final int x2 = corners.getFirst().getSecond();
-            final int z1 = corners.getSecond().getFirst();
-            final int z2 = corners.getSecond().getSecond();
-
-            final int x = pos.getX();
-            final int z = pos.getZ();
-            if (x > x1 && x < x2 && z > z1 && z < z2)
-            {
-                return false;
-            }
-        }
-        return true;
+        return colony.getBuildingManager().getBuildingContaining(pos) == null;
     }
 }
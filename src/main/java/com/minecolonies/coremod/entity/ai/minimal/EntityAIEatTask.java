@@ -31,6 +31,8 @@ import net.minecraftforge.items.wrapper.InvWrapper;
 
 import static com.minecolonies.api.util.ItemStackUtils.*;
 import static com.minecolonies.api.util.constant.CitizenConstants.HIGH_SATURATION;
+import static com.minecolonies.api.util.constant.CitizenConstants.VIEW_GROUP_INVENTORY;
+import static com.minecolonies.api.util.constant.CitizenConstants.VIEW_GROUP_VITALS;
 import static com.minecolonies.api.util.constant.Constants.SECONDS_A_MINUTE;
 import static com.minecolonies.api.util.constant.Constants.TICKS_SECOND;
 import static com.minecolonies.api.util.constant.GuardConstants.BASIC_VOLUME;
@@ -244,7 +246,7 @@ public class EntityAIEatTask extends EntityAIBase
             AdvancementUtils.TriggerAdvancementPlayersForColony(citizenColony, playerMP -> AdvancementTriggers.CITIZEN_EAT_FOOD.trigger(playerMP, new ItemStack(itemFood)));
         }
 
-        citizenData.markDirty();
+        citizenData.markDirty(VIEW_GROUP_VITALS | VIEW_GROUP_INVENTORY);
         citizen.setHeldItem(EnumHand.MAIN_HAND, ItemStack.EMPTY);
 
         if (citizenData.getSaturation() < CitizenConstants.FULL_SATURATION && !stack.isEmpty())
@@ -381,7 +381,7 @@ public class EntityCitizen extends AbstractEntityCitizen
                 isDay = false;
                 final double decreaseBy = citizenColonyHandler.getPerBuildingFoodCost() * 2;
                 citizenData.decreaseSaturation(decreaseBy);
-                citizenData.markDirty();
+                citizenData.markDirty(VIEW_GROUP_VITALS);
             }
 
             citizenStatusHandler.setLatestStatus(new TextComponentTranslation("com.minecolonies.coremod.status.sleeping"));
@@ -849,7 +849,7 @@ public class EntityCitizen extends AbstractEntityCitizen
                         }
                     }
                     this.citizenData.setName(name);
-                    this.citizenData.markDirty();
+                    this.citizenData.markDirty(VIEW_GROUP_IDENTITY);
                     super.setCustomNameTag(name);
                 }
                 return;
@@ -876,7 +876,7 @@ public class EntityCitizen extends AbstractEntityCitizen
             }
 
             heal(healAmount);
-            citizenData.markDirty();
+            citizenData.markDirty(VIEW_GROUP_VITALS);
         }
     }
 
@@ -1060,9 +1060,9 @@ public class EntityCitizen extends AbstractEntityCitizen
 
         decrementCallForHelpCooldown();
 
-        if (recentlyHit > 0)
+        if (recentlyHit > 0 && citizenData != null)
         {
-            markDirty();
+            citizenData.markDirty(VIEW_GROUP_VITALS);
         }
 
         if (CompatibilityUtils.getWorldFromCitizen(this).isRemote)
@@ -1193,7 +1193,7 @@ public class EntityCitizen extends AbstractEntityCitizen
         if (citizenData != null)
         {
             citizenData.decreaseSaturation(citizenColonyHandler.getPerBuildingFoodCost());
-            citizenData.markDirty();
+            citizenData.markDirty(VIEW_GROUP_VITALS);
         }
     }
 
@@ -1206,7 +1206,7 @@ public class EntityCitizen extends AbstractEntityCitizen
         if (citizenData != null)
         {
             citizenData.decreaseSaturation(citizenColonyHandler.getPerBuildingFoodCost() / 100.0);
-            citizenData.markDirty();
+            citizenData.markDirty(VIEW_GROUP_VITALS);
         }
     }
 
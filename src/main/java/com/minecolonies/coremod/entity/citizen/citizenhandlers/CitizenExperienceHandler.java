@@ -130,7 +130,7 @@ public class CitizenExperienceHandler implements ICitizenExperienceHandler
             citizen.getCitizenData().levelUp();
         }
         updateLevel();
-        citizen.markDirty();
+        citizen.getCitizenData().markDirty(VIEW_GROUP_SKILLS | VIEW_GROUP_INVENTORY);
     }
 
     /**
@@ -24,6 +24,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 
+import static com.minecolonies.api.util.constant.CitizenConstants.VIEW_GROUP_VITALS;
 import static com.minecolonies.api.util.constant.HappinessConstants.*;
 import static com.minecolonies.api.util.constant.TranslationConstants.*;
 
@@ -146,7 +147,7 @@ public class CitizenHappinessHandler implements ICitizenHappinessHandler
         {
             foodModifier = 0;
         }
-        citizen.markDirty();
+        citizen.markDirty(VIEW_GROUP_VITALS);
     }
 
     /**
@@ -167,7 +168,7 @@ public class CitizenHappinessHandler implements ICitizenHappinessHandler
         processDailyHappinessForFarmData();
         processDailyHappinessForToolData();
 
-        citizen.markDirty();
+        citizen.markDirty(VIEW_GROUP_VITALS);
     }
 
     private void processDailyHappinessForHomeData(final boolean hasHouse)
@@ -308,9 +309,9 @@ public class CitizenHappinessHandler implements ICitizenHappinessHandler
             {
                 damageModifier = DAMAGE_MODIFIER_MIN;
             }
-            citizen.markDirty();
+            citizen.markDirty(VIEW_GROUP_VITALS);
         }
-        citizen.markDirty();
+        citizen.markDirty(VIEW_GROUP_VITALS);
     }
 
     /**
@@ -332,7 +333,7 @@ public class CitizenHappinessHandler implements ICitizenHappinessHandler
         }
 
         field.isCanFarm(canFarm);
-        citizen.markDirty();
+        citizen.markDirty(VIEW_GROUP_VITALS);
     }
 
     /**
@@ -365,7 +366,7 @@ public class CitizenHappinessHandler implements ICitizenHappinessHandler
         {
             needsTool.remove(toolType);
         }
-        citizen.markDirty();
+        citizen.markDirty(VIEW_GROUP_VITALS);
     }
 
     /**
@@ -383,7 +384,7 @@ public class CitizenHappinessHandler implements ICitizenHappinessHandler
         {
             houseModifier = (MAX_HOUSE_PENALTY * ((double) numberOfDaysWithoutHouse / MAX_DAYS_WITHOUT_HOUSE)) * -1;
         }
-        citizen.markDirty();
+        citizen.markDirty(VIEW_GROUP_VITALS);
     }
 
     /**
@@ -403,7 +404,7 @@ public class CitizenHappinessHandler implements ICitizenHappinessHandler
         {
             jobModifier = (MAX_JOB_PENALTY * ((double) numberOfDaysWithoutHouse / MAX_DAYS_WITHOUT_JOB)) * -1;
         }
-        citizen.markDirty();
+        citizen.markDirty(VIEW_GROUP_VITALS);
     }
 
     /**
@@ -3,12 +3,18 @@ package com.minecolonies.coremod.entity.pathfinding;
 import com.minecolonies.api.blocks.AbstractBlockBarrel;
 import com.minecolonies.api.blocks.decorative.AbstractBlockMinecoloniesConstructionTape;
 import com.minecolonies.api.blocks.huts.AbstractBlockMinecoloniesDefault;
+import com.minecolonies.api.colony.ICitizenData;
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.IColonyRelated;
 import com.minecolonies.api.configuration.Configurations;
+import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
+import com.minecolonies.api.entity.mobs.AbstractEntityMinecoloniesMob;
 import com.minecolonies.api.entity.pathfinding.PathResult;
 import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.api.util.BlockUtils;
 import com.minecolonies.api.util.CompatibilityUtils;
 import com.minecolonies.api.util.Log;
+import com.minecolonies.coremod.colony.jobs.AbstractJobGuard;
 import net.minecraft.block.*;
 import net.minecraft.block.material.Material;
 import net.minecraft.block.state.IBlockState;
@@ -83,6 +89,11 @@ public abstract class AbstractPathJob implements Callable<Path>
      */
     private static final double TOO_FAR_FROM_FENCE = 0.9D;
 
+    /**
+     * Initial capacity of the open node queue.
+     */
+    private static final int OPEN_NODES_CAPACITY = 500;
+
     /**
      * Shift x by this value to calculate the node key..
      */
@@ -105,8 +116,14 @@ public abstract class AbstractPathJob implements Callable<Path>
     protected final  IBlockAccess       world;
     protected final  PathResult         result;
     private final    int                maxRange;
-    private final    Queue<Node>        nodesOpen                    = new PriorityQueue<>(500);
-    private final    Map<Integer, Node> nodesVisited                 = new HashMap<>();
+    //  Primitive node map and indexed heap, or the plain java collections, depending on the config
+    private final    boolean            primitiveSearch              = Configurations.pathfinding.pathfindingPrimitiveSearch;
+    private final    Queue<Node>        nodesOpen                    =
+      primitiveSearch ? new NodeHeap(OPEN_NODES_CAPACITY) : new PriorityQueue<>(OPEN_NODES_CAPACITY);
+    @Nullable
+    private final    Map<Integer, Node> nodesVisited                 = primitiveSearch ? null : new HashMap<>();
+    @Nullable
+    private final    NodeMap            nodesVisitedPrimitive        = primitiveSearch ? new NodeMap(MAX_NODES_VISITED) : null;
     //  Debug Rendering
     protected        boolean            debugDrawEnabled             = false;
     @Nullable
@@ -353,9 +370,23 @@ public abstract class AbstractPathJob implements Callable<Path>
      */
     private static int computeNodeKey(@NotNull final BlockPos pos)
     {
-        return ((pos.getX() & 0xFFF) << SHIFT_X_BY)
-                 | ((pos.getY() & 0xFF) << SHIFT_Y_BY)
-                 | (pos.getZ() & 0xFFF);
+        return computeNodeKey(pos.getX(), pos.getY(), pos.getZ());
+    }
+
+    /**
+     * Generate a pseudo-unique key for identifying a given node by it's coordinates
+     * This version takes the coordinates, to avoid creating a BlockPos for the lookup.
+     *
+     * @param x the x coordinate.
+     * @param y the y coordinate.
+     * @param z the z coordinate.
+     * @return key for node in map
+     */
+    private static int computeNodeKey(final int x, final int y, final int z)
+    {
+        return ((x & 0xFFF) << SHIFT_X_BY)
+                 | ((y & 0xFF) << SHIFT_Y_BY)
+                 | (z & 0xFFF);
     }
 
     /**
@@ -415,6 +446,78 @@ public abstract class AbstractPathJob implements Callable<Path>
         return result;
     }
 
+    /**
+     * Get the entity this job belongs to.
+     *
+     * @return the entity or null.
+     */
+    @Nullable
+    public EntityLivingBase getEntity()
+    {
+        return entity;
+    }
+
+    /**
+     * Get the priority class this job is scheduled with.
+     * Should only be called on the main thread since it reads the state of the entity.
+     *
+     * @return the priority.
+     */
+    @NotNull
+    public PathJobPriority getPriority()
+    {
+        if (entity instanceof AbstractEntityCitizen)
+        {
+            final ICitizenData citizenData = ((AbstractEntityCitizen) entity).getCitizenData();
+            if (citizenData == null || citizenData.getJob() == null)
+            {
+                return PathJobPriority.IDLE;
+            }
+            return citizenData.getJob() instanceof AbstractJobGuard ? PathJobPriority.COMBAT : PathJobPriority.WORK;
+        }
+        return PathJobPriority.COMBAT;
+    }
+
+    /**
+     * Get the id of the colony the entity of this job belongs to, used to share the pathfinding threads fairly between colonies.
+     * Should only be called on the main thread.
+     *
+     * @return the colony id or 0 if none.
+     */
+    public int getColonyId()
+    {
+        return getColonyId(entity);
+    }
+
+    /**
+     * Get the id of the colony an entity belongs to.
+     *
+     * @param entity the entity.
+     * @return the colony id or 0 if none.
+     */
+    public static int getColonyId(@Nullable final EntityLivingBase entity)
+    {
+        if (entity instanceof AbstractEntityCitizen)
+        {
+            return ((AbstractEntityCitizen) entity).getCitizenColonyHandler().getColonyId();
+        }
+
+        final IColony colony;
+        if (entity instanceof AbstractEntityMinecoloniesMob)
+        {
+            colony = ((AbstractEntityMinecoloniesMob) entity).getColony();
+        }
+        else if (entity instanceof IColonyRelated)
+        {
+            colony = ((IColonyRelated) entity).getColony();
+        }
+        else
+        {
+            colony = null;
+        }
+        return colony == null ? 0 : colony.getID();
+    }
+
     /**
      * Callable method for initiating asynchronous task.
      *
@@ -604,7 +707,7 @@ public abstract class AbstractPathJob implements Callable<Path>
         }
 
         nodesOpen.offer(startNode);
-        nodesVisited.put(computeNodeKey(start), startNode);
+        putVisitedNode(computeNodeKey(start), startNode);
 
         ++totalNodesAdded;
 
@@ -744,12 +847,17 @@ public abstract class AbstractPathJob implements Callable<Path>
      */
     protected final boolean walk(@NotNull final Node parent, @NotNull final BlockPos dPos)
     {
-        BlockPos pos = parent.pos.add(dPos);
-
         //  Cheap test to perform before doing a 'y' test
         //  Has this node been visited?
-        int nodeKey = computeNodeKey(pos);
-        Node node = nodesVisited.get(nodeKey);
+        int nodeKey = computeNodeKey(parent.pos.getX() + dPos.getX(), parent.pos.getY() + dPos.getY(), parent.pos.getZ() + dPos.getZ());
+        Node node = getVisitedNode(nodeKey);
+        if (nodeClosed(node))
+        {
+            //  Early out on previously visited and closed nodes, before creating the position and checking the ground
+            return false;
+        }
+
+        BlockPos pos = parent.pos.add(dPos);
 
         //  Can we traverse into this node?  Fix the y up
         final int newY = getGroundHeight(parent, pos);
@@ -768,7 +876,7 @@ public abstract class AbstractPathJob implements Callable<Path>
             //  Has this node been visited?
             pos = new BlockPos(pos.getX(), newY, pos.getZ());
             nodeKey = computeNodeKey(pos);
-            node = nodesVisited.get(nodeKey);
+            node = getVisitedNode(nodeKey);
             if (nodeClosed(node))
             {
                 //  Early out on previously visited and closed nodes
@@ -804,6 +912,36 @@ public abstract class AbstractPathJob implements Callable<Path>
         return true;
     }
 
+    /**
+     * Get an already visited node.
+     *
+     * @param nodeKey the key of the node.
+     * @return the node or null if not visited yet.
+     */
+    @Nullable
+    private Node getVisitedNode(final int nodeKey)
+    {
+        return primitiveSearch ? nodesVisitedPrimitive.get(nodeKey) : nodesVisited.get(nodeKey);
+    }
+
+    /**
+     * Store a visited node.
+     *
+     * @param nodeKey the key of the node.
+     * @param node    the node.
+     */
+    private void putVisitedNode(final int nodeKey, @NotNull final Node node)
+    {
+        if (primitiveSearch)
+        {
+            nodesVisitedPrimitive.put(nodeKey, node);
+        }
+        else
+        {
+            nodesVisited.put(nodeKey, node);
+        }
+    }
+
     private void performJumpPointSearch(@NotNull final Node parent, @NotNull final BlockPos dPos, @NotNull final Node node)
     {
         if (allowJumpPointSearchTypeWalk && node.getHeuristic() <= parent.getHeuristic())
@@ -819,7 +957,7 @@ public abstract class AbstractPathJob implements Callable<Path>
     {
         final Node node;
         node = new Node(parent, pos, cost, heuristic, score);
-        nodesVisited.put(nodeKey, node);
+        putVisitedNode(nodeKey, node);
         if (debugDrawEnabled)
         {
             debugNodesNotVisited.add(node);
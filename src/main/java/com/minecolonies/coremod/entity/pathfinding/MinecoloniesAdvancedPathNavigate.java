@@ -38,6 +38,18 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
     @Nullable
     private PathResult pathResult;
 
+    /**
+     * Job which got rejected by the full pathfinding queue and is resubmitted on the next update.
+     */
+    @Nullable
+    private AbstractPathJob pendingJob;
+
+    /**
+     * Key to store the path which is being calculated in the path cache with, if cacheable.
+     */
+    @Nullable
+    private PathCache.PathKey pendingCacheKey;
+
     /**
      * Instantiates the navigation of an ourEntity.
      *
@@ -95,6 +107,10 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
         this.walkSpeed = speed;
 
         calculationFuture = Pathfinding.enqueue(job);
+        if (calculationFuture == null)
+        {
+            pendingJob = job;
+        }
         pathResult = job.getResult();
         return pathResult;
     }
@@ -102,6 +118,16 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
     @Override
     public void onUpdateNavigation()
     {
+        if (pendingJob != null)
+        {
+            calculationFuture = Pathfinding.enqueue(pendingJob);
+            if (calculationFuture == null)
+            {
+                return;
+            }
+            pendingJob = null;
+        }
+
         if (calculationFuture != null)
         {
             if (!calculationFuture.isDone())
@@ -169,9 +195,69 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
         @NotNull final BlockPos start = AbstractPathJob.prepareStart(ourEntity);
         @NotNull final BlockPos dest = new BlockPos(newX, newY, newZ);
 
-        return setPathJob(
+        final PathCache.PathKey cacheKey = getCacheKey(start, dest);
+        if (cacheKey != null)
+        {
+            final Path cachedPath = PathCache.getInstance().get(cacheKey);
+            if (cachedPath != null)
+            {
+                return setCachedPath(cachedPath, dest, speed);
+            }
+        }
+
+        final PathResult result = setPathJob(
           new PathJobMoveToLocation(CompatibilityUtils.getWorldFromEntity(ourEntity), start, dest, (int) getPathSearchRange(), ourEntity),
           dest, speed);
+        pendingCacheKey = cacheKey;
+        return result;
+    }
+
+    /**
+     * Get the key of a path in the colony path cache.
+     *
+     * @param start the start of the path.
+     * @param dest  the destination of the path.
+     * @return the key or null if the path of this entity can't be cached.
+     */
+    @Nullable
+    private PathCache.PathKey getCacheKey(@NotNull final BlockPos start, @NotNull final BlockPos dest)
+    {
+        if (!PathCache.isEnabled())
+        {
+            return null;
+        }
+
+        final int colonyId = AbstractPathJob.getColonyId(ourEntity);
+        if (colonyId == 0)
+        {
+            return null;
+        }
+        return new PathCache.PathKey(ourEntity.world.provider.getDimension(), colonyId, start, dest, ourEntity.getClass(), (int) getPathSearchRange());
+    }
+
+    /**
+     * Follow a path taken from the path cache.
+     *
+     * @param path  the path.
+     * @param dest  the destination.
+     * @param speed the speed to walk.
+     * @return the PathResult.
+     */
+    @NotNull
+    private PathResult setCachedPath(@NotNull final Path path, @NotNull final BlockPos dest, final double speed)
+    {
+        clearPath();
+
+        this.destination = dest;
+        this.originalDestination = dest;
+        this.walkSpeed = speed;
+
+        pathResult = new PathResult();
+        setPath(path, speed);
+        pathResult.setPathLength(path.getCurrentPathLength());
+        pathResult.setPathReachesDestination(true);
+        pathResult.setStatus(PathFindingStatus.IN_PROGRESS_FOLLOWING);
+        return pathResult;
     }
 
     public boolean tryMoveToBlockPos(final BlockPos pos, final double speed)
@@ -293,6 +379,12 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
             return true;
         }
 
+        if (pendingCacheKey != null && pathResult.isPathReachingDestination())
+        {
+            PathCache.getInstance().put(pendingCacheKey, calculationFuture.get());
+        }
+        pendingCacheKey = null;
+
         setPath(calculationFuture.get(), getSpeed());
 
         pathResult.setPathLength(getPath().getCurrentPathLength());
@@ -440,12 +532,14 @@ public class MinecoloniesAdvancedPathNavigate extends AbstractAdvancedPathNaviga
     @Override
     public boolean noPath()
     {
-        return calculationFuture == null && super.noPath();
+        return calculationFuture == null && pendingJob == null && super.noPath();
     }
 
     @Override
     public void clearPath()
     {
+        pendingJob = null;
+        pendingCacheKey = null;
         if (calculationFuture != null)
         {
             calculationFuture.cancel(true);
@@ -81,6 +81,11 @@ public class Node implements Comparable<Node>
      */
     private boolean swimming = false;
 
+    /**
+     * Index of the node inside of its {@link NodeHeap}, -1 if not in a heap.
+     */
+    private int heapIndex = -1;
+
     /**
      * Create initial Node.
      *
@@ -333,4 +338,24 @@ public class Node implements Comparable<Node>
     {
         this.counterAdded = counterAdded;
     }
+
+    /**
+     * Getter of the index of the node inside of its heap.
+     *
+     * @return the index or -1 if not in a heap.
+     */
+    public int getHeapIndex()
+    {
+        return heapIndex;
+    }
+
+    /**
+     * Sets the index of the node inside of its heap.
+     *
+     * @param heapIndex the index.
+     */
+    public void setHeapIndex(final int heapIndex)
+    {
+        this.heapIndex = heapIndex;
+    }
 }
@@ -0,0 +1,215 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.AbstractQueue;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Binary min heap of nodes which remembers the position of each node inside of the heap.
+ * This makes removing a node, as done when a cheaper way to an open node is found, logarithmic instead of linear.
+ * A node can only be part of one heap at a time.
+ */
+public class NodeHeap extends AbstractQueue<Node>
+{
+    /**
+     * The heap, the children of index i are at 2i+1 and 2i+2.
+     */
+    private Node[] heap;
+
+    /**
+     * The amount of nodes in the heap.
+     */
+    private int size = 0;
+
+    /**
+     * Create a new heap.
+     *
+     * @param initialCapacity the initial capacity.
+     */
+    public NodeHeap(final int initialCapacity)
+    {
+        heap = new Node[Math.max(1, initialCapacity)];
+    }
+
+    @Override
+    public boolean offer(@NotNull final Node node)
+    {
+        if (size == heap.length)
+        {
+            heap = Arrays.copyOf(heap, heap.length * 2);
+        }
+        heap[size] = node;
+        node.setHeapIndex(size);
+        size++;
+        siftUp(size - 1);
+        return true;
+    }
+
+    @Nullable
+    @Override
+    public Node poll()
+    {
+        if (size == 0)
+        {
+            return null;
+        }
+        final Node first = heap[0];
+        removeAt(0);
+        return first;
+    }
+
+    @Nullable
+    @Override
+    public Node peek()
+    {
+        return size == 0 ? null : heap[0];
+    }
+
+    @Override
+    public boolean contains(final Object o)
+    {
+        if (!(o instanceof Node))
+        {
+            return false;
+        }
+        final int index = ((Node) o).getHeapIndex();
+        return index >= 0 && index < size && heap[index] == o;
+    }
+
+    @Override
+    public boolean remove(final Object o)
+    {
+        if (!contains(o))
+        {
+            return false;
+        }
+        removeAt(((Node) o).getHeapIndex());
+        return true;
+    }
+
+    @Override
+    public void clear()
+    {
+        for (int i = 0; i < size; i++)
+        {
+            heap[i].setHeapIndex(-1);
+            heap[i] = null;
+        }
+        size = 0;
+    }
+
+    @Override
+    public int size()
+    {
+        return size;
+    }
+
+    @NotNull
+    @Override
+    public Iterator<Node> iterator()
+    {
+        return new Iterator<Node>()
+        {
+            private int index = 0;
+
+            @Override
+            public boolean hasNext()
+            {
+                return index < size;
+            }
+
+            @Override
+            public Node next()
+            {
+                if (index >= size)
+                {
+                    throw new NoSuchElementException();
+                }
+                return heap[index++];
+            }
+        };
+    }
+
+    /**
+     * Remove the node at a certain index and restore the heap order.
+     *
+     * @param index the index.
+     */
+    private void removeAt(final int index)
+    {
+        heap[index].setHeapIndex(-1);
+        size--;
+        if (index == size)
+        {
+            heap[size] = null;
+            return;
+        }
+
+        final Node last = heap[size];
+        heap[size] = null;
+        heap[index] = last;
+        last.setHeapIndex(index);
+        siftDown(index);
+        if (heap[index] == last)
+        {
+            siftUp(index);
+        }
+    }
+
+    /**
+     * Move the node at a certain index up until its parent is smaller.
+     *
+     * @param index the index.
+     */
+    private void siftUp(final int index)
+    {
+        final Node node = heap[index];
+        int current = index;
+        while (current > 0)
+        {
+            final int parent = (current - 1) >>> 1;
+            if (node.compareTo(heap[parent]) >= 0)
+            {
+                break;
+            }
+            heap[current] = heap[parent];
+            heap[current].setHeapIndex(current);
+            current = parent;
+        }
+        heap[current] = node;
+        node.setHeapIndex(current);
+    }
+
+    /**
+     * Move the node at a certain index down until its children are larger.
+     *
+     * @param index the index.
+     */
+    private void siftDown(final int index)
+    {
+        final Node node = heap[index];
+        int current = index;
+        final int half = size >>> 1;
+        while (current < half)
+        {
+            int child = (current << 1) + 1;
+            if (child + 1 < size && heap[child + 1].compareTo(heap[child]) < 0)
+            {
+                child++;
+            }
+            if (node.compareTo(heap[child]) <= 0)
+            {
+                break;
+            }
+            heap[current] = heap[child];
+            heap[current].setHeapIndex(current);
+            current = child;
+        }
+        heap[current] = node;
+        node.setHeapIndex(current);
+    }
+}
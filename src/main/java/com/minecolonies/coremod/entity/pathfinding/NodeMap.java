@@ -0,0 +1,135 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Map of nodes by their int node key, using open addressing on primitive arrays to avoid boxing the keys.
+ * Nodes are never removed during a search, so no removal is supported.
+ */
+public class NodeMap
+{
+    /**
+     * Maximum fill ratio before growing.
+     */
+    private static final float LOAD_FACTOR = 0.5F;
+
+    /**
+     * Multiplier to spread the node keys over the table.
+     */
+    private static final int HASH_MULTIPLIER = 0x9E3779B9;
+
+    /**
+     * The keys and values, a null value marks an empty slot.
+     */
+    private int[]  keys;
+    private Node[] values;
+
+    /**
+     * The amount of nodes in the map.
+     */
+    private int size = 0;
+
+    /**
+     * Create a new map.
+     *
+     * @param expectedSize the expected amount of nodes.
+     */
+    public NodeMap(final int expectedSize)
+    {
+        int capacity = 16;
+        while (capacity * LOAD_FACTOR < expectedSize)
+        {
+            capacity <<= 1;
+        }
+        keys = new int[capacity];
+        values = new Node[capacity];
+    }
+
+    /**
+     * Get the node with a certain key.
+     *
+     * @param key the node key.
+     * @return the node or null.
+     */
+    @Nullable
+    public Node get(final int key)
+    {
+        final int mask = keys.length - 1;
+        int slot = slot(key, mask);
+        while (values[slot] != null)
+        {
+            if (keys[slot] == key)
+            {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * Store a node with a certain key, replacing the previous node with that key.
+     *
+     * @param key  the node key.
+     * @param node the node.
+     */
+    public void put(final int key, @NotNull final Node node)
+    {
+        if (size + 1 > keys.length * LOAD_FACTOR)
+        {
+            grow();
+        }
+        insert(key, node);
+    }
+
+    /**
+     * Get the amount of nodes in the map.
+     *
+     * @return the amount.
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    private void insert(final int key, @NotNull final Node node)
+    {
+        final int mask = keys.length - 1;
+        int slot = slot(key, mask);
+        while (values[slot] != null)
+        {
+            if (keys[slot] == key)
+            {
+                values[slot] = node;
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = key;
+        values[slot] = node;
+        size++;
+    }
+
+    private void grow()
+    {
+        final int[] oldKeys = keys;
+        final Node[] oldValues = values;
+        keys = new int[oldKeys.length << 1];
+        values = new Node[oldValues.length << 1];
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++)
+        {
+            if (oldValues[i] != null)
+            {
+                insert(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private static int slot(final int key, final int mask)
+    {
+        final int hash = key * HASH_MULTIPLIER;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+}
@@ -0,0 +1,363 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import com.minecolonies.api.configuration.Configurations;
+import net.minecraft.pathfinding.Path;
+import net.minecraft.pathfinding.PathPoint;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+
+/**
+ * Cache of completed paths between two blocks, shared by all entities of a colony with the same navigation capabilities.
+ * <p>
+ * Cached paths are dropped when a block changes within their bounding box, and the least recently used path is dropped when the cache is full.
+ * Only accessed from the server thread.
+ */
+public final class PathCache
+{
+    /**
+     * The instance of the cache.
+     */
+    private static final PathCache INSTANCE = new PathCache();
+
+    /**
+     * Margin around the path points which is considered part of the path for invalidation.
+     */
+    private static final int BOX_MARGIN = 2;
+
+    /**
+     * The cached paths, in least recently used order.
+     */
+    private final LinkedHashMap<PathKey, CachedPath> paths = new LinkedHashMap<>(16, 0.75F, true);
+
+    /**
+     * The keys of the cached paths by the dimension and chunk their bounding box touches.
+     */
+    private final Map<Integer, Map<Long, Set<PathKey>>> pathsByChunk = new HashMap<>();
+
+    /**
+     * Counters for the statistics.
+     */
+    private long hits          = 0;
+    private long misses        = 0;
+    private long invalidations = 0;
+    private long evictions     = 0;
+
+    /**
+     * Private constructor, use {@link #getInstance()}.
+     */
+    private PathCache()
+    {
+        // Singleton.
+    }
+
+    /**
+     * Get the path cache.
+     *
+     * @return the instance.
+     */
+    public static PathCache getInstance()
+    {
+        return INSTANCE;
+    }
+
+    /**
+     * Check if the cache is enabled in the config.
+     *
+     * @return true if so.
+     */
+    public static boolean isEnabled()
+    {
+        return Configurations.pathfinding.pathCacheSize > 0;
+    }
+
+    /**
+     * Get a copy of a cached path.
+     *
+     * @param key the key of the path.
+     * @return a fresh path to follow, or null if not cached.
+     */
+    @Nullable
+    public Path get(@NotNull final PathKey key)
+    {
+        final CachedPath cachedPath = paths.get(key);
+        if (cachedPath == null)
+        {
+            misses++;
+            return null;
+        }
+
+        hits++;
+        return cachedPath.copyPath();
+    }
+
+    /**
+     * Store a path which reached its destination.
+     *
+     * @param key  the key of the path.
+     * @param path the path, not changed by this method.
+     */
+    public void put(@NotNull final PathKey key, @NotNull final Path path)
+    {
+        if (!isEnabled() || path.getCurrentPathLength() == 0)
+        {
+            return;
+        }
+
+        remove(key);
+        final CachedPath cachedPath = new CachedPath(path);
+        paths.put(key, cachedPath);
+        final Map<Long, Set<PathKey>> chunks = pathsByChunk.computeIfAbsent(key.dimension, dim -> new HashMap<>());
+        for (int x = cachedPath.minX >> 4; x <= cachedPath.maxX >> 4; x++)
+        {
+            for (int z = cachedPath.minZ >> 4; z <= cachedPath.maxZ >> 4; z++)
+            {
+                chunks.computeIfAbsent(ChunkPos.asLong(x, z), chunk -> new HashSet<>()).add(key);
+            }
+        }
+
+        final Iterator<Map.Entry<PathKey, CachedPath>> iterator = paths.entrySet().iterator();
+        while (paths.size() > Configurations.pathfinding.pathCacheSize && iterator.hasNext())
+        {
+            final Map.Entry<PathKey, CachedPath> eldest = iterator.next();
+            iterator.remove();
+            unindex(eldest.getKey(), eldest.getValue());
+            evictions++;
+        }
+    }
+
+    /**
+     * Drop all cached paths whose bounding box contains a changed block.
+     * Called by the world listener for every block change of a server world.
+     *
+     * @param dimension the dimension of the block.
+     * @param pos       the position of the block.
+     */
+    public void invalidate(final int dimension, @NotNull final BlockPos pos)
+    {
+        if (paths.isEmpty())
+        {
+            return;
+        }
+
+        final Map<Long, Set<PathKey>> chunks = pathsByChunk.get(dimension);
+        if (chunks == null)
+        {
+            return;
+        }
+
+        final Set<PathKey> keys = chunks.get(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4));
+        if (keys == null)
+        {
+            return;
+        }
+
+        for (final PathKey key : new ArrayList<>(keys))
+        {
+            if (paths.get(key).contains(pos))
+            {
+                remove(key);
+                invalidations++;
+            }
+        }
+    }
+
+    /**
+     * Drop all cached paths.
+     */
+    public void clear()
+    {
+        paths.clear();
+        pathsByChunk.clear();
+    }
+
+    /**
+     * Get a human readable summary of the statistics of this cache.
+     *
+     * @return the lines of the summary.
+     */
+    public List<String> getStatistics()
+    {
+        final long requests = hits + misses;
+        final List<String> lines = new ArrayList<>();
+        lines.add("Cached paths: " + paths.size() + "/" + Configurations.pathfinding.pathCacheSize);
+        lines.add("Hits: " + hits + ", misses: " + misses + ", hit rate: " + (requests == 0 ? 0 : hits * 100 / requests) + "%");
+        lines.add("Invalidations: " + invalidations + ", evictions: " + evictions);
+        return lines;
+    }
+
+    private void remove(@NotNull final PathKey key)
+    {
+        final CachedPath cachedPath = paths.remove(key);
+        if (cachedPath != null)
+        {
+            unindex(key, cachedPath);
+        }
+    }
+
+    private void unindex(@NotNull final PathKey key, @NotNull final CachedPath cachedPath)
+    {
+        final Map<Long, Set<PathKey>> chunks = pathsByChunk.get(key.dimension);
+        if (chunks == null)
+        {
+            return;
+        }
+
+        for (int x = cachedPath.minX >> 4; x <= cachedPath.maxX >> 4; x++)
+        {
+            for (int z = cachedPath.minZ >> 4; z <= cachedPath.maxZ >> 4; z++)
+            {
+                final long chunk = ChunkPos.asLong(x, z);
+                final Set<PathKey> keys = chunks.get(chunk);
+                if (keys != null && keys.remove(key) && keys.isEmpty())
+                {
+                    chunks.remove(chunk);
+                }
+            }
+        }
+    }
+
+    /**
+     * Key of a cached path.
+     */
+    public static final class PathKey
+    {
+        private final int      dimension;
+        private final int      colonyId;
+        private final BlockPos start;
+        private final BlockPos target;
+        private final Class<?> entityClass;
+        private final int      range;
+
+        /**
+         * Create a new key.
+         *
+         * @param dimension   the dimension.
+         * @param colonyId    the colony the entity belongs to.
+         * @param start       the start block.
+         * @param target      the target block.
+         * @param entityClass the class of the entity, which determines its navigation capabilities.
+         * @param range       the search range.
+         */
+        public PathKey(final int dimension, final int colonyId, @NotNull final BlockPos start, @NotNull final BlockPos target, @NotNull final Class<?> entityClass, final int range)
+        {
+            this.dimension = dimension;
+            this.colonyId = colonyId;
+            this.start = start;
+            this.target = target;
+            this.entityClass = entityClass;
+            this.range = range;
+        }
+
+        @Override
+        public boolean equals(final Object o)
+        {
+            if (this == o)
+            {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass())
+            {
+                return false;
+            }
+
+            final PathKey other = (PathKey) o;
+            return dimension == other.dimension
+                     && colonyId == other.colonyId
+                     && range == other.range
+                     && start.equals(other.start)
+                     && target.equals(other.target)
+                     && entityClass == other.entityClass;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            int result = dimension;
+            result = 31 * result + colonyId;
+            result = 31 * result + start.hashCode();
+            result = 31 * result + target.hashCode();
+            result = 31 * result + entityClass.hashCode();
+            result = 31 * result + range;
+            return result;
+        }
+    }
+
+    /**
+     * A cached path with its bounding box.
+     */
+    private static final class CachedPath
+    {
+        private final PathPointExtended[] points;
+        private final int                 minX;
+        private final int                 minY;
+        private final int                 minZ;
+        private final int                 maxX;
+        private final int                 maxY;
+        private final int                 maxZ;
+
+        private CachedPath(@NotNull final Path path)
+        {
+            points = new PathPointExtended[path.getCurrentPathLength()];
+            int lowX = Integer.MAX_VALUE;
+            int lowY = Integer.MAX_VALUE;
+            int lowZ = Integer.MAX_VALUE;
+            int highX = Integer.MIN_VALUE;
+            int highY = Integer.MIN_VALUE;
+            int highZ = Integer.MIN_VALUE;
+            for (int i = 0; i < points.length; i++)
+            {
+                final PathPoint point = path.getPathPointFromIndex(i);
+                points[i] = copyPoint(point);
+                lowX = Math.min(lowX, point.x);
+                lowY = Math.min(lowY, point.y);
+                lowZ = Math.min(lowZ, point.z);
+                highX = Math.max(highX, point.x);
+                highY = Math.max(highY, point.y);
+                highZ = Math.max(highZ, point.z);
+            }
+            minX = lowX - BOX_MARGIN;
+            minY = lowY - BOX_MARGIN;
+            minZ = lowZ - BOX_MARGIN;
+            maxX = highX + BOX_MARGIN;
+            maxY = highY + BOX_MARGIN;
+            maxZ = highZ + BOX_MARGIN;
+        }
+
+        private boolean contains(@NotNull final BlockPos pos)
+        {
+            return pos.getX() >= minX && pos.getX() <= maxX
+                     && pos.getY() >= minY && pos.getY() <= maxY
+                     && pos.getZ() >= minZ && pos.getZ() <= maxZ;
+        }
+
+        /**
+         * Create a new path from the cached points, paths keep track of the progress of the entity and can't be shared.
+         *
+         * @return the new path.
+         */
+        private Path copyPath()
+        {
+            final PathPointExtended[] copy = new PathPointExtended[points.length];
+            for (int i = 0; i < points.length; i++)
+            {
+                copy[i] = copyPoint(points[i]);
+            }
+            return new Path(copy);
+        }
+
+        private static PathPointExtended copyPoint(@NotNull final PathPoint point)
+        {
+            final PathPointExtended copy = new PathPointExtended(new BlockPos(point.x, point.y, point.z));
+            if (point instanceof PathPointExtended)
+            {
+                copy.setOnLadder(((PathPointExtended) point).isOnLadder());
+                copy.setLadderFacing(((PathPointExtended) point).getLadderFacing());
+            }
+            return copy;
+        }
+    }
+}
@@ -163,4 +163,16 @@ public class PathJobMoveAwayFromLocation extends AbstractPathJob
     {
         return avoid.distanceSq(n.pos.getX(), n.pos.getY(), n.pos.getZ());
     }
+
+    /**
+     * Running away from danger always has combat priority.
+     *
+     * @return the priority.
+     */
+    @NotNull
+    @Override
+    public PathJobPriority getPriority()
+    {
+        return PathJobPriority.COMBAT;
+    }
 }
@@ -0,0 +1,22 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+/**
+ * Priority classes of path jobs, in the order they are picked up by the scheduler.
+ */
+public enum PathJobPriority
+{
+    /**
+     * Guards, raiders, mercenaries and fleeing entities.
+     */
+    COMBAT,
+
+    /**
+     * Citizens moving around for their job.
+     */
+    WORK,
+
+    /**
+     * Citizens without job, wandering around.
+     */
+    IDLE
+}
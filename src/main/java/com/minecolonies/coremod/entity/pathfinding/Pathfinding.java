@@ -14,24 +14,19 @@ import net.minecraft.pathfinding.Path;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.lwjgl.opengl.GL11;
 
 import java.util.ConcurrentModificationException;
 import java.util.Set;
-import java.util.concurrent.*;
+import java.util.concurrent.Future;
 
 /**
  * Static class the handles all the Pathfinding.
  */
 public final class Pathfinding
 {
-    private static final BlockingQueue<Runnable> jobQueue = new LinkedBlockingDeque<>();
-    private static ThreadPoolExecutor executor;
-
-    static
-    {
-        executor = new ThreadPoolExecutor(1, Configurations.pathfinding.pathfindingMaxThreadCount, 10, TimeUnit.SECONDS, jobQueue);
-    }
+    private static PathfindingScheduler scheduler;
 
     private Pathfinding()
     {
@@ -39,37 +34,42 @@ public final class Pathfinding
     }
 
     /**
-     * Creates a new thread pool for pathfinding jobs
+     * Get the scheduler for pathfinding jobs, creating it if necessary.
+     *
+     * @return the scheduler.
      */
-    public static ThreadPoolExecutor getExecutor()
+    public static synchronized PathfindingScheduler getScheduler()
     {
-        if (executor == null)
+        if (scheduler == null)
         {
-            executor = new ThreadPoolExecutor(1, Configurations.pathfinding.pathfindingMaxThreadCount, 10, TimeUnit.SECONDS, jobQueue);
+            scheduler = new PathfindingScheduler(Configurations.pathfinding.pathfindingMaxThreadCount, Configurations.pathfinding.pathfindingMaxQueuedJobs);
         }
-        return executor;
+        return scheduler;
     }
 
     /**
      * Add a job to the queue for processing.
      *
      * @param job PathJob
-     * @return a Future containing the Path
+     * @return a Future containing the Path, or null if the queue is full and the job has to be submitted again later.
      */
+    @Nullable
     public static Future<Path> enqueue(@NotNull final AbstractPathJob job)
     {
-        return getExecutor().submit(job);
+        return getScheduler().submit(job);
     }
 
     /**
-     * Waits until all running pathfinding requests are finished
-     * Then stops all running threads in this thread pool
+     * Drops all queued pathfinding requests
+     * Then stops all threads once their running request is finished.
      */
-    public static void shutdown()
+    public static synchronized void shutdown()
     {
-        getExecutor().shutdown();
-        executor = null;
-        jobQueue.clear();
+        if (scheduler != null)
+        {
+            scheduler.shutdown();
+            scheduler = null;
+        }
     }
 
     /**
@@ -0,0 +1,312 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import com.minecolonies.api.util.Log;
+import net.minecraft.entity.EntityLivingBase;
+import net.minecraft.pathfinding.Path;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.*;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Schedules path jobs on a fixed set of pathfinding threads.
+ * <p>
+ * Jobs are picked up by priority class first, and round robin between the colonies within one class.
+ * A job for an entity which still has a queued job replaces the older one.
+ * The queue is bounded, jobs which do not fit are rejected and have to be resubmitted by the caller later on.
+ * Combat jobs are always accepted.
+ */
+public final class PathfindingScheduler
+{
+    /**
+     * The queued jobs by priority, then by colony id. The iteration order of the colonies is the round robin order.
+     */
+    private final Map<PathJobPriority, LinkedHashMap<Integer, Deque<QueuedPathJob>>> queues = new EnumMap<>(PathJobPriority.class);
+
+    /**
+     * The queued jobs by entity id.
+     */
+    private final Map<Integer, QueuedPathJob> queuedByEntity = new HashMap<>();
+
+    /**
+     * The amount of queued jobs by priority.
+     */
+    private final int[] queueDepth = new int[PathJobPriority.values().length];
+
+    /**
+     * The pathfinding threads.
+     */
+    private final List<Thread> workers = new ArrayList<>();
+
+    /**
+     * Maximum amount of queued jobs.
+     */
+    private final int maxQueuedJobs;
+
+    /**
+     * If the scheduler got shut down.
+     */
+    private volatile boolean shutdown = false;
+
+    /**
+     * Counters for the statistics.
+     */
+    private final AtomicLong submittedJobs  = new AtomicLong();
+    private final AtomicLong executedJobs   = new AtomicLong();
+    private final AtomicLong rejectedJobs   = new AtomicLong();
+    private final AtomicLong supersededJobs = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong maxWaitNanos   = new AtomicLong();
+
+    /**
+     * Create a new scheduler and start its threads.
+     *
+     * @param threadCount   the amount of pathfinding threads.
+     * @param maxQueuedJobs the maximum amount of queued jobs.
+     */
+    public PathfindingScheduler(final int threadCount, final int maxQueuedJobs)
+    {
+        this.maxQueuedJobs = Math.max(1, maxQueuedJobs);
+        for (final PathJobPriority priority : PathJobPriority.values())
+        {
+            queues.put(priority, new LinkedHashMap<>());
+        }
+
+        for (int i = 0; i < Math.max(1, threadCount); i++)
+        {
+            final Thread worker = new Thread(this::runWorker, "Minecolonies Pathfinding " + i);
+            worker.setDaemon(true);
+            worker.start();
+            workers.add(worker);
+        }
+    }
+
+    /**
+     * Submit a job to the scheduler. Has to be called from the main thread.
+     *
+     * @param job the job.
+     * @return the future of the path, or null if the queue is full.
+     */
+    @Nullable
+    public Future<Path> submit(@NotNull final AbstractPathJob job)
+    {
+        final PathJobPriority priority = job.getPriority();
+        final EntityLivingBase entity = job.getEntity();
+        final QueuedPathJob queuedJob = new QueuedPathJob(job, priority, job.getColonyId(), entity == null ? -1 : entity.getEntityId());
+
+        synchronized (this)
+        {
+            if (shutdown)
+            {
+                return null;
+            }
+
+            final QueuedPathJob superseded = queuedJob.entityId == -1 ? null : queuedByEntity.remove(queuedJob.entityId);
+            if (superseded != null && removeFromQueue(superseded))
+            {
+                superseded.cancel(false);
+                supersededJobs.incrementAndGet();
+            }
+
+            if (priority != PathJobPriority.COMBAT && getQueueDepth() >= maxQueuedJobs)
+            {
+                rejectedJobs.incrementAndGet();
+                return null;
+            }
+
+            queues.get(priority).computeIfAbsent(queuedJob.colonyId, id -> new ArrayDeque<>()).addLast(queuedJob);
+            queueDepth[priority.ordinal()]++;
+            if (queuedJob.entityId != -1)
+            {
+                queuedByEntity.put(queuedJob.entityId, queuedJob);
+            }
+            submittedJobs.incrementAndGet();
+            notifyAll();
+        }
+
+        return queuedJob;
+    }
+
+    /**
+     * Remove a job from its queue.
+     *
+     * @param queuedJob the job.
+     * @return true if it was still queued.
+     */
+    private boolean removeFromQueue(@NotNull final QueuedPathJob queuedJob)
+    {
+        final Map<Integer, Deque<QueuedPathJob>> colonyQueues = queues.get(queuedJob.priority);
+        final Deque<QueuedPathJob> colonyQueue = colonyQueues.get(queuedJob.colonyId);
+        if (colonyQueue == null || !colonyQueue.remove(queuedJob))
+        {
+            return false;
+        }
+
+        if (colonyQueue.isEmpty())
+        {
+            colonyQueues.remove(queuedJob.colonyId);
+        }
+        queueDepth[queuedJob.priority.ordinal()]--;
+        return true;
+    }
+
+    /**
+     * Take the next job to execute, waiting until there is one.
+     *
+     * @return the job or null if the scheduler got shut down.
+     * @throws InterruptedException if the thread got interrupted.
+     */
+    @Nullable
+    private synchronized QueuedPathJob take() throws InterruptedException
+    {
+        while (!shutdown)
+        {
+            for (final PathJobPriority priority : PathJobPriority.values())
+            {
+                final LinkedHashMap<Integer, Deque<QueuedPathJob>> colonyQueues = queues.get(priority);
+                if (colonyQueues.isEmpty())
+                {
+                    continue;
+                }
+
+                // Take from the first colony in line and move it to the back of the line.
+                final Iterator<Map.Entry<Integer, Deque<QueuedPathJob>>> iterator = colonyQueues.entrySet().iterator();
+                final Map.Entry<Integer, Deque<QueuedPathJob>> entry = iterator.next();
+                iterator.remove();
+
+                final QueuedPathJob queuedJob = entry.getValue().pollFirst();
+                if (!entry.getValue().isEmpty())
+                {
+                    colonyQueues.put(entry.getKey(), entry.getValue());
+                }
+
+                queueDepth[priority.ordinal()]--;
+                queuedByEntity.remove(queuedJob.entityId, queuedJob);
+                return queuedJob;
+            }
+            wait();
+        }
+        return null;
+    }
+
+    /**
+     * Loop of the pathfinding threads.
+     */
+    private void runWorker()
+    {
+        try
+        {
+            QueuedPathJob queuedJob = take();
+            while (queuedJob != null)
+            {
+                if (!queuedJob.isCancelled())
+                {
+                    final long waitNanos = System.nanoTime() - queuedJob.enqueueNanos;
+                    totalWaitNanos.addAndGet(waitNanos);
+                    maxWaitNanos.accumulateAndGet(waitNanos, Math::max);
+                    executedJobs.incrementAndGet();
+                    queuedJob.run();
+
+                    // Clear the interrupt flag a cancelled job might have left behind.
+                    Thread.interrupted();
+                }
+                queuedJob = take();
+            }
+        }
+        catch (final InterruptedException e)
+        {
+            if (!shutdown)
+            {
+                Log.getLogger().warn("Pathfinding thread got interrupted", e);
+            }
+        }
+    }
+
+    /**
+     * Cancel all queued jobs and stop the threads once their current job is done.
+     */
+    public void shutdown()
+    {
+        synchronized (this)
+        {
+            shutdown = true;
+            for (final Map<Integer, Deque<QueuedPathJob>> colonyQueues : queues.values())
+            {
+                colonyQueues.values().forEach(colonyQueue -> colonyQueue.forEach(queuedJob -> queuedJob.cancel(false)));
+                colonyQueues.clear();
+            }
+            queuedByEntity.clear();
+            Arrays.fill(queueDepth, 0);
+            notifyAll();
+        }
+    }
+
+    /**
+     * Get the total amount of queued jobs.
+     *
+     * @return the amount.
+     */
+    public synchronized int getQueueDepth()
+    {
+        int depth = 0;
+        for (final int priorityDepth : queueDepth)
+        {
+            depth += priorityDepth;
+        }
+        return depth;
+    }
+
+    /**
+     * Get the amount of queued jobs of a priority class.
+     *
+     * @param priority the priority.
+     * @return the amount.
+     */
+    public synchronized int getQueueDepth(@NotNull final PathJobPriority priority)
+    {
+        return queueDepth[priority.ordinal()];
+    }
+
+    /**
+     * Get a human readable summary of the statistics of this scheduler.
+     *
+     * @return the lines of the summary.
+     */
+    public List<String> getStatistics()
+    {
+        final List<String> lines = new ArrayList<>();
+        final long executed = executedJobs.get();
+        lines.add("Threads: " + workers.size() + ", queued: " + getQueueDepth() + "/" + maxQueuedJobs);
+        for (final PathJobPriority priority : PathJobPriority.values())
+        {
+            lines.add(" - " + priority + ": " + getQueueDepth(priority));
+        }
+        lines.add("Submitted: " + submittedJobs.get() + ", executed: " + executed + ", rejected: " + rejectedJobs.get() + ", superseded: " + supersededJobs.get());
+        lines.add("Wait time avg: " + (executed == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalWaitNanos.get() / executed)) + "ms, max: "
+                    + TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get()) + "ms");
+        return lines;
+    }
+
+    /**
+     * A queued job together with its scheduling information.
+     */
+    private static final class QueuedPathJob extends FutureTask<Path>
+    {
+        private final PathJobPriority priority;
+        private final int             colonyId;
+        private final int             entityId;
+        private final long            enqueueNanos = System.nanoTime();
+
+        private QueuedPathJob(@NotNull final AbstractPathJob job, @NotNull final PathJobPriority priority, final int colonyId, final int entityId)
+        {
+            super(job);
+            this.priority = priority;
+            this.colonyId = colonyId;
+            this.entityId = entityId;
+        }
+    }
+}
@@ -5,9 +5,11 @@ import com.minecolonies.api.sounds.ModSoundEvents;
 import com.minecolonies.api.util.constant.Constants;
 import com.minecolonies.coremod.MineColonies;
 import com.minecolonies.coremod.colony.ColonyManager;
+import com.minecolonies.coremod.entity.pathfinding.PathCache;
 import com.minecolonies.coremod.entity.pathfinding.Pathfinding;
 import com.minecolonies.coremod.network.messages.ColonyStylesMessage;
 import com.minecolonies.coremod.network.messages.ServerUUIDMessage;
+import com.minecolonies.coremod.util.ColonySaveWriter;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.util.SoundEvent;
 import net.minecraftforge.common.config.Config;
@@ -108,5 +110,7 @@ public class FMLEventHandler
     public static void onServerStopped(final FMLServerStoppedEvent event)
     {
         Pathfinding.shutdown();
+        PathCache.getInstance().clear();
+        ColonySaveWriter.getInstance().flush();
     }
 }
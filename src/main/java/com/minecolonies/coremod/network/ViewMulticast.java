@@ -0,0 +1,173 @@
+package com.minecolonies.coremod.network;
+
+import com.minecolonies.coremod.MineColonies;
+import com.minecolonies.coremod.network.messages.ColonyUpdateBundleMessage;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Sends one serialized view message to several players, and counts the serialized and sent view data.
+ * <p>
+ * The messages are encoded separately for every player, but their payload got serialized only once when the message was created.
+ * Messages sent through here must therefore write their payload without consuming it.
+ * Between {@link #beginBundle()} and {@link #endBundle()} the view messages are collected per player and sent as one {@link ColonyUpdateBundleMessage}.
+ * Only accessed from the server thread.
+ */
+public final class ViewMulticast
+{
+    /**
+     * Counters for the statistics.
+     */
+    private static long intervals       = 0;
+    private static long serializations  = 0;
+    private static long serializedBytes = 0;
+    private static long packets         = 0;
+    private static long sentBytes       = 0;
+    private static long bundles         = 0;
+    private static long bundledMessages = 0;
+    private static long bundledRawBytes = 0;
+
+    /**
+     * The messages collected for each player while bundling, null if not bundling.
+     */
+    private static Map<EntityPlayerMP, List<IMessage>> pendingBundles = null;
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private ViewMulticast()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Send a message to all given players.
+     *
+     * @param message      the message with its serialized payload.
+     * @param payloadBytes the size of the payload, for the statistics.
+     * @param players      the players.
+     */
+    public static void send(@NotNull final IMessage message, final int payloadBytes, @NotNull final Collection<EntityPlayerMP> players)
+    {
+        if (players.isEmpty())
+        {
+            return;
+        }
+
+        recordSerialization(payloadBytes);
+        for (final EntityPlayerMP player : players)
+        {
+            sendTo(message, payloadBytes, player);
+        }
+    }
+
+    /**
+     * Count a payload which got serialized to be sent to several players with {@link #sendTo(IMessage, int, EntityPlayerMP)}.
+     *
+     * @param payloadBytes the size of the payload.
+     */
+    public static void recordSerialization(final int payloadBytes)
+    {
+        serializations++;
+        serializedBytes += payloadBytes;
+    }
+
+    /**
+     * Send a message with an already counted payload to one player.
+     *
+     * @param message      the message.
+     * @param payloadBytes the size of the payload, for the statistics.
+     * @param player       the player.
+     */
+    public static void sendTo(@NotNull final IMessage message, final int payloadBytes, @NotNull final EntityPlayerMP player)
+    {
+        if (pendingBundles != null && ColonyUpdateBundleMessage.canBundle(message))
+        {
+            pendingBundles.computeIfAbsent(player, p -> new ArrayList<>()).add(message);
+            bundledMessages++;
+            return;
+        }
+
+        MineColonies.getNetwork().sendTo(message, player);
+        packets++;
+        sentBytes += payloadBytes;
+    }
+
+    /**
+     * Start collecting the view messages of this update interval.
+     */
+    public static void beginBundle()
+    {
+        pendingBundles = new LinkedHashMap<>();
+    }
+
+    /**
+     * Send the collected view messages, one bundle per player.
+     * Messages shared between players are encoded only once.
+     */
+    public static void endBundle()
+    {
+        final Map<EntityPlayerMP, List<IMessage>> pending = pendingBundles;
+        pendingBundles = null;
+        if (pending == null)
+        {
+            return;
+        }
+
+        final Map<IMessage, byte[]> encoded = new IdentityHashMap<>();
+        for (final Map.Entry<EntityPlayerMP, List<IMessage>> entry : pending.entrySet())
+        {
+            final ColonyUpdateBundleMessage bundle = new ColonyUpdateBundleMessage(entry.getValue(), encoded);
+            MineColonies.getNetwork().sendTo(bundle, entry.getKey());
+            packets++;
+            bundles++;
+            sentBytes += bundle.getCompressedSize();
+            bundledRawBytes += bundle.getRawSize();
+        }
+    }
+
+    /**
+     * Count one update interval of the colony views, to average the counters.
+     */
+    public static void onUpdateInterval()
+    {
+        intervals++;
+    }
+
+    /**
+     * Reset the counters.
+     */
+    public static void reset()
+    {
+        intervals = 0;
+        serializations = 0;
+        serializedBytes = 0;
+        packets = 0;
+        sentBytes = 0;
+        bundles = 0;
+        bundledMessages = 0;
+        bundledRawBytes = 0;
+    }
+
+    /**
+     * Get a human readable summary of the statistics.
+     *
+     * @return the lines of the summary.
+     */
+    public static List<String> getStatistics()
+    {
+        final long divisor = Math.max(1, intervals);
+        final List<String> lines = new ArrayList<>();
+        lines.add("View update intervals: " + intervals);
+        lines.add("Serializations: " + serializations + " (" + serializations / divisor + " per interval), " + serializedBytes + " bytes (" + serializedBytes / divisor
+                    + " per interval)");
+        lines.add("Packets sent: " + packets + " (" + packets / divisor + " per interval), " + sentBytes + " bytes (" + sentBytes / divisor + " per interval)");
+        lines.add("Bundles sent: " + bundles + " carrying " + bundledMessages + " messages, " + bundledRawBytes + " bytes before compression");
+        return lines;
+    }
+}
@@ -1,9 +1,7 @@
 package com.minecolonies.coremod.network.messages;
 
-import com.ldtteam.structures.helpers.Structure;
 import com.ldtteam.structurize.management.StructureName;
 import com.ldtteam.structurize.management.Structures;
-import com.ldtteam.structurize.util.PlacementSettings;
 import com.minecolonies.api.blocks.AbstractBlockHut;
 import com.minecolonies.api.colony.IColony;
 import com.minecolonies.api.colony.IColonyManager;
@@ -18,7 +16,7 @@ import com.minecolonies.coremod.colony.workorders.WorkOrderBuildBuilding;
 import com.minecolonies.coremod.colony.workorders.WorkOrderBuildDecoration;
 import com.minecolonies.coremod.entity.ai.citizen.builder.ConstructionTapeHelper;
 import com.minecolonies.coremod.event.EventHandler;
-import com.minecolonies.coremod.util.ColonyUtils;
+import com.minecolonies.coremod.util.FootprintCache;
 import io.netty.buffer.ByteBuf;
 import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
@@ -346,18 +344,15 @@ public class BuildToolPlaceMessage extends AbstractMessage<BuildToolPlaceMessage
             {
                 ConstructionTapeHelper.removeConstructionTape(building.getCorners(), world);
                 final WorkOrderBuildBuilding workOrder = new WorkOrderBuildBuilding(building, 1);
-                final Structure wrapper = new Structure(world, workOrder.getStructureName(), new PlacementSettings());
-                final Tuple<Tuple<Integer, Integer>, Tuple<Integer, Integer>> corners
-                  = ColonyUtils.calculateCorners(building.getPosition(),
-                  world,
-                  wrapper,
-                  workOrder.getRotation(world),
-                  workOrder.isMirrored());
-
-                building.setCorners(corners.getFirst().getFirst(), corners.getFirst().getSecond(), corners.getSecond().getFirst(), corners.getSecond().getSecond());
-                building.setHeight(wrapper.getHeight());
-
-                ConstructionTapeHelper.placeConstructionTape(building.getPosition(), corners, world);
+                final FootprintCache.Footprint footprint = FootprintCache.getFootprint(world, workOrder.getStructureName(), workOrder.getRotation(world), workOrder.isMirrored());
+                if (footprint != null)
+                {
+                    final Tuple<Tuple<Integer, Integer>, Tuple<Integer, Integer>> corners = footprint.getCorners(building.getPosition());
+                    building.setCorners(corners.getFirst().getFirst(), corners.getFirst().getSecond(), corners.getSecond().getFirst(), corners.getSecond().getSecond());
+                    building.setHeight(footprint.getHeight());
+
+                    ConstructionTapeHelper.placeConstructionTape(building.getPosition(), corners, world);
+                }
             }
 
             if (mirror)
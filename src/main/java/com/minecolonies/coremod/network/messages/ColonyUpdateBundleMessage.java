@@ -0,0 +1,213 @@
+package com.minecolonies.coremod.network.messages;
+
+import com.minecolonies.api.util.Log;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
+import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.function.Supplier;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import static com.minecolonies.api.util.constant.Suppression.RAWTYPES;
+import static com.minecolonies.api.util.constant.Suppression.UNCHECKED;
+
+/**
+ * Carries all colony view messages of one update interval for one player, compressed.
+ * The client applies them in order within one scheduled task.
+ */
+public class ColonyUpdateBundleMessage extends AbstractMessage<ColonyUpdateBundleMessage, IMessage>
+{
+    /**
+     * The message types which can be bundled, the index is written to the buffer.
+     */
+    private static final List<Class<?>>                                  TYPES     = new ArrayList<>();
+    private static final List<Supplier<? extends AbstractMessage<?, ?>>> FACTORIES = new ArrayList<>();
+
+    static
+    {
+        register(ColonyViewMessage.class, ColonyViewMessage::new);
+        register(PermissionsMessage.View.class, PermissionsMessage.View::new);
+        register(ColonyViewWorkOrderMessage.class, ColonyViewWorkOrderMessage::new);
+        register(ColonyViewCitizenViewMessage.class, ColonyViewCitizenViewMessage::new);
+        register(ColonyViewBuildingViewMessage.class, ColonyViewBuildingViewMessage::new);
+        register(HappinessDataMessage.class, HappinessDataMessage::new);
+        register(ColonyStylesMessage.class, ColonyStylesMessage::new);
+    }
+
+    /**
+     * The size of the uncompressed entries.
+     */
+    private int rawSize;
+
+    /**
+     * The compressed entries on the server side.
+     */
+    private byte[] compressed;
+
+    /**
+     * The decoded messages on the client side.
+     */
+    private final List<AbstractMessage<?, ?>> messages = new ArrayList<>();
+
+    /**
+     * Empty constructor used when registering the message.
+     */
+    public ColonyUpdateBundleMessage()
+    {
+        super();
+    }
+
+    /**
+     * Bundle the given messages.
+     *
+     * @param bundled the messages, in the order the client should apply them.
+     * @param encoded cache of already encoded messages, shared between the bundles of one interval.
+     */
+    public ColonyUpdateBundleMessage(@NotNull final List<IMessage> bundled, @NotNull final Map<IMessage, byte[]> encoded)
+    {
+        super();
+        final ByteBuf entries = Unpooled.buffer();
+        entries.writeInt(bundled.size());
+        for (final IMessage message : bundled)
+        {
+            entries.writeBytes(encoded.computeIfAbsent(message, ColonyUpdateBundleMessage::encode));
+        }
+
+        rawSize = entries.readableBytes();
+        final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        deflater.setInput(entries.array(), entries.arrayOffset() + entries.readerIndex(), rawSize);
+        deflater.finish();
+
+        final ByteBuf out = Unpooled.buffer();
+        final byte[] chunk = new byte[8192];
+        while (!deflater.finished())
+        {
+            out.writeBytes(chunk, 0, deflater.deflate(chunk));
+        }
+        deflater.end();
+
+        compressed = new byte[out.readableBytes()];
+        out.readBytes(compressed);
+    }
+
+    /**
+     * Check if a message can be sent within a bundle.
+     *
+     * @param message the message.
+     * @return true if so.
+     */
+    public static boolean canBundle(@NotNull final IMessage message)
+    {
+        return TYPES.contains(message.getClass());
+    }
+
+    /**
+     * Get the compressed size of the bundle.
+     *
+     * @return the size in bytes.
+     */
+    public int getCompressedSize()
+    {
+        return compressed.length;
+    }
+
+    /**
+     * Get the uncompressed size of the bundle.
+     *
+     * @return the size in bytes.
+     */
+    public int getRawSize()
+    {
+        return rawSize;
+    }
+
+    @Override
+    public void fromBytes(@NotNull final ByteBuf buf)
+    {
+        rawSize = buf.readInt();
+        final byte[] input = new byte[buf.readableBytes()];
+        buf.readBytes(input);
+
+        final byte[] raw = new byte[rawSize];
+        final Inflater inflater = new Inflater();
+        inflater.setInput(input);
+        try
+        {
+            inflater.inflate(raw);
+        }
+        catch (final DataFormatException e)
+        {
+            Log.getLogger().warn("Received a corrupt colony update bundle", e);
+            return;
+        }
+        finally
+        {
+            inflater.end();
+        }
+
+        final ByteBuf entries = Unpooled.wrappedBuffer(raw);
+        final int count = entries.readInt();
+        for (int i = 0; i < count; i++)
+        {
+            final AbstractMessage<?, ?> message = FACTORIES.get(entries.readByte()).get();
+            message.fromBytes(entries.readSlice(entries.readInt()));
+            messages.add(message);
+        }
+    }
+
+    @Override
+    public void toBytes(@NotNull final ByteBuf buf)
+    {
+        buf.writeInt(rawSize);
+        buf.writeBytes(compressed);
+    }
+
+    @Override
+    @SuppressWarnings({UNCHECKED, RAWTYPES})
+    protected void messageOnClientThread(final ColonyUpdateBundleMessage message, final MessageContext ctx)
+    {
+        for (final AbstractMessage bundled : message.messages)
+        {
+            bundled.messageOnClientThread(bundled, ctx);
+        }
+    }
+
+    /**
+     * Register a message type which can be bundled.
+     *
+     * @param type    the message class.
+     * @param factory creates an empty message to read into.
+     * @param <M>     the message type.
+     */
+    private static <M extends AbstractMessage<?, ?>> void register(@NotNull final Class<M> type, @NotNull final Supplier<M> factory)
+    {
+        TYPES.add(type);
+        FACTORIES.add(factory);
+    }
+
+    /**
+     * Encode one message with its type and length.
+     *
+     * @param message the message.
+     * @return the encoded bytes.
+     */
+    private static byte[] encode(@NotNull final IMessage message)
+    {
+        final ByteBuf body = Unpooled.buffer();
+        message.toBytes(body);
+
+        final ByteBuf entry = Unpooled.buffer(body.readableBytes() + 5);
+        entry.writeByte(TYPES.indexOf(message.getClass()));
+        entry.writeInt(body.readableBytes());
+        entry.writeBytes(body);
+
+        final byte[] bytes = new byte[entry.readableBytes()];
+        entry.readBytes(bytes);
+        return bytes;
+    }
+}
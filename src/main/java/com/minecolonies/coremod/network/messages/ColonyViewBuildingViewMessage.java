@@ -63,7 +63,18 @@ public class ColonyViewBuildingViewMessage extends AbstractMessage<ColonyViewBui
         buf.writeInt(colonyId);
         BlockPosUtil.writeToByteBuf(buf, buildingId);
         buf.writeInt(dimension);
-        buf.writeBytes(buildingData);
+        // Without consuming the buffer, the message may be sent to several players.
+        buf.writeBytes(buildingData, buildingData.readerIndex(), buildingData.readableBytes());
+    }
+
+    /**
+     * Get the size of the serialized building.
+     *
+     * @return the size in bytes.
+     */
+    public int getPayloadSize()
+    {
+        return buildingData.readableBytes();
     }
 
     @Override
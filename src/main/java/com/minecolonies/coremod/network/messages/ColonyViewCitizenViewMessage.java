@@ -9,6 +9,8 @@ import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
 import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
 import org.jetbrains.annotations.NotNull;
 
+import static com.minecolonies.api.util.constant.CitizenConstants.VIEW_GROUP_ALL;
+
 /**
  * Add or Update a ColonyView on the client.
  */
@@ -38,13 +40,25 @@ public class ColonyViewCitizenViewMessage extends AbstractMessage<ColonyViewCiti
      * @param citizen Citizen data of the citizen to update view
      */
     public ColonyViewCitizenViewMessage(@NotNull final Colony colony, @NotNull final ICitizenData citizen)
+    {
+        this(colony, citizen, VIEW_GROUP_ALL);
+    }
+
+    /**
+     * Updates only the given field groups of a {@link com.minecolonies.coremod.colony.CitizenDataView}.
+     *
+     * @param colony     Colony of the citizen
+     * @param citizen    Citizen data of the citizen to update view
+     * @param viewGroups the field groups to send.
+     */
+    public ColonyViewCitizenViewMessage(@NotNull final Colony colony, @NotNull final ICitizenData citizen, final int viewGroups)
     {
         super();
         this.colonyId = colony.getID();
         this.citizenId = citizen.getId();
         this.citizenBuffer = Unpooled.buffer();
         this.dimension = citizen.getColony().getDimension();
-        citizen.serializeViewNetworkData(citizenBuffer);
+        citizen.serializeViewNetworkData(citizenBuffer, viewGroups);
     }
 
     @Override
@@ -62,7 +76,18 @@ public class ColonyViewCitizenViewMessage extends AbstractMessage<ColonyViewCiti
         buf.writeInt(colonyId);
         buf.writeInt(citizenId);
         buf.writeInt(dimension);
-        buf.writeBytes(citizenBuffer);
+        // Without consuming the buffer, the message may be sent to several players.
+        buf.writeBytes(citizenBuffer, citizenBuffer.readerIndex(), citizenBuffer.readableBytes());
+    }
+
+    /**
+     * Get the size of the serialized citizen.
+     *
+     * @return the size in bytes.
+     */
+    public int getPayloadSize()
+    {
+        return citizenBuffer.readableBytes();
     }
 
     @Override
@@ -72,7 +72,8 @@ public class ColonyViewMessage extends AbstractMessage<ColonyViewMessage, IMessa
         buf.writeInt(colonyId);
         buf.writeBoolean(isNewSubscription);
         buf.writeInt(dim);
-        buf.writeBytes(colonyBuffer);
+        // Without consuming the buffer, the message may be sent to several players.
+        buf.writeBytes(colonyBuffer, colonyBuffer.readerIndex(), colonyBuffer.readableBytes());
     }
 
     @Override
@@ -56,7 +56,18 @@ public class ColonyViewWorkOrderMessage extends AbstractMessage<ColonyViewWorkOr
     {
         buf.writeInt(colonyId);
         buf.writeInt(workOrderId);
-        buf.writeBytes(workOrderBuffer);
+        // Without consuming the buffer, the message may be sent to several players.
+        buf.writeBytes(workOrderBuffer, workOrderBuffer.readerIndex(), workOrderBuffer.readableBytes());
+    }
+
+    /**
+     * Get the size of the serialized work order.
+     *
+     * @return the size in bytes.
+     */
+    public int getPayloadSize()
+    {
+        return workOrderBuffer.readableBytes();
     }
 
     @Override
@@ -49,6 +49,11 @@ public class PermissionsMessage
         private int     colonyID;
         private ByteBuf data;
 
+        /**
+         * The rank of the viewer, sent in front of the data which is the same for all viewers.
+         */
+        private Rank viewerRank;
+
         /**
          * The dimension of the message.
          */
@@ -69,19 +74,45 @@ public class PermissionsMessage
          * @param viewerRank and viewer rank.
          */
         public View(@NotNull final Colony colony, @NotNull final Rank viewerRank)
+        {
+            this(colony, viewerRank, serializeBody(colony));
+        }
+
+        /**
+         * Instantiate message with data shared between several viewers.
+         *
+         * @param colony     with the colony.
+         * @param viewerRank and viewer rank.
+         * @param body       the data from {@link #serializeBody(Colony)}, not consumed by sending.
+         */
+        public View(@NotNull final Colony colony, @NotNull final Rank viewerRank, @NotNull final ByteBuf body)
         {
             this.colonyID = colony.getID();
-            this.data = Unpooled.buffer();
-            colony.getPermissions().serializeViewNetworkData(this.data, viewerRank);
+            this.viewerRank = viewerRank;
+            this.data = body;
             this.dimension = colony.getDimension();
         }
 
+        /**
+         * Serialize the permissions of a colony once for all viewers.
+         *
+         * @param colony the colony.
+         * @return the buffer with the data.
+         */
+        public static ByteBuf serializeBody(@NotNull final Colony colony)
+        {
+            final ByteBuf body = Unpooled.buffer();
+            colony.getPermissions().serializeViewNetworkBody(body);
+            return body;
+        }
+
         @Override
         public void fromBytes(@NotNull final ByteBuf buf)
         {
             final ByteBuf newBuf = buf.retain();
             colonyID = newBuf.readInt();
             dimension = newBuf.readInt();
+            // The viewer rank stays in the data, the view reads it from there.
             data = newBuf;
         }
 
@@ -97,7 +128,8 @@ public class PermissionsMessage
         {
             buf.writeInt(colonyID);
             buf.writeInt(dimension);
-            buf.writeBytes(data);
+            ByteBufUtils.writeUTF8String(buf, viewerRank.name());
+            buf.writeBytes(data, data.readerIndex(), data.readableBytes());
         }
     }
 
@@ -0,0 +1,99 @@
+package com.minecolonies.coremod.network.messages;
+
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.api.colony.IColonyView;
+import com.minecolonies.api.colony.permissions.Action;
+import com.minecolonies.coremod.colony.requestsystem.management.IStandardRequestManager;
+import io.netty.buffer.ByteBuf;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Message sent by a client which missed a request system sync, to get a full snapshot with the next colony view update.
+ */
+public class RequestSystemResyncMessage extends AbstractMessage<RequestSystemResyncMessage, IMessage>
+{
+    /**
+     * Minimum amount of ticks between two resyncs requested by the same player, a full snapshot goes to every subscriber.
+     */
+    private static final int RESYNC_COOLDOWN_TICKS = 100;
+
+    /**
+     * The world time of the last accepted resync per player.
+     */
+    private static final Map<UUID, Long> LAST_RESYNC = new HashMap<>();
+
+    /**
+     * The Colony ID.
+     */
+    private int colonyId;
+
+    /**
+     * The dimension of the message.
+     */
+    private int dimension;
+
+    /**
+     * Empty public constructor.
+     */
+    public RequestSystemResyncMessage()
+    {
+        super();
+    }
+
+    /**
+     * Creates the message for a colony.
+     *
+     * @param colony view of the colony which is out of sync.
+     */
+    public RequestSystemResyncMessage(@NotNull final IColonyView colony)
+    {
+        super();
+        this.colonyId = colony.getID();
+        this.dimension = colony.getDimension();
+    }
+
+    @Override
+    public void fromBytes(@NotNull final ByteBuf buf)
+    {
+        colonyId = buf.readInt();
+        dimension = buf.readInt();
+    }
+
+    @Override
+    public void toBytes(@NotNull final ByteBuf buf)
+    {
+        buf.writeInt(colonyId);
+        buf.writeInt(dimension);
+    }
+
+    @Override
+    public void messageOnServerThread(final RequestSystemResyncMessage message, final EntityPlayerMP player)
+    {
+        final IColony colony = IColonyManager.getInstance().getColonyByDimension(message.colonyId, message.dimension);
+        if (colony == null || !colony.getPermissions().hasPermission(player, Action.ACCESS_HUTS))
+        {
+            return;
+        }
+
+        final long now = player.world.getTotalWorldTime();
+        final Long last = LAST_RESYNC.get(player.getUniqueID());
+        if (last != null && now >= last && now - last < RESYNC_COOLDOWN_TICKS)
+        {
+            return;
+        }
+
+        if (colony.getRequestManager() instanceof IStandardRequestManager)
+        {
+            LAST_RESYNC.put(player.getUniqueID(), now);
+            ((IStandardRequestManager) colony.getRequestManager()).requireFullSync();
+            colony.markDirty();
+        }
+    }
+}
@@ -0,0 +1,344 @@
+package com.minecolonies.coremod.permissions;
+
+import com.minecolonies.api.blocks.AbstractBlockHut;
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.api.colony.IColonyTagCapability;
+import com.minecolonies.api.colony.buildings.IBuilding;
+import com.minecolonies.api.configuration.Configurations;
+import com.minecolonies.api.util.EntityUtils;
+import com.minecolonies.coremod.colony.Colony;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.util.math.ChunkPos;
+import net.minecraft.world.World;
+import net.minecraftforge.event.entity.item.ItemTossEvent;
+import net.minecraftforge.event.entity.player.*;
+import net.minecraftforge.event.world.BlockEvent;
+import net.minecraftforge.event.world.ExplosionEvent;
+import net.minecraftforge.fml.common.FMLCommonHandler;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.minecolonies.coremod.MineColonies.CLOSE_COLONY_CAP;
+
+/**
+ * Single event bus entry point for all colony permission checks.
+ * Resolves the colony owning the position of the event once through the chunk capability
+ * and forwards the event only to the {@link ColonyPermissionEventHandler} of that colony.
+ */
+public class ColonyPermissionEventDispatcher
+{
+    /**
+     * Get the permission handler of the colony owning a certain position.
+     *
+     * @param world the world of the event.
+     * @param pos   the position of the event.
+     * @return the handler or null if the position is not owned by any loaded colony.
+     */
+    @Nullable
+    private static ColonyPermissionEventHandler getHandler(@NotNull final World world, @Nullable final BlockPos pos)
+    {
+        if (pos == null)
+        {
+            return null;
+        }
+
+        final IColonyTagCapability cap = world.getChunk(pos).getCapability(CLOSE_COLONY_CAP, null);
+        if (cap == null)
+        {
+            return null;
+        }
+        return getHandler(world, cap.getOwningColony());
+    }
+
+    /**
+     * Get the permission handler of a colony by its id.
+     *
+     * @param world the world of the event.
+     * @param id    the id of the colony, 0 for none.
+     * @return the handler or null if the colony is not loaded.
+     */
+    @Nullable
+    private static ColonyPermissionEventHandler getHandler(@NotNull final World world, final int id)
+    {
+        if (id == 0 || FMLCommonHandler.instance().getMinecraftServerInstance() == null)
+        {
+            return null;
+        }
+
+        final IColony colony = IColonyManager.getInstance().getColonyByDimension(id, world.provider.getDimension());
+        return colony instanceof Colony ? ((Colony) colony).getEventHandler() : null;
+    }
+
+    /**
+     * Get the permission handler of the colony a player is in.
+     *
+     * @param player the player.
+     * @return the handler or null if not in a colony.
+     */
+    @Nullable
+    private static ColonyPermissionEventHandler getHandler(@NotNull final EntityPlayer player)
+    {
+        return getHandler(player.getEntityWorld(), player.getPosition());
+    }
+
+    /**
+     * BlockEvent.PlaceEvent handler.
+     *
+     * @param event BlockEvent.PlaceEvent
+     */
+    @SubscribeEvent
+    public void on(final BlockEvent.PlaceEvent event)
+    {
+        if (!Configurations.gameplay.enableColonyProtection)
+        {
+            return;
+        }
+
+        final ColonyPermissionEventHandler handler = getHandler(event.getWorld(), event.getPos());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * BlockEvent.BreakEvent handler.
+     * Huts are handled by the colony owning the building, even if the hut lies outside of its borders.
+     *
+     * @param event BlockEvent.BreakEvent
+     */
+    @SubscribeEvent
+    public void on(final BlockEvent.BreakEvent event)
+    {
+        final World world = event.getWorld();
+        if (!Configurations.gameplay.enableColonyProtection || world.isRemote)
+        {
+            return;
+        }
+
+        final ColonyPermissionEventHandler handler;
+        if (event.getState().getBlock() instanceof AbstractBlockHut)
+        {
+            @Nullable final IBuilding building = IColonyManager.getInstance().getBuilding(world, event.getPos());
+            if (building == null)
+            {
+                return;
+            }
+            handler = getHandler(world, building.getColony().getID());
+        }
+        else
+        {
+            handler = getHandler(world, event.getPos());
+        }
+
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * ExplosionEvent.Detonate handler.
+     * Removes all blocks and entities owned by any colony from the explosion.
+     *
+     * @param event ExplosionEvent.Detonate
+     */
+    @SubscribeEvent
+    public void on(final ExplosionEvent.Detonate event)
+    {
+        if (!Configurations.gameplay.turnOffExplosionsInColonies)
+        {
+            return;
+        }
+
+        final World world = event.getWorld();
+        // Explosions only touch a handful of chunks, cache the lookup per chunk.
+        final Map<ChunkPos, Boolean> protectedChunks = new HashMap<>();
+        event.getAffectedBlocks().removeIf(pos -> isProtected(world, pos, protectedChunks));
+        event.getAffectedEntities().removeIf(entity -> isProtected(entity.getEntityWorld(), entity.getPosition(), protectedChunks));
+    }
+
+    /**
+     * Check if a position is owned by a loaded colony.
+     *
+     * @param world           the world.
+     * @param pos             the position.
+     * @param protectedChunks the lookup cache of this event.
+     * @return true if so.
+     */
+    private static boolean isProtected(@NotNull final World world, @NotNull final BlockPos pos, @NotNull final Map<ChunkPos, Boolean> protectedChunks)
+    {
+        return protectedChunks.computeIfAbsent(new ChunkPos(pos), chunkPos -> getHandler(world, pos) != null);
+    }
+
+    /**
+     * ExplosionEvent.Start handler.
+     *
+     * @param event ExplosionEvent.Start
+     */
+    @SubscribeEvent
+    public void on(final ExplosionEvent.Start event)
+    {
+        if (!Configurations.gameplay.enableColonyProtection || !Configurations.gameplay.turnOffExplosionsInColonies)
+        {
+            return;
+        }
+
+        final ColonyPermissionEventHandler handler = getHandler(event.getWorld(), new BlockPos(event.getExplosion().getPosition()));
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * PlayerInteractEvent handler.
+     *
+     * @param event PlayerInteractEvent
+     */
+    @SubscribeEvent
+    public void on(final PlayerInteractEvent event)
+    {
+        if (event instanceof PlayerInteractEvent.EntityInteract || event instanceof PlayerInteractEvent.EntityInteractSpecific)
+        {
+            return;
+        }
+
+        final ColonyPermissionEventHandler handler = getHandler(event.getWorld(), event.getPos());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * PlayerInteractEvent.EntityInteract handler.
+     *
+     * @param event PlayerInteractEvent.EntityInteract
+     */
+    @SubscribeEvent
+    public void on(final PlayerInteractEvent.EntityInteract event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getEntityPlayer().getEntityWorld(), event.getPos());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * PlayerInteractEvent.EntityInteractSpecific handler.
+     *
+     * @param event PlayerInteractEvent.EntityInteractSpecific
+     */
+    @SubscribeEvent
+    public void on(final PlayerInteractEvent.EntityInteractSpecific event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getEntityPlayer().getEntityWorld(), event.getPos());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * PlayerEvent.BreakSpeed handler.
+     *
+     * @param event PlayerEvent.BreakSpeed
+     */
+    @SubscribeEvent
+    public void on(final PlayerEvent.BreakSpeed event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getEntity().world, event.getPos());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * ItemTossEvent handler.
+     *
+     * @param event ItemTossEvent
+     */
+    @SubscribeEvent
+    public void on(final ItemTossEvent event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getPlayer());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * EntityItemPickupEvent handler.
+     *
+     * @param event EntityItemPickupEvent
+     */
+    @SubscribeEvent
+    public void on(final EntityItemPickupEvent event)
+    {
+        final ColonyPermissionEventHandler handler = getHandler(event.getEntityPlayer());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * FillBucketEvent handler.
+     *
+     * @param event FillBucketEvent
+     */
+    @SubscribeEvent
+    public void on(final FillBucketEvent event)
+    {
+        final EntityPlayer player = EntityUtils.getPlayerOfFakePlayer(event.getEntityPlayer(), event.getEntityPlayer().getEntityWorld());
+        final BlockPos pos = event.getTarget() == null ? player.getPosition() : event.getTarget().getBlockPos();
+        final ColonyPermissionEventHandler handler = getHandler(player.getEntityWorld(), pos);
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * ArrowLooseEvent handler.
+     *
+     * @param event ArrowLooseEvent
+     */
+    @SubscribeEvent
+    public void on(final ArrowLooseEvent event)
+    {
+        final Entity shooter = event.getEntity();
+        final ColonyPermissionEventHandler handler = getHandler(event.getEntityPlayer().getEntityWorld(), shooter.getPosition());
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+
+    /**
+     * AttackEntityEvent handler.
+     *
+     * @param event AttackEntityEvent
+     */
+    @SubscribeEvent
+    public void on(final AttackEntityEvent event)
+    {
+        final ColonyPermissionEventHandler handler =
+          getHandler(EntityUtils.getPlayerOfFakePlayer(event.getEntityPlayer(), event.getEntityPlayer().getEntityWorld()));
+        if (handler != null)
+        {
+            handler.on(event);
+        }
+    }
+}
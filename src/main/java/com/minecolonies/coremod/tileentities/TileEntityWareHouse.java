@@ -1,6 +1,7 @@
 package com.minecolonies.coremod.tileentities;
 
 import com.google.common.collect.Lists;
+import com.minecolonies.api.colony.requestsystem.requestable.IDeliverable;
 import com.minecolonies.api.inventory.InventoryCitizen;
 import com.minecolonies.api.tileentities.AbstractTileEntityRack;
 import com.minecolonies.api.tileentities.AbstractTileEntityWareHouse;
@@ -8,6 +9,8 @@ import com.minecolonies.api.tileentities.TileEntityRack;
 import com.minecolonies.api.util.InventoryUtils;
 import com.minecolonies.api.util.ItemStackUtils;
 import com.minecolonies.api.util.LanguageHandler;
+import com.minecolonies.coremod.colony.buildings.utils.WarehouseIndex;
+import com.minecolonies.coremod.colony.buildings.workerbuildings.BuildingWareHouse;
 import net.minecraft.item.ItemStack;
 import net.minecraft.tileentity.TileEntity;
 import net.minecraft.tileentity.TileEntityChest;
@@ -18,12 +21,10 @@ import net.minecraftforge.items.wrapper.InvWrapper;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
-import java.util.HashSet;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
 import java.util.Set;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
 
 import static com.minecolonies.api.util.constant.TranslationConstants.COM_MINECOLONIES_COREMOD_WAREHOUSE_FULL;
 import static net.minecraftforge.items.CapabilityItemHandler.ITEM_HANDLER_CAPABILITY;
@@ -40,8 +41,14 @@ public class TileEntityWareHouse extends AbstractTileEntityWareHouse
 
     public TileEntityWareHouse(final ResourceLocation resourceName) {super(resourceName);}
 
+    /**
+     * Whether the own inventory changed since the building last put it into its index.
+     */
+    private boolean contentChanged = true;
+
     /**
      * Method used to check if this warehouse holds any of the requested itemstacks.
+     * The predicate is tested once per kind of stored item, see {@link WarehouseIndex}.
      *
      * @param itemStackSelectionPredicate The predicate to check with.
      * @return True when the warehouse holds a stack, false when not.
@@ -49,33 +56,49 @@ public class TileEntityWareHouse extends AbstractTileEntityWareHouse
     @Override
     public boolean hasMatchingItemStackInWarehouse(@NotNull final Predicate<ItemStack> itemStackSelectionPredicate, int count)
     {
-        final List<ItemStack> targetStacks = getMatchingItemStacksInWarehouse(itemStackSelectionPredicate);
-        return targetStacks.stream().mapToInt(ItemStackUtils::getSize).sum() >= count;
+        final WarehouseIndex index = getIndex();
+        return index != null && index.getCount(itemStackSelectionPredicate) + getCountInUnindexedContainers(itemStackSelectionPredicate) >= count;
+    }
+
+    /**
+     * Count the items matching a deliverable in the warehouse.
+     *
+     * @param deliverable the deliverable.
+     * @return the total count.
+     */
+    @Override
+    public int getCountInWarehouse(@NotNull final IDeliverable deliverable)
+    {
+        final WarehouseIndex index = getIndex();
+        return index == null ? 0 : index.getCount(deliverable) + getCountInUnindexedContainers(deliverable::matches);
     }
 
     /**
-     * Method to get the first matching ItemStack in the Warehouse.
+     * Method to get the matching ItemStacks in the Warehouse.
      *
      * @param itemStackSelectionPredicate The predicate to select the ItemStack with.
-     * @return The first matching ItemStack.
+     * @return The matching ItemStacks.
      */
     @Override
     @NotNull
     public List<ItemStack> getMatchingItemStacksInWarehouse(@NotNull final Predicate<ItemStack> itemStackSelectionPredicate)
     {
-        if (getBuilding() != null)
-        {
-            final Set<TileEntity> tileEntities = new HashSet<>();
-            tileEntities.add(this);
-
-            return tileEntities.stream()
-                     .flatMap(tileEntity -> InventoryUtils.filterProvider(tileEntity, itemStackSelectionPredicate).stream())
-                     .filter(itemStacks -> !itemStacks.isEmpty())
-              .collect(Collectors.toList());
-
-        }
+        final WarehouseIndex index = getIndex();
+        return index == null ? Lists.newArrayList() : getMatchingItemStacks(index.getRacks(itemStackSelectionPredicate), itemStackSelectionPredicate);
+    }
 
-        return Lists.newArrayList();
+    /**
+     * Method to get the ItemStacks matching a deliverable in the Warehouse.
+     *
+     * @param deliverable the deliverable.
+     * @return The matching ItemStacks.
+     */
+    @Override
+    @NotNull
+    public List<ItemStack> getMatchingItemStacksInWarehouse(@NotNull final IDeliverable deliverable)
+    {
+        final WarehouseIndex index = getIndex();
+        return index == null ? Lists.newArrayList() : getMatchingItemStacks(index.getRacks(deliverable), deliverable::matches);
     }
 
     /**
@@ -87,21 +110,112 @@ public class TileEntityWareHouse extends AbstractTileEntityWareHouse
     @Nullable
     public BlockPos getPositionOfChestWithItemStack(@NotNull final Predicate<ItemStack> itemStackSelectionPredicate)
     {
-        if (getBuilding() != null)
+        final WarehouseIndex index = getIndex();
+        if (index == null)
         {
-            final Set<TileEntity> tileEntities = getBuilding().getAdditionalCountainers().stream().map(pos -> getWorld().getTileEntity(pos)).collect(Collectors.toSet());
-            tileEntities.removeIf(Objects::isNull);
-            tileEntities.add(this);
+            return null;
+        }
 
-            return tileEntities.stream()
-                     .filter(tileEntity -> InventoryUtils.hasItemInProvider(tileEntity, itemStackSelectionPredicate))
-                     .map(TileEntity::getPos)
-                     .findFirst().orElse(null);
+        final Set<BlockPos> racks = index.getRacks(itemStackSelectionPredicate);
+        if (!racks.isEmpty())
+        {
+            return racks.iterator().next();
         }
 
+        for (final BlockPos pos : ((BuildingWareHouse) getBuilding()).getUnindexedContainers())
+        {
+            final TileEntity entity = getWorld().getTileEntity(pos);
+            if (entity != null && InventoryUtils.hasItemInProvider(entity, itemStackSelectionPredicate))
+            {
+                return pos;
+            }
+        }
         return null;
     }
 
+    @Override
+    public void updateItemStorage()
+    {
+        super.updateItemStorage();
+        contentChanged = true;
+    }
+
+    /**
+     * Check if the own inventory changed since the last call.
+     *
+     * @return true if so.
+     */
+    public boolean pollContentChanged()
+    {
+        final boolean changed = contentChanged;
+        contentChanged = false;
+        return changed;
+    }
+
+    /**
+     * Get the index of the building.
+     *
+     * @return the index or null if the building isn't known.
+     */
+    @Nullable
+    private WarehouseIndex getIndex()
+    {
+        return getBuilding() instanceof BuildingWareHouse ? ((BuildingWareHouse) getBuilding()).getIndex() : null;
+    }
+
+    /**
+     * Collect the matching stacks of the given racks and of the containers which aren't indexed.
+     *
+     * @param racks     the racks.
+     * @param predicate the predicate the stacks have to match.
+     * @return the matching stacks.
+     */
+    @NotNull
+    private List<ItemStack> getMatchingItemStacks(@NotNull final Set<BlockPos> racks, @NotNull final Predicate<ItemStack> predicate)
+    {
+        final List<ItemStack> stacks = new ArrayList<>();
+        for (final BlockPos pos : racks)
+        {
+            final TileEntity entity = pos.equals(getPos()) ? this : getWorld().getTileEntity(pos);
+            if (entity instanceof AbstractTileEntityRack)
+            {
+                stacks.addAll(InventoryUtils.filterItemHandler(((AbstractTileEntityRack) entity).getInventory(), predicate));
+            }
+        }
+
+        for (final BlockPos pos : ((BuildingWareHouse) getBuilding()).getUnindexedContainers())
+        {
+            final TileEntity entity = getWorld().getTileEntity(pos);
+            if (entity != null)
+            {
+                stacks.addAll(InventoryUtils.filterProvider(entity, predicate));
+            }
+        }
+
+        stacks.removeIf(ItemStackUtils::isEmpty);
+        return stacks;
+    }
+
+    /**
+     * Count the matching items in the containers which aren't indexed.
+     *
+     * @param predicate the predicate the stacks have to match.
+     * @return the count.
+     */
+    private int getCountInUnindexedContainers(@NotNull final Predicate<ItemStack> predicate)
+    {
+        int count = 0;
+        for (final BlockPos pos : ((BuildingWareHouse) getBuilding()).getUnindexedContainers())
+        {
+            final TileEntity entity = getWorld().getTileEntity(pos);
+            if (entity != null)
+            {
+                count += InventoryUtils.getItemCountInProvider(entity, predicate);
+            }
+        }
+        return count;
+    }
+
     /**
      * Dump the inventory of a citizen into the warehouse.
      * Go through all items and search the right chest to dump it in.
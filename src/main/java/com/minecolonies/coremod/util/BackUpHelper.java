@@ -23,6 +23,9 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.text.SimpleDateFormat;
 import java.util.Date;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
 
@@ -48,30 +51,62 @@ public final class BackUpHelper
     }
 
     /**
-     * Backup the colony
+     * Backup the colony data.
+     * The colonies are saved on the calling thread, the zip is created in the background once their files are written.
      *
-     * @return true if succesful.
+     * @return a future completing with true if succesful.
      */
-    public static boolean backupColonyData()
+    public static CompletableFuture<Boolean> backupColonyData()
     {
         BackUpHelper.saveColonies();
-        try (FileOutputStream fos = new FileOutputStream(getBackupSaveLocation(new Date())))
+
+        @NotNull final File saveDir = new File(DimensionManager.getWorld(0).getSaveHandler().getWorldDirectory(), FILENAME_MINECOLONIES_PATH);
+        @NotNull final File backupFile = getBackupSaveLocation(new Date());
+        final int dimensions = FMLCommonHandler.instance().getMinecraftServerInstance().worlds.length;
+        final int topColonyId = IColonyManager.getInstance().getTopColonyId();
+        final Set<String> existingColonies = new HashSet<>();
+        for (final IColony colony : IColonyManager.getInstance().getAllColonies())
+        {
+            existingColonies.add(String.format(FILENAME_COLONY, colony.getID(), colony.getDimension()));
+        }
+
+        return ColonySaveWriter.getInstance().afterWrites(() -> writeBackup(saveDir, backupFile, dimensions, topColonyId, existingColonies));
+    }
+
+    /**
+     * Zip the colony files, runs on the save writer thread after the queued files were written.
+     *
+     * @param saveDir          the minecolonies save folder.
+     * @param backupFile       the zip file.
+     * @param dimensions       the amount of dimensions.
+     * @param topColonyId      the highest colony id.
+     * @param existingColonies the file names of the colonies which still exist.
+     * @return true if succesful.
+     */
+    private static boolean writeBackup(
+      @NotNull final File saveDir,
+      @NotNull final File backupFile,
+      final int dimensions,
+      final int topColonyId,
+      @NotNull final Set<String> existingColonies)
+    {
+        try (FileOutputStream fos = new FileOutputStream(backupFile))
         {
-            @NotNull final File saveDir = new File(DimensionManager.getWorld(0).getSaveHandler().getWorldDirectory(), FILENAME_MINECOLONIES_PATH);
             final ZipOutputStream zos = new ZipOutputStream(fos);
 
-            for (int dim = 0; dim < FMLCommonHandler.instance().getMinecraftServerInstance().worlds.length; dim++)
+            for (int dim = 0; dim < dimensions; dim++)
             {
-                for (int i = 1; i <= IColonyManager.getInstance().getTopColonyId() + 1; i++)
+                for (int i = 1; i <= topColonyId + 1; i++)
                 {
                     @NotNull final File file = new File(saveDir, String.format(FILENAME_COLONY, i, dim));
                     @NotNull final File fileDeleted = new File(saveDir, String.format(FILENAME_COLONY_DELETED, i, dim));
                     if (file.exists())
                     {
                         // mark existing files
-                        if (IColonyManager.getInstance().getColonyByDimension(i, dim) == null)
+                        if (!existingColonies.contains(file.getName()))
                         {
-                            markColonyDeleted(i, dim);
+                            ColonySaveWriter.getInstance().forget(file);
+                            renameToDeleted(saveDir, i, dim);
                             addToZipFile(String.format(FILENAME_COLONY_DELETED, i, dim), zos, saveDir);
                         }
                         else
@@ -85,7 +120,7 @@ public final class BackUpHelper
                     }
                 }
             }
-            addToZipFile(getSaveLocation().getName(), zos, saveDir);
+            addToZipFile(FILENAME_MINECOLONIES, zos, saveDir);
             zos.close();
         }
         catch (final Exception e)
@@ -225,20 +260,26 @@ public final class BackUpHelper
 
     /**
      * Save all the Colonies.
+     * The colonies are serialized on the calling thread and written to disk in the background, see {@link ColonySaveWriter}.
      */
     public static void saveColonies()
     {
+        long start = System.nanoTime();
         @NotNull final NBTTagCompound compound = new NBTTagCompound();
         IColonyManager.getInstance().writeToNBT(compound);
+        ColonySaveWriter.getInstance().submit(getSaveLocation(), compound, System.nanoTime() - start);
 
-        @NotNull final File file = getSaveLocation();
-        saveNBTToPath(file, compound);
         @NotNull final File saveDir = new File(DimensionManager.getWorld(0).getSaveHandler().getWorldDirectory(), FILENAME_MINECOLONIES_PATH);
         for (final IColony colony : IColonyManager.getInstance().getAllColonies())
         {
-            final NBTTagCompound colonyCompound = new NBTTagCompound();
-            colony.writeToNBT(colonyCompound);
-            saveNBTToPath(new File(saveDir, String.format(FILENAME_COLONY, colony.getID(), colony.getDimension())), colonyCompound);
+            // Unchanged colonies hand out the same tag again, which the writer skips.
+            start = System.nanoTime();
+            final NBTTagCompound colonyCompound = colony.getColonyTag();
+            if (colonyCompound != null)
+            {
+                ColonySaveWriter.getInstance()
+                  .submit(new File(saveDir, String.format(FILENAME_COLONY, colony.getID(), colony.getDimension())), colonyCompound, System.nanoTime() - start);
+            }
         }
     }
 
@@ -251,6 +292,22 @@ public final class BackUpHelper
     public static void markColonyDeleted(final int colonyID, final int dimensionID)
     {
         @NotNull final File saveDir = new File(DimensionManager.getWorld(0).getSaveHandler().getWorldDirectory(), FILENAME_MINECOLONIES_PATH);
+        final File todelete = new File(saveDir, String.format(FILENAME_COLONY, colonyID, dimensionID));
+        // A queued write would bring the file back after the rename.
+        ColonySaveWriter.getInstance().flush();
+        ColonySaveWriter.getInstance().forget(todelete);
+        renameToDeleted(saveDir, colonyID, dimensionID);
+    }
+
+    /**
+     * Renames the file of a colony to its deleted name, if it exists.
+     *
+     * @param saveDir     the minecolonies save folder.
+     * @param colonyID    id of the colony.
+     * @param dimensionID dimension of the colony.
+     */
+    private static void renameToDeleted(@NotNull final File saveDir, final int colonyID, final int dimensionID)
+    {
         final File todelete = new File(saveDir, String.format(FILENAME_COLONY, colonyID, dimensionID));
         if (todelete.exists())
         {
@@ -267,6 +324,7 @@ public final class BackUpHelper
      */
     public static void loadColonyBackup(final int colonyId, final int dimension, final boolean claimChunks)
     {
+        ColonySaveWriter.getInstance().flush();
         @NotNull final File saveDir = new File(DimensionManager.getWorld(0).getSaveHandler().getWorldDirectory(), FILENAME_MINECOLONIES_PATH);
         NBTTagCompound compound = loadNBTFromPath(new File(saveDir, String.format(FILENAME_COLONY, colonyId, dimension)));
         if (compound == null)
@@ -1,12 +1,8 @@
 package com.minecolonies.coremod.util;
 
-import com.ldtteam.structures.helpers.Structure;
-import com.ldtteam.structurize.util.PlacementSettings;
-import com.minecolonies.api.util.BlockPosUtil;
 import com.minecolonies.coremod.colony.buildings.AbstractSchematicProvider;
 import com.ldtteam.structurize.management.StructureName;
 import com.ldtteam.structurize.management.Structures;
-import net.minecraft.util.Mirror;
 import net.minecraft.util.Tuple;
 import net.minecraft.util.math.AxisAlignedBB;
 import net.minecraft.util.math.BlockPos;
@@ -49,20 +45,21 @@ public final class BuildingUtils
 
             final String structureName = sn.toString();
 
-            final Structure wrapper = new Structure(world, structureName, new PlacementSettings());
-            wrapper.rotate(BlockPosUtil.getRotationFromRotations(building.getRotation()), world, location, building.isMirrored() ? Mirror.FRONT_BACK : Mirror.NONE);
+            final FootprintCache.Footprint footprint = FootprintCache.getFootprint(world, structureName, building.getRotation(), building.isMirrored());
+            if (footprint == null)
+            {
+                return new AxisAlignedBB(location).grow(1);
+            }
+            final Tuple<Tuple<Integer, Integer>, Tuple<Integer, Integer>> corners = footprint.getCorners(location);
 
-            final BlockPos pos = location;
-            wrapper.setPosition(pos);
-
-            x1 = wrapper.getPosition().getX() - wrapper.getOffset().getX() - 1;
-            z1 = wrapper.getPosition().getZ() - wrapper.getOffset().getZ() - 1;
-            x3 = wrapper.getPosition().getX() + (wrapper.getWidth() - wrapper.getOffset().getX());
-            z3 = wrapper.getPosition().getZ() + (wrapper.getLength() - wrapper.getOffset().getZ());
-            y3 = location.getY() + wrapper.getHeight();
+            x1 = corners.getFirst().getFirst();
+            z1 = corners.getSecond().getFirst();
+            x3 = corners.getFirst().getSecond();
+            z3 = corners.getSecond().getSecond();
+            y3 = location.getY() + footprint.getHeight();
 
             building.setCorners(x1, x3, z1, z3);
-            building.setHeight(wrapper.getHeight());
+            building.setHeight(footprint.getHeight());
         }
         else
         {
@@ -0,0 +1,220 @@
+package com.minecolonies.coremod.util;
+
+import com.minecolonies.api.util.Log;
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Compresses and writes colony save data on a background thread.
+ * <p>
+ * The tags are snapshotted on the main thread and must not be modified after they got submitted.
+ * Files are written to a temporary file first and then renamed, so a crash never leaves a half written file behind.
+ * A tag which is the same instance as the last one written to a file is skipped, unchanged colonies reuse their tag.
+ */
+public final class ColonySaveWriter
+{
+    /**
+     * The instance of the writer.
+     */
+    private static final ColonySaveWriter INSTANCE = new ColonySaveWriter();
+
+    /**
+     * Suffix of the temporary files.
+     */
+    private static final String TMP_SUFFIX = ".tmp";
+
+    /**
+     * The thread the files are written on.
+     */
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable ->
+    {
+        final Thread thread = new Thread(runnable, "Minecolonies Save Writer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * The last tag submitted for each file.
+     */
+    private final Map<File, NBTTagCompound> lastSubmitted = new ConcurrentHashMap<>();
+
+    /**
+     * The timings of the last save by file name.
+     */
+    private final Map<String, SaveTiming> timings = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor, use {@link #getInstance()}.
+     */
+    private ColonySaveWriter()
+    {
+        // Singleton.
+    }
+
+    /**
+     * Get the save writer.
+     *
+     * @return the instance.
+     */
+    public static ColonySaveWriter getInstance()
+    {
+        return INSTANCE;
+    }
+
+    /**
+     * Queue a tag to be written to a file. Has to be called from the main thread.
+     *
+     * @param file           the destination file.
+     * @param compound       the tag, not to be modified anymore afterwards.
+     * @param serializeNanos the time it took to serialize the tag, for the statistics.
+     */
+    public void submit(@NotNull final File file, @NotNull final NBTTagCompound compound, final long serializeNanos)
+    {
+        if (lastSubmitted.get(file) == compound && file.exists())
+        {
+            timings.put(file.getName(), new SaveTiming(serializeNanos, 0, true));
+            return;
+        }
+
+        lastSubmitted.put(file, compound);
+        executor.execute(() -> write(file, compound, serializeNanos));
+    }
+
+    /**
+     * Run a task on the writer thread once all tags queued so far have been written.
+     *
+     * @param task the task.
+     * @param <T>  the type of the result.
+     * @return a future completing with the result of the task.
+     */
+    public <T> CompletableFuture<T> afterWrites(@NotNull final Supplier<T> task)
+    {
+        return CompletableFuture.supplyAsync(task, executor);
+    }
+
+    /**
+     * Block until all queued tags and tasks have been handled.
+     * Only used where the files have to be complete right away, like when the server stops.
+     */
+    public void flush()
+    {
+        try
+        {
+            executor.submit(() -> { }).get();
+        }
+        catch (final InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            Log.getLogger().warn("Interrupted while waiting for the colony data to be written", e);
+        }
+        catch (final ExecutionException e)
+        {
+            Log.getLogger().warn("Exception while waiting for the colony data to be written", e);
+        }
+    }
+
+    /**
+     * Forget the last submitted tag of a file, so it gets written again next time.
+     *
+     * @param file the file.
+     */
+    public void forget(@NotNull final File file)
+    {
+        lastSubmitted.remove(file);
+    }
+
+    /**
+     * Get a human readable summary of the timings of the last save.
+     *
+     * @return the lines of the summary.
+     */
+    public List<String> getStatistics()
+    {
+        final List<String> lines = new ArrayList<>();
+        long totalSerialize = 0;
+        long totalWrite = 0;
+        for (final Map.Entry<String, SaveTiming> entry : new TreeMap<>(timings).entrySet())
+        {
+            final SaveTiming timing = entry.getValue();
+            totalSerialize += timing.serializeNanos;
+            totalWrite += timing.writeNanos;
+            lines.add(entry.getKey() + ": serialize " + TimeUnit.NANOSECONDS.toMillis(timing.serializeNanos) + "ms, "
+                        + (timing.skipped ? "unchanged" : "write " + TimeUnit.NANOSECONDS.toMillis(timing.writeNanos) + "ms"));
+        }
+        lines.add("Total: serialize " + TimeUnit.NANOSECONDS.toMillis(totalSerialize) + "ms (main thread), write " + TimeUnit.NANOSECONDS.toMillis(totalWrite) + "ms (background)");
+        return lines;
+    }
+
+    /**
+     * Write a tag to a temporary file and move it over the destination file.
+     *
+     * @param file           the destination file.
+     * @param compound       the tag.
+     * @param serializeNanos the time it took to serialize the tag.
+     */
+    private void write(@NotNull final File file, @NotNull final NBTTagCompound compound, final long serializeNanos)
+    {
+        final long start = System.nanoTime();
+        final File tmpFile = new File(file.getParentFile(), file.getName() + TMP_SUFFIX);
+        try
+        {
+            file.getParentFile().mkdirs();
+            try (OutputStream stream = new FileOutputStream(tmpFile))
+            {
+                CompressedStreamTools.writeCompressed(compound, stream);
+            }
+
+            try
+            {
+                Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+            catch (final AtomicMoveNotSupportedException e)
+            {
+                Files.move(tmpFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+            timings.put(file.getName(), new SaveTiming(serializeNanos, System.nanoTime() - start, false));
+        }
+        catch (final IOException exception)
+        {
+            lastSubmitted.remove(file, compound);
+            Log.getLogger().error("Exception when saving colony data to " + file.getName(), exception);
+        }
+    }
+
+    /**
+     * The timings of saving one file.
+     */
+    private static final class SaveTiming
+    {
+        private final long    serializeNanos;
+        private final long    writeNanos;
+        private final boolean skipped;
+
+        private SaveTiming(final long serializeNanos, final long writeNanos, final boolean skipped)
+        {
+            this.serializeNanos = serializeNanos;
+            this.writeNanos = writeNanos;
+            this.skipped = skipped;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.minecolonies.coremod.util;
+
+import com.ldtteam.structures.helpers.Structure;
+import com.ldtteam.structurize.management.Structures;
+import com.ldtteam.structurize.util.PlacementSettings;
+import com.minecolonies.api.util.BlueprintCache;
+import net.minecraft.util.Tuple;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.World;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Caches the footprint of a schematic per rotation and mirror.
+ * <p>
+ * The footprint only depends on the schematic, the rotation and the mirror, so the structure has to be loaded and rotated only the first time
+ * a combination is requested. The footprints are tiny, so they are kept for the lifetime of the game.
+ * They are keyed by the MD5 of the schematic, so a replaced schematic gets new entries, schematics without a MD5 are not cached.
+ */
+public final class FootprintCache
+{
+    /**
+     * The footprints by schematic MD5, rotation and mirror.
+     */
+    private static final Map<String, Footprint> FOOTPRINTS = new HashMap<>();
+
+    /**
+     * Private constructor to hide the implicit one.
+     */
+    private FootprintCache()
+    {
+        /*
+         * Intentionally left empty.
+         */
+    }
+
+    /**
+     * Get the footprint of a schematic.
+     *
+     * @param world         the world.
+     * @param structureName the name of the schematic.
+     * @param rotation      the rotation.
+     * @param isMirrored    if it is mirrored.
+     * @return the footprint or null if the schematic is missing.
+     */
+    @Nullable
+    public static Footprint getFootprint(@NotNull final World world, @NotNull final String structureName, final int rotation, final boolean isMirrored)
+    {
+        final String md5 = Structures.getMD5(structureName);
+        final String key = md5 == null ? null : md5 + ":" + rotation + ":" + isMirrored;
+        if (key != null)
+        {
+            synchronized (FOOTPRINTS)
+            {
+                final Footprint cached = FOOTPRINTS.get(key);
+                if (cached != null)
+                {
+                    return cached;
+                }
+            }
+        }
+
+        final Structure structure = BlueprintCache.getStructure(world, structureName, new PlacementSettings());
+        if (structure.isBluePrintMissing())
+        {
+            return null;
+        }
+
+        // Calculated relative to the origin, the corners are moved to the actual position on use.
+        final Tuple<Tuple<Integer, Integer>, Tuple<Integer, Integer>> corners = ColonyUtils.calculateCorners(BlockPos.ORIGIN, world, structure, rotation, isMirrored);
+        final Footprint footprint = new Footprint(corners, structure.getHeight());
+        if (key != null)
+        {
+            synchronized (FOOTPRINTS)
+            {
+                FOOTPRINTS.put(key, footprint);
+            }
+        }
+        return footprint;
+    }
+
+    /**
+     * Forget all footprints, used together with {@link BlueprintCache#clear()}.
+     */
+    public static void clear()
+    {
+        synchronized (FOOTPRINTS)
+        {
+            FOOTPRINTS.clear();
+        }
+    }
+
+    /**
+     * The corners relative to the anchor of the schematic and the height of a rotated and mirrored schematic.
+     */
+    public static final class Footprint
+    {
+        private final int minX;
+        private final int maxX;
+        private final int minZ;
+        private final int maxZ;
+        private final int height;
+
+        private Footprint(@NotNull final Tuple<Tuple<Integer, Integer>, Tuple<Integer, Integer>> corners, final int height)
+        {
+            this.minX = corners.getFirst().getFirst();
+            this.maxX = corners.getFirst().getSecond();
+            this.minZ = corners.getSecond().getFirst();
+            this.maxZ = corners.getSecond().getSecond();
+            this.height = height;
+        }
+
+        /**
+         * Get the corners of the schematic placed at a position, like {@link ColonyUtils#calculateCorners}.
+         *
+         * @param pos the position of the anchor.
+         * @return a tuple with the x and the z corners.
+         */
+        public Tuple<Tuple<Integer, Integer>, Tuple<Integer, Integer>> getCorners(@NotNull final BlockPos pos)
+        {
+            return new Tuple<>(new Tuple<>(pos.getX() + minX, pos.getX() + maxX), new Tuple<>(pos.getZ() + minZ, pos.getZ() + maxZ));
+        }
+
+        /**
+         * Get the height of the schematic.
+         *
+         * @return the height.
+         */
+        public int getHeight()
+        {
+            return height;
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.minecolonies.coremod.util;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * A hashed timer wheel, schedules items a given amount of steps ahead.
+ * <p>
+ * The items are put into the slot their delay points to, together with the amount of full turns left, so each step only
+ * looks at the items of one slot instead of counting down every scheduled item.
+ *
+ * @param <T> the type of the items.
+ */
+public class TimerWheel<T>
+{
+    /**
+     * The items per slot.
+     */
+    private final List<Set<T>> slots = new ArrayList<>();
+
+    /**
+     * The position of each scheduled item.
+     */
+    private final Map<T, Entry> entries = new HashMap<>();
+
+    /**
+     * The slot of the current step.
+     */
+    private int cursor = 0;
+
+    /**
+     * Create a new wheel.
+     *
+     * @param size the amount of slots, longer delays take more than one turn.
+     */
+    public TimerWheel(final int size)
+    {
+        for (int i = 0; i < Math.max(1, size); i++)
+        {
+            slots.add(new LinkedHashSet<>());
+        }
+    }
+
+    /**
+     * Schedule an item, replaces its previous schedule.
+     *
+     * @param item  the item.
+     * @param delay the amount of steps until it is due, at least 1.
+     */
+    public void schedule(@NotNull final T item, final int delay)
+    {
+        cancel(item);
+
+        final int steps = Math.max(1, delay);
+        final Entry entry = new Entry((cursor + steps) % slots.size(), (steps - 1) / slots.size());
+        entries.put(item, entry);
+        slots.get(entry.slot).add(item);
+    }
+
+    /**
+     * Remove an item from the wheel.
+     *
+     * @param item the item.
+     */
+    public void cancel(@NotNull final T item)
+    {
+        final Entry entry = entries.remove(item);
+        if (entry != null)
+        {
+            slots.get(entry.slot).remove(item);
+        }
+    }
+
+    /**
+     * Check if an item is scheduled.
+     *
+     * @param item the item.
+     * @return true if so.
+     */
+    public boolean contains(@NotNull final T item)
+    {
+        return entries.containsKey(item);
+    }
+
+    /**
+     * Get the amount of steps until an item is due.
+     *
+     * @param item the item.
+     * @return the amount of steps or -1 if it isn't scheduled.
+     */
+    public int getDelay(@NotNull final T item)
+    {
+        final Entry entry = entries.get(item);
+        if (entry == null)
+        {
+            return -1;
+        }
+
+        final int inTurn = (entry.slot - cursor + slots.size()) % slots.size();
+        return (inTurn == 0 ? slots.size() : inTurn) + entry.rounds * slots.size();
+    }
+
+    /**
+     * Get all scheduled items.
+     *
+     * @return an unmodifiable view of the items.
+     */
+    @NotNull
+    public Set<T> getItems()
+    {
+        return Collections.unmodifiableSet(entries.keySet());
+    }
+
+    /**
+     * Move one step ahead.
+     *
+     * @return the items which are due now, they are removed from the wheel.
+     */
+    @NotNull
+    public List<T> advance()
+    {
+        cursor = (cursor + 1) % slots.size();
+
+        final List<T> due = new ArrayList<>();
+        final Iterator<T> iterator = slots.get(cursor).iterator();
+        while (iterator.hasNext())
+        {
+            final T item = iterator.next();
+            final Entry entry = entries.get(item);
+            if (entry.rounds > 0)
+            {
+                entry.rounds--;
+                continue;
+            }
+
+            iterator.remove();
+            entries.remove(item);
+            due.add(item);
+        }
+        return due;
+    }
+
+    /**
+     * Remove all items.
+     */
+    public void clear()
+    {
+        slots.forEach(Set::clear);
+        entries.clear();
+    }
+
+    /**
+     * The slot and the remaining full turns of an item.
+     */
+    private static final class Entry
+    {
+        private final int slot;
+        private       int rounds;
+
+        private Entry(final int slot, final int rounds)
+        {
+            this.slot = slot;
+            this.rounds = rounds;
+        }
+    }
+}
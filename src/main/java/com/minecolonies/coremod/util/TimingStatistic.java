@@ -0,0 +1,92 @@
+package com.minecolonies.coremod.util;
+
+/**
+ * Aggregated timings of repeated invocations of one piece of code.
+ */
+public class TimingStatistic
+{
+    /**
+     * The amount of recorded invocations.
+     */
+    private long count = 0;
+
+    /**
+     * The summed up time of all invocations in nanoseconds.
+     */
+    private long totalNanos = 0;
+
+    /**
+     * The time of the slowest invocation in nanoseconds.
+     */
+    private long maxNanos = 0;
+
+    /**
+     * Record one invocation.
+     *
+     * @param nanos the time it took in nanoseconds.
+     */
+    public void add(final long nanos)
+    {
+        count++;
+        totalNanos += nanos;
+        maxNanos = Math.max(maxNanos, nanos);
+    }
+
+    /**
+     * Add the recorded invocations of another statistic to this one.
+     *
+     * @param other the other statistic.
+     */
+    public void add(final TimingStatistic other)
+    {
+        count += other.count;
+        totalNanos += other.totalNanos;
+        maxNanos = Math.max(maxNanos, other.maxNanos);
+    }
+
+    /**
+     * Get the amount of recorded invocations.
+     *
+     * @return the amount.
+     */
+    public long getCount()
+    {
+        return count;
+    }
+
+    /**
+     * Get the summed up time of all invocations.
+     *
+     * @return the time in nanoseconds.
+     */
+    public long getTotalNanos()
+    {
+        return totalNanos;
+    }
+
+    /**
+     * Get the time of the slowest invocation.
+     *
+     * @return the time in nanoseconds.
+     */
+    public long getMaxNanos()
+    {
+        return maxNanos;
+    }
+
+    /**
+     * Get the average time of an invocation.
+     *
+     * @return the time in nanoseconds.
+     */
+    public long getAverageNanos()
+    {
+        return count == 0 ? 0 : totalNanos / count;
+    }
+
+    @Override
+    public String toString()
+    {
+        return String.format("%d calls, total %.2fms, avg %.3fms, max %.3fms", count, totalNanos / 1_000_000D, getAverageNanos() / 1_000_000D, maxNanos / 1_000_000D);
+    }
+}
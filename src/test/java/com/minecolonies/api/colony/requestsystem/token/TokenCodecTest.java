@@ -0,0 +1,68 @@
+package com.minecolonies.api.colony.requestsystem.token;
+
+import com.minecolonies.api.colony.requestsystem.factory.IFactoryController;
+import com.minecolonies.api.util.NBTUtils;
+import net.minecraft.nbt.NBTTagCompound;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that compact and random tokens survive the binary codec and that lists of older saves can still be read.
+ */
+public class TokenCodecTest
+{
+    @Test
+    public void testRoundTrip()
+    {
+        final List<IToken<?>> tokens = Arrays.asList(
+          TokenCodec.createCompactToken(3, 0),
+          TokenCodec.createCompactToken(3, Long.MAX_VALUE),
+          TokenCodec.createCompactToken(-1, 300),
+          new StandardToken());
+
+        assertEquals(tokens, TokenCodec.decode(TokenCodec.encode(tokens)));
+        assertTrue(TokenCodec.isCompact(tokens.get(2)));
+        assertFalse(TokenCodec.isCompact(tokens.get(3)));
+    }
+
+    @Test
+    public void testCompactTokensAreSmall()
+    {
+        final List<IToken<?>> tokens = Collections.nCopies(100, TokenCodec.createCompactToken(12, 1000));
+
+        // size, then kind, colony and two bytes of counter per token.
+        assertEquals(1 + 100 * 4, TokenCodec.encode(tokens).length);
+    }
+
+    @Test
+    public void testReadsLegacyList()
+    {
+        final IFactoryController controller = Mockito.mock(IFactoryController.class);
+        final IToken<?> token = new StandardToken();
+        Mockito.when(controller.deserialize(Mockito.any(NBTTagCompound.class))).thenReturn(token);
+
+        final NBTTagCompound compound = new NBTTagCompound();
+        compound.setTag("List", Collections.nCopies(2, new NBTTagCompound()).stream().collect(NBTUtils.toNBTTagList()));
+
+        assertEquals(Arrays.asList(token, token), TokenCodec.readTokens(controller, compound, "List"));
+    }
+
+    @Test
+    public void testWriteReadsBack()
+    {
+        final IFactoryController controller = Mockito.mock(IFactoryController.class);
+        final List<IToken<?>> tokens = Arrays.asList(TokenCodec.createCompactToken(1, 5), new StandardToken());
+
+        final NBTTagCompound compound = new NBTTagCompound();
+        TokenCodec.writeTokens(controller, compound, "List", tokens);
+
+        assertEquals(tokens, TokenCodec.readTokens(controller, compound, "List"));
+        Mockito.verifyZeroInteractions(controller);
+    }
+}
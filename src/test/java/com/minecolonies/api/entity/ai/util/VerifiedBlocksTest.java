@@ -0,0 +1,69 @@
+package com.minecolonies.api.entity.ai.util;
+
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.util.math.BlockPos;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks the bookkeeping of the verified structure positions.
+ */
+public class VerifiedBlocksTest
+{
+    private static final BlockPos ORIGIN = new BlockPos(100, 64, -20);
+
+    @Test
+    public void testVerifyAndInvalidate()
+    {
+        final VerifiedBlocks verified = new VerifiedBlocks();
+        verified.bind(ORIGIN, 5, 4, 3);
+
+        verified.setVerified(new BlockPos(4, 3, 2));
+        verified.setVerified(new BlockPos(0, 0, 0));
+        // Outside of the structure, ignored.
+        verified.setVerified(new BlockPos(5, 0, 0));
+
+        assertEquals(2, verified.size());
+        assertTrue(verified.isVerified(new BlockPos(4, 3, 2)));
+        assertFalse(verified.isVerified(new BlockPos(3, 3, 2)));
+
+        verified.invalidate(ORIGIN.add(4, 3, 2));
+        verified.invalidate(ORIGIN.add(-1, 0, 0));
+        assertFalse(verified.isVerified(new BlockPos(4, 3, 2)));
+        assertTrue(verified.isVerified(new BlockPos(0, 0, 0)));
+    }
+
+    @Test
+    public void testRebindToOtherStructureClears()
+    {
+        final VerifiedBlocks verified = new VerifiedBlocks();
+        verified.bind(ORIGIN, 5, 4, 3);
+        verified.setVerified(new BlockPos(1, 1, 1));
+
+        verified.bind(ORIGIN, 5, 4, 3);
+        assertTrue(verified.isVerified(new BlockPos(1, 1, 1)));
+
+        verified.bind(ORIGIN.up(), 5, 4, 3);
+        assertFalse(verified.isVerified(new BlockPos(1, 1, 1)));
+    }
+
+    @Test
+    public void testNBTRoundTrip()
+    {
+        final VerifiedBlocks verified = new VerifiedBlocks();
+        verified.bind(ORIGIN, 7, 2, 9);
+        verified.setVerified(new BlockPos(6, 1, 8));
+        verified.setVerified(new BlockPos(2, 0, 3));
+
+        final NBTTagCompound compound = new NBTTagCompound();
+        verified.writeToNBT(compound);
+
+        final VerifiedBlocks read = new VerifiedBlocks();
+        read.readFromNBT(compound);
+        read.bind(ORIGIN, 7, 2, 9);
+        assertEquals(2, read.size());
+        assertTrue(read.isVerified(new BlockPos(6, 1, 8)));
+        assertTrue(read.isVerified(new BlockPos(2, 0, 3)));
+    }
+}
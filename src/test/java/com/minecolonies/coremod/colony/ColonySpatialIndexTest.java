@@ -0,0 +1,75 @@
+package com.minecolonies.coremod.colony;
+
+import com.minecolonies.api.colony.IColony;
+import net.minecraft.util.math.BlockPos;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests around {@link ColonySpatialIndex}, compared with a linear scan over the colonies.
+ */
+public class ColonySpatialIndexTest
+{
+    private static final int AREA = 100_000;
+
+    @Test
+    public void testClosestMatchesLinearScan()
+    {
+        for (final int colonyCount : new int[] {10, 1000, 10000})
+        {
+            final Random random = new Random(colonyCount);
+            final List<IColony> colonies = new ArrayList<>();
+            final ColonySpatialIndex<IColony> index = new ColonySpatialIndex<>();
+            for (int i = 0; i < colonyCount; i++)
+            {
+                final IColony colony = mockColony(new BlockPos(random.nextInt(AREA) - AREA / 2, 64, random.nextInt(AREA) - AREA / 2));
+                colonies.add(colony);
+                index.add(colony);
+            }
+            assertEquals(colonyCount, index.size());
+
+            for (int i = 0; i < 50; i++)
+            {
+                final BlockPos pos = new BlockPos(random.nextInt(AREA * 2) - AREA, 64, random.nextInt(AREA * 2) - AREA);
+                long expected = Long.MAX_VALUE;
+                for (final IColony colony : colonies)
+                {
+                    expected = Math.min(expected, colony.getDistanceSquared(pos));
+                }
+                assertEquals(expected, index.getClosest(pos).getDistanceSquared(pos));
+            }
+        }
+    }
+
+    @Test
+    public void testRemove()
+    {
+        final ColonySpatialIndex<IColony> index = new ColonySpatialIndex<>();
+        final IColony near = mockColony(new BlockPos(10, 64, 10));
+        final IColony far = mockColony(new BlockPos(5000, 64, 5000));
+        index.add(near);
+        index.add(far);
+
+        assertSame(near, index.getClosest(BlockPos.ORIGIN));
+        index.remove(near);
+        assertSame(far, index.getClosest(BlockPos.ORIGIN));
+        index.remove(far);
+        assertNull(index.getClosest(BlockPos.ORIGIN));
+    }
+
+    private static IColony mockColony(final BlockPos center)
+    {
+        final IColony colony = mock(IColony.class);
+        when(colony.getCenter()).thenReturn(center);
+        when(colony.getDistanceSquared(any(BlockPos.class))).thenAnswer(invocation -> (long) center.distanceSq((BlockPos) invocation.getArguments()[0]));
+        return colony;
+    }
+}
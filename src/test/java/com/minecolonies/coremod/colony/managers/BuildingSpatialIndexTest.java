@@ -0,0 +1,86 @@
+package com.minecolonies.coremod.colony.managers;
+
+import com.minecolonies.api.colony.buildings.IBuilding;
+import com.minecolonies.api.colony.buildings.workerbuildings.IWareHouse;
+import net.minecraft.util.Tuple;
+import net.minecraft.util.math.BlockPos;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Tests around {@link BuildingSpatialIndex}, compared with a linear scan over the buildings.
+ */
+public class BuildingSpatialIndexTest
+{
+    private static final int BUILDING_COUNT = 150;
+    private static final int AREA           = 400;
+    private static final int SIZE           = 10;
+
+    private final List<IBuilding> buildings = new ArrayList<>();
+
+    private BuildingSpatialIndex index;
+
+    @Before
+    public void setUp()
+    {
+        final Random random = new Random(7);
+        index = new BuildingSpatialIndex();
+        for (int i = 0; i < BUILDING_COUNT; i++)
+        {
+            final IBuilding building = i % 3 == 0 ? mock(IWareHouse.class) : mock(IBuilding.class);
+            final BlockPos pos = new BlockPos(random.nextInt(AREA) - AREA / 2, 64, random.nextInt(AREA) - AREA / 2);
+            when(building.getPosition()).thenReturn(pos);
+            when(building.getCorners()).thenReturn(new Tuple<>(new Tuple<>(pos.getX() - SIZE, pos.getX() + SIZE), new Tuple<>(pos.getZ() - SIZE, pos.getZ() + SIZE)));
+            buildings.add(building);
+            index.add(building);
+        }
+    }
+
+    @Test
+    public void testClosestMatchesLinearScan()
+    {
+        final Random random = new Random(11);
+        for (int i = 0; i < 100; i++)
+        {
+            final BlockPos pos = new BlockPos(random.nextInt(AREA * 2) - AREA, 64, random.nextInt(AREA * 2) - AREA);
+            double expected = Double.MAX_VALUE;
+            for (final IBuilding building : buildings)
+            {
+                if (building instanceof IWareHouse)
+                {
+                    expected = Math.min(expected, building.getPosition().distanceSq(pos));
+                }
+            }
+
+            final IWareHouse closest = index.getClosest(pos, IWareHouse.class, building -> true);
+            assertNotNull(closest);
+            assertEquals(expected, closest.getPosition().distanceSq(pos), 0);
+        }
+    }
+
+    @Test
+    public void testRadiusAndContaining()
+    {
+        final BlockPos center = new BlockPos(0, 64, 0);
+        long expected = buildings.stream().filter(building -> building.getPosition().distanceSq(center) <= 100 * 100).count();
+        assertEquals(expected, index.getWithinRadius(center, 100, IBuilding.class).size());
+
+        final IBuilding building = buildings.get(0);
+        final BlockPos inside = building.getPosition().add(SIZE - 1, 0, 1 - SIZE);
+        assertNotNull(index.getContaining(inside));
+
+        index.remove(building);
+        for (final IBuilding other : index.getWithinRadius(building.getPosition(), AREA * 2, IBuilding.class))
+        {
+            assertNotSame(building, other);
+        }
+    }
+}
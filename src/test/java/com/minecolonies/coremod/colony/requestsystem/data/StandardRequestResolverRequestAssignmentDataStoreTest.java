@@ -0,0 +1,98 @@
+package com.minecolonies.coremod.colony.requestsystem.data;
+
+import com.minecolonies.api.colony.requestsystem.token.IToken;
+import com.minecolonies.api.colony.requestsystem.token.StandardToken;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that the reverse index of the resolver assignments agrees with the assignments, with as many requests as a big colony has open.
+ */
+public class StandardRequestResolverRequestAssignmentDataStoreTest
+{
+    private static final int RESOLVERS = 50;
+    private static final int REQUESTS  = 5000;
+
+    private final List<IToken<?>> resolvers = new ArrayList<>();
+    private final List<IToken<?>> requests  = new ArrayList<>();
+
+    private StandardRequestResolverRequestAssignmentDataStore dataStore;
+
+    @Before
+    public void setUp()
+    {
+        for (int i = 0; i < RESOLVERS; i++)
+        {
+            resolvers.add(new StandardToken());
+        }
+        for (int i = 0; i < REQUESTS; i++)
+        {
+            requests.add(new StandardToken());
+        }
+
+        dataStore = new StandardRequestResolverRequestAssignmentDataStore(new StandardToken(), new HashMap<>());
+        for (int i = 0; i < REQUESTS; i++)
+        {
+            dataStore.assign(resolvers.get(i % RESOLVERS), requests.get(i));
+        }
+    }
+
+    @Test
+    public void testLookupMatchesAssignments()
+    {
+        for (int i = 0; i < REQUESTS; i++)
+        {
+            assertEquals(resolvers.get(i % RESOLVERS), dataStore.getAssignmentForValue(requests.get(i)));
+        }
+        assertNull(dataStore.getAssignmentForValue(new StandardToken()));
+    }
+
+    @Test
+    public void testReassignAndUnassign()
+    {
+        final IToken<?> request = requests.get(0);
+        dataStore.assign(resolvers.get(1), request);
+
+        assertEquals(resolvers.get(1), dataStore.getAssignmentForValue(request));
+        assertFalse(dataStore.getAssignments().get(resolvers.get(0)).contains(request));
+
+        dataStore.unassign(resolvers.get(1), request);
+        assertNull(dataStore.getAssignmentForValue(request));
+    }
+
+    @Test
+    public void testUnassignRemovesEmptyResolvers()
+    {
+        for (int i = 0; i < REQUESTS; i += RESOLVERS)
+        {
+            dataStore.unassign(resolvers.get(0), requests.get(i));
+        }
+
+        assertFalse(dataStore.getAssignments().containsKey(resolvers.get(0)));
+        assertEquals(RESOLVERS - 1, dataStore.getAssignments().size());
+    }
+
+    @Test
+    public void testIndexBuiltFromLoadedAssignments()
+    {
+        final Map<IToken<?>, Collection<IToken<?>>> assignments = new HashMap<>();
+        dataStore.getAssignments().forEach((resolver, assigned) -> assignments.put(resolver, new HashSet<>(assigned)));
+
+        final StandardRequestResolverRequestAssignmentDataStore loaded = new StandardRequestResolverRequestAssignmentDataStore(new StandardToken(), assignments);
+        for (int i = 0; i < REQUESTS; i++)
+        {
+            assertEquals(resolvers.get(i % RESOLVERS), loaded.getAssignmentForValue(requests.get(i)));
+        }
+    }
+
+    @Test
+    public void testDirectRemovalIsNotReported()
+    {
+        dataStore.getAssignments().remove(resolvers.get(2));
+        assertNull(dataStore.getAssignmentForValue(requests.get(2)));
+    }
+}
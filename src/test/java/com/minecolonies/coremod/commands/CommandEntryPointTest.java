@@ -190,7 +190,7 @@ public class CommandEntryPointTest
 
         // EXPECT:
         assertThat(results).containsExactlyInAnyOrder("colonies", "colony", "citizens", "kill", "check", "whoami", "whereami", "home", "raid-tonight", "raid-now", "rs", "rtp",
-                "backup", "scan", "lootgen");
+                "backup", "scan", "lootgen", "debug");
     }
 
     public void GIVEN_empty_args__DO_getTabCompletions__EXPECT_colony_colonies_citizen()
@@ -207,7 +207,7 @@ public class CommandEntryPointTest
 
         // EXPECT:
         assertThat(results).containsExactlyInAnyOrder("colonies", "colony", "citizens", "kill", "check", "whoami", "whereami", "home", "raid-tonight", "raid-now", "rs", "rtp",
-                "backup", "scan", "lootgen");
+                "backup", "scan", "lootgen", "debug");
     }
 
     
@@ -1258,7 +1258,7 @@ public class CommandEntryPointTest
         }
         catch (final CommandException e)
         {
-            assertThat(e).hasMessage("/mineColonies <colonies|kill|colony|citizens|rs|rtp|backup|home|raid-tonight|raid-now|check|whoami|whereami|scan|lootGen>");
+            assertThat(e).hasMessage("/mineColonies <colonies|kill|colony|citizens|rs|debug|rtp|backup|home|raid-tonight|raid-now|check|whoami|whereami|scan|lootGen>");
         }
     }
 
@@ -0,0 +1,76 @@
+package com.minecolonies.coremod.entity.pathfinding;
+
+import net.minecraft.util.math.BlockPos;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that the pathfinding node heap and node map behave like the java collections they replace.
+ */
+public class NodeHeapTest
+{
+    private static final int NODE_COUNT = 2000;
+
+    @Test
+    public void testPollOrderMatchesPriorityQueue()
+    {
+        final Random random = new Random(42);
+        final NodeHeap heap = new NodeHeap(16);
+        final PriorityQueue<Node> queue = new PriorityQueue<>();
+        final List<Node> nodes = new ArrayList<>();
+
+        for (int i = 0; i < NODE_COUNT; i++)
+        {
+            final Node node = new Node(null, new BlockPos(i, 64, -i), 0, random.nextInt(50), random.nextInt(100));
+            node.setCounterAdded(i);
+            nodes.add(node);
+            heap.offer(node);
+            queue.offer(node);
+        }
+
+        // Remove and reinsert some nodes with a better score, like a cheaper way to an open node.
+        for (int i = 0; i < NODE_COUNT; i += 7)
+        {
+            final Node node = nodes.get(i);
+            assertTrue(heap.remove(node));
+            assertTrue(queue.remove(node));
+            node.setScore(node.getScore() / 2);
+            heap.offer(node);
+            queue.offer(node);
+        }
+
+        assertEquals(queue.size(), heap.size());
+        while (!queue.isEmpty())
+        {
+            assertSame(queue.poll(), heap.poll());
+        }
+        assertTrue(heap.isEmpty());
+        assertFalse(heap.remove(nodes.get(0)));
+    }
+
+    @Test
+    public void testNodeMapGetAndPut()
+    {
+        final NodeMap map = new NodeMap(4);
+        final List<Node> nodes = new ArrayList<>();
+        for (int i = 0; i < NODE_COUNT; i++)
+        {
+            final Node node = new Node(new BlockPos(i, 0, 0), 0);
+            nodes.add(node);
+            map.put(i * 31, node);
+        }
+
+        assertEquals(NODE_COUNT, map.size());
+        for (int i = 0; i < NODE_COUNT; i++)
+        {
+            assertSame(nodes.get(i), map.get(i * 31));
+        }
+        assertNull(map.get(-1));
+    }
+}
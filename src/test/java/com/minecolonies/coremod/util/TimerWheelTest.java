@@ -0,0 +1,60 @@
+package com.minecolonies.coremod.util;
+
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Checks that the timer wheel releases items after exactly their delay, also when it takes several turns.
+ */
+public class TimerWheelTest
+{
+    @Test
+    public void testDueAfterDelay()
+    {
+        final TimerWheel<String> wheel = new TimerWheel<>(4);
+        wheel.schedule("short", 3);
+        wheel.schedule("turn", 4);
+        wheel.schedule("long", 9);
+
+        assertEquals(9, wheel.getDelay("long"));
+        for (int step = 1; step <= 9; step++)
+        {
+            final List<String> due = wheel.advance();
+            switch (step)
+            {
+                case 3:
+                    assertEquals(Collections.singletonList("short"), due);
+                    break;
+                case 4:
+                    assertEquals(Collections.singletonList("turn"), due);
+                    break;
+                case 9:
+                    assertEquals(Collections.singletonList("long"), due);
+                    break;
+                default:
+                    assertTrue(due.isEmpty());
+                    assertEquals(9 - step, wheel.getDelay("long"));
+            }
+        }
+        assertTrue(wheel.getItems().isEmpty());
+    }
+
+    @Test
+    public void testRescheduleAndCancel()
+    {
+        final TimerWheel<String> wheel = new TimerWheel<>(8);
+        wheel.schedule("a", 20);
+        wheel.schedule("b", 5);
+
+        wheel.schedule("a", 1);
+        wheel.cancel("b");
+
+        assertEquals(Collections.singletonList("a"), wheel.advance());
+        assertFalse(wheel.contains("b"));
+        assertEquals(-1, wheel.getDelay("b"));
+    }
+}